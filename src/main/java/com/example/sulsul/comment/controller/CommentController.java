@@ -1,20 +1,25 @@
 package com.example.sulsul.comment.controller;
 
 import com.example.sulsul.comment.dto.request.CommentRequest;
-import com.example.sulsul.comment.dto.response.CommentGroupResponse;
+import com.example.sulsul.comment.dto.response.CommentPageResponse;
 import com.example.sulsul.comment.dto.response.CommentResponse;
 import com.example.sulsul.comment.dto.response.DeleteSuccessResponse;
 import com.example.sulsul.comment.entity.Comment;
+import com.example.sulsul.comment.service.CommentPublisher;
 import com.example.sulsul.comment.service.CommentService;
 import com.example.sulsul.common.CurrentUser;
+import com.example.sulsul.common.type.EssayState;
+import com.example.sulsul.essay.entity.Essay;
 import com.example.sulsul.essay.service.EssayService;
 import com.example.sulsul.exception.comment.InvalidCommentCreateException;
 import com.example.sulsul.exception.comment.InvalidCommentUpdateException;
 import com.example.sulsul.exception.comment.NotAllowedCommentDeleteException;
+import com.example.sulsul.exception.comment.NotAllowedCommentSubscribeException;
 import com.example.sulsul.exception.comment.NotAllowedCommentUpdateException;
-import com.example.sulsul.fcm.service.FcmMessageService;
 import com.example.sulsul.handler.ErrorResponse;
-import com.example.sulsul.notification.service.NotificationService;
+import com.example.sulsul.notification.entity.NotiBody;
+import com.example.sulsul.notification.entity.NotiTitle;
+import com.example.sulsul.notification.service.NotificationCoalescer;
 import com.example.sulsul.user.entity.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,15 +29,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Tag(name = "Comment", description = "댓글 관련 API")
@@ -42,13 +49,15 @@ public class CommentController {
 
     private final EssayService essayService;
     private final CommentService commentService;
-    private final NotificationService notificationService;
-    private final FcmMessageService fcmMessageService;
+    private final CommentPublisher commentPublisher;
+    private final NotificationCoalescer notificationCoalescer;
 
-    @Operation(summary = "해당 첨삭의 모든 댓글 조회", description = "essayId에 해당하는 첨삭에 작성된 모든 댓글을 조회한다.")
+    @Operation(summary = "해당 첨삭의 댓글 조회",
+            description = "essayId에 해당하는 첨삭의 댓글을 오래된순으로 페이지 단위로 조회한다. " +
+                    "cursor를 전달하면 해당 댓글 이전의 댓글을, sinceCommentId를 전달하면 해당 댓글 이후에 작성된 댓글만 조회한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CommentGroupResponse.class))),
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CommentPageResponse.class))),
             @ApiResponse(responseCode = "401", description = "UNAUTHORIZED",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "FORBIDDEN",
@@ -58,9 +67,41 @@ public class CommentController {
     })
     @GetMapping("/essay/{essayId}/comments")
     public ResponseEntity<?> getComments(@Parameter(description = "댓글을 조회할 첨삭의 id")
-                                         @PathVariable Long essayId) {
-        List<Comment> comments = commentService.getComments(essayId);
-        return new ResponseEntity<>(new CommentGroupResponse(comments), HttpStatus.OK);
+                                         @PathVariable Long essayId,
+                                         @RequestParam(required = false) Long cursor,
+                                         @RequestParam(required = false) Long sinceCommentId,
+                                         @RequestParam(defaultValue = "20") int size) {
+        Slice<Comment> comments = commentService.getComments(essayId, cursor, sinceCommentId, size);
+        return new ResponseEntity<>(new CommentPageResponse(comments), HttpStatus.OK);
+    }
+
+    @Operation(summary = "댓글 실시간 구독",
+            description = "진행중인 첨삭의 댓글 작성/수정/삭제 이벤트를 SSE로 구독한다. " +
+                    "이벤트 이름은 comment-created, comment-updated, comment-deleted 이다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "text/event-stream")),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "NOT FOUND",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "405", description = "METHOD NOT ALLOWED",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/essay/{essayId}/comments/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeComments(@Parameter(description = "댓글을 구독할 첨삭의 id")
+                                        @PathVariable Long essayId,
+                                        @CurrentUser User user) {
+        // 진행중인 첨삭만 구독 가능
+        Essay essay = essayService.getEssayByIdAndEssyState(essayId, EssayState.PROCEED);
+        // 첨삭의 학생과 강사만 구독할 수 있도록 강제
+        Long userId = user.getId();
+        if (!userId.equals(essay.getStudent().getId()) && !userId.equals(essay.getTeacher().getId())) {
+            throw new NotAllowedCommentSubscribeException();
+        }
+        return commentPublisher.subscribe(essayId);
     }
 
     @Operation(summary = "해당 첨삭에 댓글 작성", description = "essayId에 해당하는 첨삭에 댓글을 작성한다.")
@@ -93,20 +134,11 @@ public class CommentController {
         Comment comment = commentService.createComment(essayId, user, commentRequest);
 
         // 댓글작성 알림전송
-//        Essay essay = essayService.getEssayById(essayId);
-//        String name = loginedUser.getName();
-//        String title = NotiTitle.COMMENT.getTitle();
-//        String body = NotiBody.COMMENT.getDetail(name);
-
-//        if (loginedUser.isTeacher()) { // 강사가 댓글을 작성한 경우
-//            User student = essay.getStudent();
-//            notificationService.saveEssayNotification(title, body, student, essay);
-//            fcmMessageService.sendToOne(student, title, body);
-//        } else { // 학생이 댓글을 작성한 경우
-//            User teacher = essay.getTeacher();
-//            notificationService.saveEssayNotification(title, body, teacher, essay);
-//            fcmMessageService.sendToOne(teacher, title, body);
-//        }
+        Essay essay = comment.getEssay();
+        String body = NotiBody.COMMENT.getDetail(user.getName());
+        // 강사가 댓글을 작성한 경우 학생에게, 학생이 작성한 경우 강사에게 전송
+        User target = user.isTeacher() ? essay.getStudent() : essay.getTeacher();
+        notificationCoalescer.send(target, essay, NotiTitle.COMMENT, body);
 
         return new ResponseEntity<>(new CommentResponse(comment), HttpStatus.CREATED);
     }
@@ -130,8 +162,8 @@ public class CommentController {
                                            BindingResult bindingResult) {
 
         // 댓글 작성자만 수정할 수 있도록 강제
-        User writer = commentService.getCommentById(commentId).getUser();
-        if (!writer.equals(user)) {
+        Long writerId = commentService.getCommentById(commentId).getUser().getId();
+        if (!writerId.equals(user.getId())) {
             throw new NotAllowedCommentUpdateException();
         }
 
@@ -165,8 +197,8 @@ public class CommentController {
                                            @PathVariable Long commentId) {
 
         // 댓글 작성자만 삭제할 수 있도록 강제
-        User writer = commentService.getCommentById(commentId).getUser();
-        if (!writer.equals(user)) {
+        Long writerId = commentService.getCommentById(commentId).getUser().getId();
+        if (!writerId.equals(user.getId())) {
             throw new NotAllowedCommentDeleteException();
         }
 
@@ -0,0 +1,36 @@
+package com.example.sulsul.comment.dto.response;
+
+import com.example.sulsul.comment.entity.Comment;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class CommentPageResponse {
+
+    @Schema(description = "댓글 리스트 (오래된순)")
+    private final List<CommentResponse> comments = new ArrayList<>();
+
+    @Schema(description = "이전 댓글 조회에 사용할 커서(가장 오래된 댓글 id), 댓글이 없으면 null", example = "31")
+    private final Long prevCursor;
+
+    @Schema(description = "새 댓글 조회에 사용할 sinceCommentId(가장 최근 댓글 id), 댓글이 없으면 null", example = "50")
+    private final Long lastCommentId;
+
+    @Schema(description = "조회 방향으로 남은 댓글 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    public CommentPageResponse(Slice<Comment> comments) {
+        comments.stream()
+                .map(CommentResponse::new)
+                .forEach(comment -> this.comments.add(comment));
+
+        this.prevCursor = this.comments.isEmpty() ? null : this.comments.get(0).getId();
+        this.lastCommentId = this.comments.isEmpty() ? null
+                : this.comments.get(this.comments.size() - 1).getId();
+        this.hasNext = comments.hasNext();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.sulsul.comment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class DeletedCommentResponse {
+
+    @Schema(description = "삭제된 댓글 id", example = "1")
+    private final Long id;
+
+    public DeletedCommentResponse(Long id) {
+        this.id = id;
+    }
+}
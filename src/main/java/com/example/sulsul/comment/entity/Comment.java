@@ -8,7 +8,9 @@ import lombok.*;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_essay_id", columnList = "essay_id")
+})
 @Builder
 @Getter
 @Setter(AccessLevel.PROTECTED)
@@ -17,6 +19,7 @@ import javax.persistence.*;
 public class Comment extends BaseEntity {
 
     @Id
+    // id 순서를 커서(sinceCommentId)로 사용하므로 insert 순서대로 증가하는 IDENTITY 를 사용한다. (IdGeneration 참고)
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "comment_id")
     private Long id;
@@ -1,16 +1,48 @@
 package com.example.sulsul.comment.repository;
 
 import com.example.sulsul.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
-     * 해당 첨삭의 모든 댓글을 조회한다.
-     * @param essayId 조회할 첨삭 id;
-     * @return 해당 첨삭의 모든 댓글 반환
+     * 댓글을 작성자와 함께 조회한다.
+     * @param commentId 조회할 댓글 id
+     * @return commentId에 해당하는 댓글
      */
-    List<Comment> findAllByEssayId(Long essayId);
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Optional<Comment> findById(Long commentId);
 
-}
\ No newline at end of file
+    /**
+     * 해당 첨삭에서 cursorId보다 이전에 작성된 댓글을 작성자와 함께 최신순으로 조회한다.
+     * @param essayId  조회할 첨삭 id
+     * @param cursorId 이전 페이지의 가장 오래된 댓글 id
+     * @param pageable 조회할 개수
+     * @return cursorId 이전의 댓글 리스트 (최신순)
+     */
+    @Query("select c from Comment c join fetch c.user " +
+            "where c.essay.id = :essayId and c.id < :cursorId order by c.id desc")
+    List<Comment> findCommentsBefore(@Param("essayId") Long essayId,
+                                     @Param("cursorId") Long cursorId,
+                                     Pageable pageable);
+
+    /**
+     * 해당 첨삭에서 sinceId 이후에 작성된 댓글을 작성자와 함께 오래된순으로 조회한다.
+     * @param essayId  조회할 첨삭 id
+     * @param sinceId  클라이언트가 마지막으로 받은 댓글 id
+     * @param pageable 조회할 개수
+     * @return sinceId 이후의 댓글 리스트 (오래된순)
+     */
+    @Query("select c from Comment c join fetch c.user " +
+            "where c.essay.id = :essayId and c.id > :sinceId order by c.id asc")
+    List<Comment> findCommentsAfter(@Param("essayId") Long essayId,
+                                    @Param("sinceId") Long sinceId,
+                                    Pageable pageable);
+}
@@ -0,0 +1,59 @@
+package com.example.sulsul.comment.service;
+
+import com.example.sulsul.comment.dto.response.CommentResponse;
+import com.example.sulsul.comment.dto.response.DeletedCommentResponse;
+import com.example.sulsul.comment.entity.Comment;
+import com.example.sulsul.common.AfterCommit;
+import com.example.sulsul.common.sse.SseHub;
+import com.example.sulsul.common.sse.SseRedisRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * 첨삭별 댓글 변경 실시간 전달 (SSE)
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentPublisher {
+
+    private static final String TOPIC_PREFIX = "comment:essay:";
+    private static final String CREATED_EVENT = "comment-created";
+    private static final String UPDATED_EVENT = "comment-updated";
+    private static final String DELETED_EVENT = "comment-deleted";
+
+    private final SseHub sseHub;
+    private final SseRedisRelay sseRedisRelay;
+
+    /**
+     * 첨삭의 댓글 스트림 구독
+     *
+     * @param essayId 구독할 첨삭 id
+     * @return SseEmitter
+     */
+    public SseEmitter subscribe(Long essayId) {
+        return sseHub.subscribe(List.of(TOPIC_PREFIX + essayId));
+    }
+
+    public void publishCreated(Comment comment) {
+        publish(comment.getEssay().getId(), CREATED_EVENT, new CommentResponse(comment));
+    }
+
+    public void publishUpdated(Comment comment) {
+        publish(comment.getEssay().getId(), UPDATED_EVENT, new CommentResponse(comment));
+    }
+
+    public void publishDeleted(Long essayId, Long commentId) {
+        publish(essayId, DELETED_EVENT, new DeletedCommentResponse(commentId));
+    }
+
+    /**
+     * 응답은 지연로딩이 가능한 지금 만들어두고, 트랜잭션 커밋 이후에 전달한다.
+     */
+    private void publish(Long essayId, String eventName, Object data) {
+        String topic = TOPIC_PREFIX + essayId;
+        AfterCommit.run(() -> sseRedisRelay.publish(topic, eventName, data));
+    }
+}
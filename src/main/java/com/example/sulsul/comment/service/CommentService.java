@@ -9,26 +9,86 @@ import com.example.sulsul.exception.comment.CommentNotFoundException;
 import com.example.sulsul.exception.essay.EssayNotFoundException;
 import com.example.sulsul.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final EssayRepository essayRepository;
     private final CommentRepository commentRepository;
+    private final CommentPublisher commentPublisher;
 
+    @Transactional(readOnly = true)
     public Comment getCommentById(Long commentId) {
         return commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException(commentId));
     }
 
-    public List<Comment> getComments(Long essayId) {
-        return commentRepository.findAllByEssayId(essayId);
+    /**
+     * 첨삭의 댓글을 페이지 단위로 조회한다. 결과는 항상 오래된순으로 정렬된다.
+     * sinceCommentId가 있으면 그 이후에 작성된 댓글만 조회하고 (새 댓글 동기화),
+     * 없으면 cursor 이전의 댓글을 조회한다. cursor도 없으면 가장 최근 댓글 페이지를 조회한다.
+     * @param essayId        조회할 첨삭 id
+     * @param cursorId       이전 페이지의 가장 오래된 댓글 id
+     * @param sinceCommentId 클라이언트가 마지막으로 받은 댓글 id
+     * @param size           페이지 크기
+     * @return 댓글 Slice, hasNext는 조회 방향으로 더 남은 댓글이 있는지를 나타낸다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Comment> getComments(Long essayId, Long cursorId, Long sinceCommentId, int size) {
+        if (sinceCommentId != null) {
+            return getCommentsSince(essayId, sinceCommentId, size);
+        }
+        int pageSize = normalizeSize(size);
+        Long cursor = cursorId == null ? Long.MAX_VALUE : cursorId;
+        List<Comment> comments = commentRepository.findCommentsBefore(essayId, cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> content = new ArrayList<>(hasNext ? comments.subList(0, pageSize) : comments);
+        // 최신순으로 조회한 페이지를 화면 표시 순서(오래된순)로 뒤집는다.
+        Collections.reverse(content);
+        return new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext);
+    }
+
+    /**
+     * 첨삭의 가장 최근 댓글 페이지를 조회한다.
+     * @param essayId 조회할 첨삭 id
+     * @return 최근 댓글 Slice (오래된순)
+     */
+    @Transactional(readOnly = true)
+    public Slice<Comment> getLatestComments(Long essayId) {
+        return getComments(essayId, null, null, DEFAULT_PAGE_SIZE);
+    }
+
+    private Slice<Comment> getCommentsSince(Long essayId, Long sinceCommentId, int size) {
+        int pageSize = normalizeSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> comments = commentRepository.findCommentsAfter(essayId, sinceCommentId, limit);
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> content = hasNext ? comments.subList(0, pageSize) : comments;
+        return new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext);
+    }
+
+    private int normalizeSize(int size) {
+        if (size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
+    @Transactional
     public Comment createComment(Long essayId, User user, CommentRequest request) {
         Essay essay = essayRepository.findById(essayId)
                 .orElseThrow(() -> new EssayNotFoundException(essayId));
@@ -39,21 +99,28 @@ public class CommentService {
                 .detail(request.getDetail())
                 .build();
 
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        commentPublisher.publishCreated(saved);
+        return saved;
     }
 
+    @Transactional
     public Comment updateComment(Long commentId, CommentRequest request) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException(commentId));
 
         comment.updateDetail(request.getDetail());
-        return commentRepository.save(comment);
+        Comment updated = commentRepository.save(comment);
+        commentPublisher.publishUpdated(updated);
+        return updated;
     }
 
+    @Transactional
     public void deleteComment(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException(commentId));
 
         commentRepository.deleteById(comment.getId());
+        commentPublisher.publishDeleted(comment.getEssay().getId(), comment.getId());
     }
 }
\ No newline at end of file
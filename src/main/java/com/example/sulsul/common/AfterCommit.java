@@ -0,0 +1,27 @@
+package com.example.sulsul.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행할 작업 등록
+ * 트랜잭션 밖에서 호출되면 즉시 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable command) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            command.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                command.run();
+            }
+        });
+    }
+}
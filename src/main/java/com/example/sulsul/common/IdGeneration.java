@@ -0,0 +1,19 @@
+package com.example.sulsul.common;
+
+/**
+ * 엔티티 id 생성 설정
+ * IDENTITY 전략은 insert 마다 DB가 id를 만들어야 해서 JDBC 배치가 꺼지므로,
+ * id_generators 테이블에서 ALLOCATION_SIZE 만큼 id 구간을 미리 받아 사용한다. (pooled-lo)
+ * 서버마다 구간을 따로 받으므로 id가 insert 순서와 다를 수 있다.
+ * id를 커서나 순서로 사용하는 알림(Notification), 댓글(Comment)은 IDENTITY 를 유지한다.
+ */
+public final class IdGeneration {
+
+    public static final String TABLE = "id_generators";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGeneration() {
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.sulsul.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 2차 캐시 서버간 무효화
+ * 2차 캐시는 서버마다 로컬 힙에 있으므로, 캐시 대상 엔티티가 추가/수정/삭제되면 커밋 이후
+ * Redis pub/sub 으로 다른 서버에 알려 해당 엔티티와 쿼리 캐시를 비우게 한다.
+ * 추가도 알려야 다른 서버에 캐시된 빈 조회 결과(findByEmail 등)가 남지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cache.l2", name = "redis-invalidation", havingValue = "true")
+public class L2CacheInvalidationRelay implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener, MessageListener {
+
+    private static final ChannelTopic CHANNEL = new ChannelTopic("cache:l2:evict");
+    private static final String DELIMITER = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SessionFactoryImplementor sessionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public L2CacheInvalidationRelay(EntityManagerFactory entityManagerFactory,
+                                    StringRedisTemplate redisTemplate,
+                                    RedisMessageListenerContainer listenerContainer) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        listenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백된 변경은 다른 서버의 캐시에 영향을 주지 않는다.
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백된 변경은 다른 서버의 캐시에 영향을 주지 않는다.
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 롤백된 변경은 다른 서버의 캐시에 영향을 주지 않는다.
+    }
+
+    /**
+     * 캐시 대상 엔티티만 무효화 메시지를 발행한다.
+     */
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    private void publish(String entityName, Serializable id) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), String.join(DELIMITER, nodeId, entityName, String.valueOf(id)));
+        } catch (DataAccessException e) {
+            log.warn("[Cache] 2차 캐시 무효화 발행 실패 {}#{}: {}", entityName, id, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            // 자신이 발행한 메시지는 로컬 캐시에 이미 반영되어 있다.
+            return;
+        }
+        try {
+            sessionFactory.getCache().evictEntityData(parts[1], Long.valueOf(parts[2]));
+            sessionFactory.getCache().evictDefaultQueryRegion();
+        } catch (RuntimeException e) {
+            log.warn("[Cache] 잘못된 2차 캐시 무효화 메시지 수신: {}", e.getMessage());
+        }
+    }
+}
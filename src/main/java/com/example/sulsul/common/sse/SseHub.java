@@ -0,0 +1,203 @@
+package com.example.sulsul.common.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서버 내 SSE 구독 관리
+ * - 구독자별 전송 대기열 크기를 제한하고, 대기열이 가득 찬 느린 구독자는 연결을 끊는다.
+ * - 주기적으로 heartbeat 를 보내 끊어진 연결을 정리한다.
+ * - write 가 write-timeout-ms 보다 오래 걸리는 구독자는 연결을 끊고, 그 전송이 끝날 때까지 전송 스레드를 하나 늘려
+ *   멈춘 클라이언트가 전송 스레드를 모두 차지해 다른 구독자의 대기열이 가득 차지 않도록 한다.
+ *   전송 스레드는 max-sender-threads 까지만 늘리고, 그 이상은 멈춘 write 를 interrupt 한다.
+ * - 이 서버에 연결된 구독자에게만 전달하며, 서버 간 전달은 {@link SseRedisRelay} 가 담당한다.
+ */
+@Slf4j
+@Component
+public class SseHub {
+
+    private final Map<String, Set<SseSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final long writeTimeoutNanos;
+    private final int maxSenderThreads;
+
+    public SseHub(@Value("${sse.timeout-ms:1800000}") long timeoutMillis,
+                  @Value("${sse.buffer-size:64}") int bufferSize,
+                  @Value("${sse.sender-threads:4}") int senderThreads,
+                  @Value("${sse.max-sender-threads:16}") int maxSenderThreads,
+                  @Value("${sse.write-timeout-ms:5000}") long writeTimeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        this.maxSenderThreads = Math.max(senderThreads, maxSenderThreads);
+        AtomicInteger sequence = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 토픽 구독
+     *
+     * @param topics 구독할 토픽 목록
+     * @return 클라이언트에 반환할 SseEmitter
+     */
+    public SseEmitter subscribe(Collection<String> topics) {
+        return subscribe(new SseEmitter(timeoutMillis), topics);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Collection<String> topics) {
+        SseSubscriber subscriber = new SseSubscriber(emitter, topics, bufferSize, () -> resizeSender(-1));
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        for (String topic : subscriber.getTopics()) {
+            subscribers.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        // 연결 직후 응답이 flush 되도록 첫 이벤트 전송
+        subscriber.offer(SseEmitter.event().name("connect").data("connected"), sender);
+        return emitter;
+    }
+
+    /**
+     * 이 서버에 연결된 토픽 구독자에게 이벤트 전달
+     *
+     * @param topic     토픽
+     * @param eventName 이벤트 이름
+     * @param data      이벤트 데이터
+     */
+    public void publish(String topic, String eventName, Object data) {
+        Set<SseSubscriber> targets = subscribers.get(topic);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        for (SseSubscriber subscriber : targets) {
+            offer(subscriber, SseEmitter.event().name(eventName).data(data));
+        }
+    }
+
+    /**
+     * 현재 연결된 구독자 수
+     */
+    public int countSubscribers(String topic) {
+        Set<SseSubscriber> targets = subscribers.get(topic);
+        return targets == null ? 0 : targets.size();
+    }
+
+    @Scheduled(fixedDelayString = "${sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Set<SseSubscriber> all = ConcurrentHashMap.newKeySet();
+        subscribers.values().forEach(all::addAll);
+        for (SseSubscriber subscriber : all) {
+            offer(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * write 가 시간 초과인 구독자 연결 종료
+     * 막힌 write 는 끝날 때까지 스레드를 점유하므로 그동안 전송 스레드를 하나 늘린다.
+     * 전송 스레드가 이미 max-sender-threads 개면 늘리지 않고 멈춘 write 를 interrupt 한다.
+     * (emitter 는 write 중인 스레드가 lock 을 잡고 있어 전송이 끝난 뒤 SseSubscriber 가 정리한다)
+     */
+    @Scheduled(fixedDelayString = "${sse.write-timeout-check-ms:1000}")
+    public void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        Set<SseSubscriber> all = ConcurrentHashMap.newKeySet();
+        subscribers.values().forEach(all::addAll);
+        for (SseSubscriber subscriber : all) {
+            if (!subscriber.isStalled(now, writeTimeoutNanos)) {
+                continue;
+            }
+            boolean replaced = growSender();
+            if (!subscriber.markStalled(now, writeTimeoutNanos, replaced)) {
+                // 그 사이 전송이 끝난 경우
+                if (replaced) {
+                    resizeSender(-1);
+                }
+                continue;
+            }
+            log.info("[SSE] 전송 시간 초과 구독자 연결 종료: topics={}", subscriber.getTopics());
+            remove(subscriber);
+            if (!replaced) {
+                log.warn("[SSE] 전송 스레드가 최대치라 멈춘 write 를 interrupt: topics={}", subscriber.getTopics());
+                subscriber.interruptSend();
+            }
+        }
+    }
+
+    int getSenderThreads() {
+        return sender.getCorePoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.getEmitter().complete()));
+        sender.shutdownNow();
+    }
+
+    private void offer(SseSubscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.offer(event, sender)) {
+            // 전송 대기열이 가득 찬 느린 구독자는 연결을 끊어 다른 구독자에게 영향을 주지 않도록 한다.
+            log.info("[SSE] 느린 구독자 연결 종료: topics={}", subscriber.getTopics());
+            remove(subscriber);
+            subscriber.completeEmitter();
+        }
+    }
+
+    /**
+     * 전송 스레드가 max-sender-threads 보다 적으면 하나 늘림
+     *
+     * @return 늘린 경우 true
+     */
+    private synchronized boolean growSender() {
+        if (sender.getCorePoolSize() >= maxSenderThreads) {
+            return false;
+        }
+        resizeSender(1);
+        return true;
+    }
+
+    private synchronized void resizeSender(int delta) {
+        int size = sender.getCorePoolSize() + delta;
+        // 늘릴 때는 최대 크기부터, 줄일 때는 기본 크기부터 바꿔야 예외가 발생하지 않는다.
+        if (delta > 0) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+
+    private void remove(SseSubscriber subscriber) {
+        if (!subscriber.close()) {
+            return;
+        }
+        for (String topic : subscriber.getTopics()) {
+            subscribers.computeIfPresent(topic, (key, targets) -> {
+                targets.remove(subscriber);
+                return targets.isEmpty() ? null : targets;
+            });
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.sulsul.common.sse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서버 간 SSE 이벤트 전달용 메시지
+ */
+@Getter
+@RequiredArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
+public class SseMessage {
+    private final String topic;
+    private final String event;
+    private final JsonNode data;
+}
@@ -0,0 +1,67 @@
+package com.example.sulsul.common.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis pub/sub 으로 SSE 이벤트를 모든 서버에 전달한다.
+ * 발행한 서버를 포함한 모든 서버가 메시지를 받아 자신에게 연결된 구독자에게 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseRedisRelay implements MessageListener {
+
+    private static final ChannelTopic CHANNEL = new ChannelTopic("sse:events");
+
+    private final SseHub sseHub;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    /**
+     * 모든 서버의 토픽 구독자에게 이벤트 발행
+     *
+     * @param topic     토픽
+     * @param eventName 이벤트 이름
+     * @param data      이벤트 데이터
+     */
+    public void publish(String topic, String eventName, Object data) {
+        SseMessage message = new SseMessage(topic, eventName, objectMapper.valueToTree(data));
+        try {
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | DataAccessException e) {
+            // Redis 장애시 최소한 이 서버의 구독자에게는 전달한다.
+            log.warn("[SSE] Redis 이벤트 발행 실패, 로컬 구독자에게만 전달: {}", e.getMessage());
+            sseHub.publish(topic, eventName, message.getData());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SseMessage sseMessage = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), SseMessage.class);
+            sseHub.publish(sseMessage.getTopic(), sseMessage.getEvent(), sseMessage.getData());
+        } catch (JsonProcessingException e) {
+            log.warn("[SSE] 잘못된 이벤트 메시지 수신: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.sulsul.common.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 구독자 한 명의 연결과 전송 대기열
+ * 이벤트 발행 스레드는 대기열에 넣기만 하고, 실제 전송은 전송용 스레드에서 구독자별로 순서대로 처리한다.
+ * 전송 시작 시각을 기록해서 write 가 오래 걸리는 구독자를 SseHub 가 찾아 끊을 수 있도록 한다.
+ * 전송 시간 초과로 표시할 때 SseHub 가 전송 스레드를 늘렸는지(STALLED_REPLACED) 여부를 함께 기록한다.
+ */
+class SseSubscriber {
+
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long STALLED = Long.MIN_VALUE + 1;
+    private static final long STALLED_REPLACED = Long.MIN_VALUE + 2;
+
+    private final SseEmitter emitter;
+    private final List<String> topics;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+    private final Runnable onStalledSendFinished;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicLong sendStartedNanos = new AtomicLong(IDLE);
+    private final Object sendLock = new Object();
+    private Thread sendingThread;
+
+    SseSubscriber(SseEmitter emitter, Collection<String> topics, int bufferSize, Runnable onStalledSendFinished) {
+        this.emitter = emitter;
+        this.topics = List.copyOf(topics);
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.onStalledSendFinished = onStalledSendFinished;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    List<String> getTopics() {
+        return topics;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 전송 대기열에 이벤트 추가
+     *
+     * @return 대기열이 가득 차 이벤트를 넣지 못하면 false
+     */
+    boolean offer(SseEmitter.SseEventBuilder event, Executor sender) {
+        if (closed.get()) {
+            return true;
+        }
+        if (!queue.offer(event)) {
+            return false;
+        }
+        scheduleDrain(sender);
+        return true;
+    }
+
+    /**
+     * 전송이 시간 초과인지 확인
+     *
+     * @param now          현재 시각 (System.nanoTime)
+     * @param timeoutNanos write 시간 제한
+     */
+    boolean isStalled(long now, long timeoutNanos) {
+        long started = sendStartedNanos.get();
+        return started > STALLED_REPLACED && now - started > timeoutNanos;
+    }
+
+    /**
+     * 전송이 시간 초과인 경우 전송 시간 초과로 표시
+     * replaced 로 표시된 구독자의 전송이 끝나면 onStalledSendFinished 를 호출한다.
+     *
+     * @param now          현재 시각 (System.nanoTime)
+     * @param timeoutNanos write 시간 제한
+     * @param replaced     멈춘 전송 스레드 대신 전송 스레드를 늘렸는지 여부
+     * @return 이번 호출로 표시한 경우 true
+     */
+    boolean markStalled(long now, long timeoutNanos, boolean replaced) {
+        long started = sendStartedNanos.get();
+        if (started <= STALLED_REPLACED || now - started <= timeoutNanos) {
+            return false;
+        }
+        return sendStartedNanos.compareAndSet(started, replaced ? STALLED_REPLACED : STALLED);
+    }
+
+    /**
+     * 멈춘 write 를 interrupt
+     * 전송이 이미 끝났으면 아무것도 하지 않는다. (같은 스레드가 다른 구독자에게 보내는 중일 수 있으므로)
+     * 컨테이너가 interrupt 에 반응하지 않으면 write 가 끝날 때까지 스레드가 계속 점유된다.
+     */
+    void interruptSend() {
+        synchronized (sendLock) {
+            if (sendingThread != null) {
+                sendingThread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * 연결 종료 표시
+     *
+     * @return 이번 호출로 종료된 경우 true
+     */
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queue.clear();
+        return true;
+    }
+
+    /**
+     * 종료한 구독자의 연결 종료
+     * 전송 중이면 emitter 의 lock 을 기다리지 않도록 전송 스레드가 전송을 마친 뒤 종료한다.
+     */
+    void completeEmitter() {
+        if (!draining.get()) {
+            emitter.complete();
+        }
+    }
+
+    private void scheduleDrain(Executor sender) {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(sender));
+        }
+    }
+
+    private void drain(Executor sender) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = queue.poll()) != null) {
+                send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊긴 경우
+            emitter.completeWithError(e);
+        } finally {
+            draining.set(false);
+        }
+        if (closed.get()) {
+            emitter.complete();
+            return;
+        }
+        // drain 종료 직전에 들어온 이벤트 처리
+        if (!queue.isEmpty()) {
+            scheduleDrain(sender);
+        }
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) throws IOException {
+        synchronized (sendLock) {
+            sendingThread = Thread.currentThread();
+        }
+        sendStartedNanos.set(System.nanoTime());
+        try {
+            emitter.send(event);
+        } finally {
+            synchronized (sendLock) {
+                sendingThread = null;
+                // interruptSend 가 남긴 interrupt 가 다음 작업으로 넘어가지 않도록 지운다.
+                Thread.interrupted();
+            }
+            long state = sendStartedNanos.getAndSet(IDLE);
+            if (state == STALLED_REPLACED) {
+                onStalledSendFinished.run();
+            }
+            if (state == STALLED || state == STALLED_REPLACED) {
+                // 전송 시간 초과로 이미 끊긴 구독자, 늦게 끝난 연결을 마저 정리한다.
+                emitter.completeWithError(new IOException("SSE write timeout"));
+            }
+        }
+    }
+}
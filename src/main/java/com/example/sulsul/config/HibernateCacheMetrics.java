@@ -0,0 +1,59 @@
+package com.example.sulsul.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Map;
+
+/**
+ * 2차 캐시 영역별 적중률 지표 (hibernate.cache.hit.ratio{region})
+ * 영역 크기나 만료시간 조정시 /actuator/metrics 에서 확인한다.
+ */
+@Component
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private static final String QUERY_REGION = "default-query-results-region";
+    private static final Map<String, Boolean> REGIONS = Map.of(
+            "user", false,
+            "teacherProfile", false,
+            QUERY_REGION, true);
+
+    private final Statistics statistics;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        REGIONS.forEach((region, queryRegion) ->
+                Gauge.builder("hibernate.cache.hit.ratio", statistics, stats -> hitRatio(stats, region, queryRegion))
+                        .tag("region", region)
+                        .description("2차 캐시 적중률")
+                        .register(registry));
+    }
+
+    private static double hitRatio(Statistics statistics, String region, boolean queryRegion) {
+        CacheRegionStatistics regionStatistics;
+        try {
+            regionStatistics = queryRegion
+                    ? statistics.getQueryRegionStatistics(region)
+                    : statistics.getDomainDataRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            // 캐시 영역이 아직 만들어지지 않은 경우
+            return 0.0;
+        }
+        if (regionStatistics == null) {
+            return 0.0;
+        }
+        long hits = regionStatistics.getHitCount();
+        long total = hits + regionStatistics.getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
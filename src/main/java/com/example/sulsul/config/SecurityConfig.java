@@ -5,6 +5,7 @@ import com.example.sulsul.config.oauth.CustomOAuth2UserService;
 import com.example.sulsul.config.oauth.OAuth2AuthenticationFailureHandler;
 import com.example.sulsul.config.oauth.OAuth2AuthenticationSuccessHandler;
 import com.example.sulsul.config.security.CustomAccessDeniedHandler;
+import com.example.sulsul.config.security.PermitAllUrls;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,23 +34,6 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
-    private static final String[] SWAGGER_URL = {
-            "/api-docs",
-            "/v3/api-docs/**",
-            "/swagger-*/**",
-            "/webjars/**"
-    };
-
-    private final String[] GET_PERMIT_API_URL = {
-            "/",
-            "/refresh",
-    };
-
-    private final String[] POST_PERMIT_API_URL = {
-            "/refresh",
-            "/users/auth/token/kakao"
-    };
-
     private final LogoutHandler logoutService;
 
     @Bean
@@ -70,9 +54,9 @@ public class SecurityConfig {
 
                 .and()
                 .authorizeRequests()
-                .antMatchers(SWAGGER_URL).permitAll()
-                .antMatchers(HttpMethod.GET, GET_PERMIT_API_URL).permitAll()
-                .antMatchers(HttpMethod.POST, POST_PERMIT_API_URL).permitAll()
+                .antMatchers(PermitAllUrls.SWAGGER_URL).permitAll()
+                .antMatchers(HttpMethod.GET, PermitAllUrls.GET_PERMIT_API_URL).permitAll()
+                .antMatchers(HttpMethod.POST, PermitAllUrls.POST_PERMIT_API_URL).permitAll()
                 .anyRequest().authenticated()
 
                 .and()
@@ -0,0 +1,91 @@
+package com.example.sulsul.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * primary / replica 데이터소스 설정 (datasource.replica.enabled=true 인 경우)
+ * 커넥션 풀 이름이 primary, replica 이므로 hikaricp.* 지표가 풀별로 수집된다.
+ * 비활성화시 spring.datasource 단일 데이터소스를 그대로 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Value("${datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${datasource.replica.username}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password}")
+    private String replicaPassword;
+
+    @Value("${datasource.replica.driver-class-name}")
+    private String replicaDriverClassName;
+
+    @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}")
+    private String lagQuery;
+
+    @Value("${datasource.replica.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .driverClassName(replicaDriverClassName)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLagSeconds, meterRegistry);
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                          @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                          ReplicaLagMonitor replicaLagMonitor,
+                                                          MeterRegistry meterRegistry) {
+        return new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry);
+    }
+
+    /**
+     * JPA 가 사용하는 데이터소스
+     * 트랜잭션이 시작될 때가 아니라 첫 쿼리 실행시 커넥션을 가져오므로 readOnly 여부에 따라 라우팅된다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
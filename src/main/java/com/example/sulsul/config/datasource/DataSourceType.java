@@ -0,0 +1,5 @@
+package com.example.sulsul.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY, REPLICA
+}
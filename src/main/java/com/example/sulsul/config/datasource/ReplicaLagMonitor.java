@@ -0,0 +1,97 @@
+package com.example.sulsul.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * replica 복제 지연 확인
+ * 주기적으로 replica 의 복제 상태를 조회해서 지연이 허용치(max-lag-seconds)를 넘거나,
+ * 복제가 멈췄거나, 조회에 실패하면 replica 를 사용하지 않도록 표시한다.
+ * 복제 상태 조회에는 replica 계정에 REPLICATION CLIENT 권한이 필요하다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaAvailable = true;
+    private volatile long lagSeconds = 0;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagSeconds,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        Gauge.builder("datasource.replica.lag.seconds", this, monitor -> monitor.lagSeconds)
+                .description("replica 복제 지연(초), 복제가 멈춘 경우 -1")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.replicaAvailable ? 1 : 0)
+                .description("replica 읽기 사용 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        try {
+            updateLag(replicaJdbcTemplate.query(lagQuery, ReplicaLagMonitor::extractLag));
+        } catch (DataAccessException e) {
+            log.warn("[DataSource] replica 복제 상태 조회 실패: {}", e.getMessage());
+            updateAvailability(false, -1);
+        }
+    }
+
+    /**
+     * @param lag 복제 지연(초), 복제가 멈춘 경우 null
+     */
+    void updateLag(Long lag) {
+        if (lag == null) {
+            updateAvailability(false, -1);
+            return;
+        }
+        updateAvailability(lag <= maxLagSeconds, lag);
+    }
+
+    private void updateAvailability(boolean available, long lag) {
+        lagSeconds = lag;
+        if (replicaAvailable != available) {
+            log.warn("[DataSource] replica 읽기 {} (지연: {}초, 허용: {}초)", available ? "재개" : "중단", lag, maxLagSeconds);
+        }
+        replicaAvailable = available;
+    }
+
+    /**
+     * 복제 상태가 없으면 (단독 읽기 노드) 지연이 없는 것으로 본다.
+     */
+    private static Long extractLag(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return 0L;
+        }
+        for (String column : LAG_COLUMNS) {
+            try {
+                long lag = rs.getLong(rs.findColumn(column));
+                return rs.wasNull() ? null : lag;
+            } catch (SQLException e) {
+                // MySQL 버전에 따라 컬럼 이름이 다르다.
+            }
+        }
+        throw new SQLException("복제 지연 컬럼을 찾을 수 없습니다.");
+    }
+}
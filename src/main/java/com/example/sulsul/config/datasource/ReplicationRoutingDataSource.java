@@ -0,0 +1,85 @@
+package com.example.sulsul.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 나머지는 primary 로 보낸다.
+ * 트랜잭션 시작 이후에 커넥션을 가져와야 readOnly 여부를 알 수 있으므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ * - replica 지연이 허용치를 넘거나 상태를 확인할 수 없으면 읽기도 primary 로 보낸다.
+ * - 같은 요청에서 쓰기가 있었다면 이후 읽기도 primary 로 보내 방금 쓴 데이터를 읽을 수 있게 한다.
+ * - 요청 밖(Redis 메시지, 스케줄러 등)에서 커밋 직후의 데이터를 읽어야 하면 읽기 전용이 아닌 트랜잭션으로 조회해 primary 로 보낸다.
+ *   (TeacherProfileIndexer.onMessage, FcmTokenCache 캐시 채우기)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY_PINNED = ReplicationRoutingDataSource.class.getName() + ".PRIMARY_PINNED";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.primaryCounter = Counter.builder("datasource.routing")
+                .tag("target", "primary")
+                .description("라우팅된 커넥션 수")
+                .register(meterRegistry);
+        this.replicaCounter = Counter.builder("datasource.routing")
+                .tag("target", "replica")
+                .description("라우팅된 커넥션 수")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("datasource.routing.fallback")
+                .description("replica 지연으로 primary 에서 처리한 읽기 커넥션 수")
+                .register(meterRegistry);
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceType type = route();
+        if (type == DataSourceType.REPLICA) {
+            replicaCounter.increment();
+        } else {
+            primaryCounter.increment();
+        }
+        return type;
+    }
+
+    private DataSourceType route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinPrimary();
+            return DataSourceType.PRIMARY;
+        }
+        if (isPrimaryPinned()) {
+            return DataSourceType.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaAvailable()) {
+            fallbackCounter.increment();
+            return DataSourceType.PRIMARY;
+        }
+        return DataSourceType.REPLICA;
+    }
+
+    private static void pinPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(PRIMARY_PINNED, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static boolean isPrimaryPinned() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(PRIMARY_PINNED, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.sulsul.config.jwt;
 
-import lombok.RequiredArgsConstructor;
+import com.example.sulsul.config.security.PermitAllUrls;
+import com.example.sulsul.exception.jwt.RevokedTokenException;
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -12,35 +15,62 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * JWT 토큰으로 인증하고 SecurityContextHolder에 추가하는 필터를 가진 클래스
+ * 모든 요청이 지나가는 경로이므로 토큰은 한 번만 파싱하고, 인증에 성공한 경우 로그를 남기지 않는다.
+ * 인증 없이 호출할 수 있는 URL(PermitAllUrls)은 토큰을 검사하지 않는다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final RequestMatcher permitAllMatcher = PermitAllUrls.matcher();
+    private final long debugSampleRate;
+    private final AtomicLong failureCount = new AtomicLong();
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   TokenRevocationList tokenRevocationList,
+                                   @Value("${jwt.filter.debug-sample-rate:100}") long debugSampleRate) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationList = tokenRevocationList;
+        this.debugSampleRate = Math.max(1, debugSampleRate);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return permitAllMatcher.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         String accessToken = jwtTokenProvider.resolveAccessToken(request);
-        log.info("[JwtAuthenticationFilter] AccessToken 값 추출 완료: {}", accessToken);
 
         try {
             // AccessToken이 만료된 경우 GET /refresh로 재발급
             // GET /refresh에서 RefreshToken도 만료된 것을 확인하면 강제 로그아웃 요청
-            if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (accessToken != null) {
+                Claims claims = jwtTokenProvider.getAccessTokenClaims(accessToken);
+                // 로그아웃으로 폐기된 토큰인지 확인
+                if (tokenRevocationList.isRevoked(claims.getId())) {
+                    throw new RevokedTokenException();
+                }
+                SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(claims, accessToken));
             }
         } catch (Exception e) {
             request.setAttribute("exception", e);
+            // 만료 토큰 요청이 몰릴 때 로그가 쌓이지 않도록 일부만 남긴다.
+            if (log.isDebugEnabled() && failureCount.getAndIncrement() % debugSampleRate == 0) {
+                log.debug("[JwtAuthenticationFilter] 토큰 인증 실패 {} {}: {}",
+                        request.getMethod(), request.getRequestURI(), e.getClass().getSimpleName());
+            }
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
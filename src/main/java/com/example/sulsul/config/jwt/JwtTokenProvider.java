@@ -1,6 +1,9 @@
 package com.example.sulsul.config.jwt;
 
 import com.example.sulsul.config.jwt.dto.JwtTokenDto;
+import com.example.sulsul.config.jwt.key.JwksKeyResolver;
+import com.example.sulsul.config.jwt.key.JwtKeyManager;
+import com.example.sulsul.config.jwt.key.JwtKeyManager.SigningKey;
 import com.example.sulsul.config.security.CustomUserDetails;
 import com.example.sulsul.config.security.CustomUserDetailsServiceImpl;
 import com.example.sulsul.exception.jwt.ExpiredTokenException;
@@ -15,43 +18,32 @@ import com.example.sulsul.user.repository.UserRepository;
 import io.jsonwebtoken.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final CustomUserDetailsServiceImpl userDetailsService;
     private final UserRepository userRepository;
+    private final JwtKeyManager keyManager;
+    private final JwksKeyResolver keyResolver;
 
-    @Value("${jwt.secret}")
-    private String secretKey;
     private final long accessValidTime = 1000L * 60 * 60;    // 액세스 토큰 유효 시간 60분
     //    private final long accessValidTime = 1000L * 10;    // 테스트를 위해 액세스 토큰 유효 시간을 10초로 설정
     private final long refreshValidTime = 1000L * 60 * 60 * 24 * 14;    // 리프레쉬 토큰 유효 시간 2주
     //    private final long refreshValidTime = 1000L * 10;   // 테스트를 위해 리프레쉬 토큰 유효 시간을 10초로 설정
 
-    /**
-     * secretKey를 Base64로 인코딩
-     */
-    @PostConstruct
-    protected void init() {
-        log.info("[init] JwtTokenProvider 내 secretKey 초기화 시작");
-        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes(StandardCharsets.UTF_8));
-        log.info("[init] JwtTokenProvider 내 secretKey 초기화 완료");
-    }
-
     /**
      * AccessToken과 RefreshToken을 생성 후
      * JwtTokenDto에 담아 반환
@@ -82,12 +74,15 @@ public class JwtTokenProvider {
         Claims claims = Jwts.claims().setSubject(email);
         log.info("Access Token에서 claims 생성 claims : {}", claims);
 
+        SigningKey signingKey = keyManager.getActiveKey();
         String accessToken = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuer("sulsul")
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + accessValidTime))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(SignatureAlgorithm.ES256, signingKey.getPrivateKey())
                 .compact();
 
         log.info("[createToken] 액세스 토큰 생성 완료: {}", accessToken);
@@ -101,11 +96,13 @@ public class JwtTokenProvider {
     public String createRefreshToken(Date now) {
         log.info("[createRefreshToken] 리프레쉬 토큰 생성 시작");
 
+        SigningKey signingKey = keyManager.getActiveKey();
         String refreshToken = Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
                 .setIssuer("sulsul")
                 .setExpiration(new Date(now.getTime() + refreshValidTime))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(SignatureAlgorithm.ES256, signingKey.getPrivateKey())
                 .compact();
 
         log.info("[createRefreshToken] 리프레쉬 토큰 생성 완료: {}", refreshToken);
@@ -114,13 +111,11 @@ public class JwtTokenProvider {
     }
 
     /**
-     * AccessToken으로 인증 정보 조회
+     * AccessToken의 claims로 인증 정보 조회 (JwtAuthenticationFilter)
+     * 매 요청마다 호출되므로 토큰을 다시 파싱하지 않고 로그도 남기지 않는다.
      */
-    public Authentication getAuthentication(String token) {
-        log.info("[getAuthentication] 토큰 인증 정보 조회 시작");
-        CustomUserDetails userDetails = userDetailsService.loadUserByUsername(this.getUserEmail(token));
-
-        log.info("[getAuthentication] 토큰 인증 정보 조회 완료, UserDetails User Email : {}", userDetails.getUsername());
+    public Authentication getAuthentication(Claims claims, String token) {
+        CustomUserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, token, userDetails.getAuthorities());
     }
 
@@ -131,7 +126,7 @@ public class JwtTokenProvider {
     public User getUserFromAccessToken(String accessToken) {
         try {
             String email = Jwts.parser()
-                    .setSigningKey(secretKey)
+                    .setSigningKeyResolver(keyResolver)
                     .parseClaimsJws(accessToken)
                     .getBody()
                     .getSubject();
@@ -148,20 +143,20 @@ public class JwtTokenProvider {
     }
 
     /**
-     * AccessToken에서 회원 이메일 추출
+     * AccessToken의 claims 반환 (LogoutService)
+     * AccessToken이 만료된 경우에도 claims 반환
      */
-    private String getUserEmail(String token) {
-        log.info("[getUserEmail] 토큰 기반 회원 구별 정보 추출");
-
-        String email = Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-
-        log.info("[getUserEmail] 토큰 기반 회원 구별 정보 추출 완료, Email : {}", email);
-
-        return email;
+    public Claims getClaimsAllowingExpired(String accessToken) {
+        try {
+            return Jwts.parser()
+                    .setSigningKeyResolver(keyResolver)
+                    .parseClaimsJws(accessToken)
+                    .getBody();
+        } catch (ExpiredJwtException e) {
+            return e.getClaims();
+        } catch (MalformedJwtException | SignatureException e) {
+            throw new TokenNotValidException();
+        }
     }
 
     /**
@@ -170,10 +165,8 @@ public class JwtTokenProvider {
     public String resolveAccessToken(HttpServletRequest request) {
         String authorization = request.getHeader("Authorization");
 
-        if (authorization != null && authorization.startsWith("Bearer ")) {
-            String token = authorization.replace("Bearer ", "");
-            log.info("[resolveToken] HTTP 헤더에서 Token 값 추출 완료: {}", token);
-            return token;
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length());
         }
 
         return null;
@@ -192,6 +185,22 @@ public class JwtTokenProvider {
         return refreshToken;
     }
 
+    /**
+     * AccessToken의 유효성 + 만료여부 체크 후 claims 반환
+     */
+    public Claims getAccessTokenClaims(String token) {
+        try {
+            return Jwts.parser()
+                    .setSigningKeyResolver(keyResolver)
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (ExpiredJwtException e) {
+            throw new ExpiredTokenException();
+        } catch (MalformedJwtException | SignatureException e) {
+            throw new TokenNotValidException();
+        }
+    }
+
     /**
      * AccessToken의 유효성 + 만료여부 체크
      */
@@ -200,7 +209,7 @@ public class JwtTokenProvider {
 
         try {
             Jwts.parser()
-                    .setSigningKey(secretKey)
+                    .setSigningKeyResolver(keyResolver)
                     .parseClaimsJws(token);
         } catch (ExpiredJwtException e) {
             throw new ExpiredTokenException();
@@ -250,10 +259,10 @@ public class JwtTokenProvider {
     public Claims getRefreshTokenClaims(String refreshToken) {
         try {
             return Jwts.parser()
-                    .setSigningKey(secretKey)
+                    .setSigningKeyResolver(keyResolver)
                     .parseClaimsJws(refreshToken)
                     .getBody();
-        } catch (MalformedJwtException e) {
+        } catch (MalformedJwtException | SignatureException e) {
             throw new InvalidRefreshTokenException();
         } catch (ExpiredJwtException e) {
             throw new RefreshTokenExpiredException();
@@ -266,7 +275,7 @@ public class JwtTokenProvider {
     public Claims getExpiredTokenClaims(String token) {
         try {
             Jwts.parser()
-                    .setSigningKey(secretKey)
+                    .setSigningKeyResolver(keyResolver)
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
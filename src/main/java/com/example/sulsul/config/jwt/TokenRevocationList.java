@@ -0,0 +1,153 @@
+package com.example.sulsul.config.jwt;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 로그아웃된 AccessToken(jti) 목록
+ * 폐기된 토큰 id는 남은 유효시간만큼 Redis 에 저장하고, 각 서버는 폐기 목록을 로컬 Bloom 필터로 들고 있는다.
+ * 대부분의 요청(폐기되지 않은 토큰)은 Bloom 필터만 확인하고 끝나며, 필터에 걸린 경우에만 Redis 에서 확인한다.
+ * 폐기 즉시 pub/sub 으로 모든 서버의 필터에 추가하고, 메시지 유실에 대비해 주기적으로 Redis 에서 필터를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements MessageListener {
+
+    private static final String KEY_PREFIX = "jwt:revoked:";
+    private static final String INDEX_KEY = "jwt:revoked";
+    private static final ChannelTopic CHANNEL = new ChannelTopic("jwt:revoked");
+    private static final int MIN_EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Object lock = new Object();
+    private volatile BloomFilter<String> filter = newFilter(0);
+    // 필터를 다시 만드는 동안 들어온 폐기 토큰 (lock 으로 보호)
+    private List<String> pendingDuringSync;
+
+    public TokenRevocationList(StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    /**
+     * AccessToken 폐기, 토큰이 만료될 때까지만 저장한다.
+     *
+     * @param tokenId   AccessToken 의 jti
+     * @param expiresAt AccessToken 만료 시각 (epoch millis)
+     */
+    public void revoke(String tokenId, long expiresAt) {
+        long remainingMillis = expiresAt - System.currentTimeMillis();
+        if (tokenId == null || remainingMillis <= 0) {
+            return;
+        }
+        add(tokenId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.pSetEx(KEY_PREFIX + tokenId, remainingMillis, "1");
+            stringConnection.zAdd(INDEX_KEY, expiresAt, tokenId);
+            stringConnection.publish(CHANNEL.getTopic(), tokenId);
+            return null;
+        });
+    }
+
+    /**
+     * 폐기된 토큰인지 확인
+     * Bloom 필터에 없으면 I/O 없이 false, 필터에 있으면 Redis 에서 실제 폐기 여부를 확인한다.
+     *
+     * @param tokenId AccessToken 의 jti (jti 가 없는 이전 토큰은 null)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (DataAccessException e) {
+            // 필터에 걸린 토큰은 대부분 실제로 폐기된 토큰이므로 Redis 장애시 폐기된 것으로 본다.
+            log.warn("[TokenRevocationList] 폐기 여부 확인 실패: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Redis 의 폐기 목록으로 Bloom 필터를 다시 만든다. 만료된 항목은 목록에서 정리한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    public synchronized void sync() {
+        synchronized (lock) {
+            pendingDuringSync = new ArrayList<>();
+        }
+        BloomFilter<String> rebuilt;
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<String> revoked = redisTemplate.opsForZSet().rangeByScore(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+            if (revoked == null) {
+                revoked = Collections.emptySet();
+            }
+            rebuilt = newFilter(revoked.size());
+            revoked.forEach(rebuilt::put);
+        } catch (DataAccessException e) {
+            log.warn("[TokenRevocationList] 폐기 목록 동기화 실패: {}", e.getMessage());
+            synchronized (lock) {
+                pendingDuringSync = null;
+            }
+            return;
+        }
+        synchronized (lock) {
+            pendingDuringSync.forEach(rebuilt::put);
+            pendingDuringSync = null;
+            filter = rebuilt;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void add(String tokenId) {
+        synchronized (lock) {
+            filter.put(tokenId);
+            if (pendingDuringSync != null) {
+                pendingDuringSync.add(tokenId);
+            }
+        }
+    }
+
+    private static BloomFilter<String> newFilter(int revokedCount) {
+        // 다음 동기화 전까지 추가될 토큰을 고려해 여유 있게 잡는다.
+        int expectedInsertions = Math.max(MIN_EXPECTED_INSERTIONS, revokedCount * 2);
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+}
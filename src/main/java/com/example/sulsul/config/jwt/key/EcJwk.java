@@ -0,0 +1,84 @@
+package com.example.sulsul.config.jwt.key;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ES256(P-256) 키 변환 유틸
+ * 설정값(base64 DER) ↔ JCA 키, JCA 공개키 ↔ JWK(RFC 7517) 변환을 담당한다.
+ */
+final class EcJwk {
+
+    static final String CURVE = "P-256";
+    static final String ALGORITHM = "ES256";
+    private static final int COORDINATE_LENGTH = 32;
+    private static final ECParameterSpec P256 = p256();
+
+    private EcJwk() {
+    }
+
+    static PrivateKey privateKeyOf(String base64Der) throws GeneralSecurityException {
+        return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64Der)));
+    }
+
+    static PublicKey publicKeyOf(String base64Der) throws GeneralSecurityException {
+        return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(base64Der)));
+    }
+
+    static Map<String, String> toJwk(String kid, ECPublicKey publicKey) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", CURVE);
+        jwk.put("use", "sig");
+        jwk.put("alg", ALGORITHM);
+        jwk.put("kid", kid);
+        jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    static PublicKey fromJwk(Map<String, ?> jwk) throws GeneralSecurityException {
+        if (!"EC".equals(jwk.get("kty")) || !CURVE.equals(jwk.get("crv"))) {
+            throw new GeneralSecurityException("지원하지 않는 JWK: " + jwk.get("kty") + "/" + jwk.get("crv"));
+        }
+        ECPoint point = new ECPoint(decodeCoordinate((String) jwk.get("x")), decodeCoordinate((String) jwk.get("y")));
+        return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, P256));
+    }
+
+    private static String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[COORDINATE_LENGTH];
+        // BigInteger 는 부호 바이트가 붙거나 앞자리 0이 빠질 수 있으므로 32바이트로 맞춘다.
+        int length = Math.min(bytes.length, COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - length, fixed, COORDINATE_LENGTH - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static BigInteger decodeCoordinate(String value) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+
+    private static ECParameterSpec p256() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("P-256 곡선을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.sulsul.config.jwt.key;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 검증키 조회 (kid → 공개키)
+ * 이 서버의 서명키와 jwt.jwks.uri 로 받은 JWK Set 의 공개키를 kid 별로 메모리에 들고 있어서 검증시 키 변환이나 I/O가 없다.
+ * JWK Set 은 주기적으로 다시 받고, 모르는 kid 가 들어오면 (최소 간격을 두고) 백그라운드에서 바로 다시 받는다.
+ * 키가 교체되기 전에 발급된 HS256 토큰은 jwt.legacy-hs256 이 켜져 있는 동안 기존 secret 으로 검증한다.
+ */
+@Slf4j
+@Component
+public class JwksKeyResolver extends SigningKeyResolverAdapter {
+
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 30_000;
+
+    private final JwtKeyManager keyManager;
+    private final URI jwksUri;
+    private final Key legacyKey;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong lastRefreshAt = new AtomicLong();
+
+    private volatile Map<String, PublicKey> keys;
+
+    public JwksKeyResolver(JwtKeyManager keyManager,
+                           @Value("${jwt.jwks.uri:}") String jwksUri,
+                           @Value("${jwt.legacy-hs256:true}") boolean legacyHs256,
+                           @Value("${jwt.secret}") String secret) {
+        this.keyManager = keyManager;
+        this.jwksUri = jwksUri.isBlank() ? null : URI.create(jwksUri);
+        this.legacyKey = legacyHs256
+                ? new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName())
+                : null;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        this.keys = keyManager.getPublicKeys();
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (legacyKey != null && SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+                return legacyKey;
+            }
+            throw new SignatureException("kid 가 없는 토큰입니다.");
+        }
+        // 공개키로 HMAC 검증을 시도하는 알고리즘 혼동 공격을 막기 위해 ES256 만 허용한다.
+        if (!SignatureAlgorithm.ES256.getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException("지원하지 않는 서명 알고리즘입니다: " + header.getAlgorithm());
+        }
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            refreshInBackground();
+            throw new SignatureException("알 수 없는 kid 입니다: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * JWK Set 을 다시 받아 검증키 목록 교체
+     */
+    @Scheduled(fixedDelayString = "${jwt.jwks.refresh-interval-ms:300000}")
+    public void refresh() {
+        if (jwksUri == null) {
+            return;
+        }
+        lastRefreshAt.set(System.currentTimeMillis());
+        try {
+            HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                    .timeout(Duration.ofSeconds(3))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                log.warn("[JwksKeyResolver] JWK Set 조회 실패: status {}", response.statusCode());
+                return;
+            }
+            Map<String, PublicKey> refreshed = new HashMap<>(keyManager.getPublicKeys());
+            for (JsonNode jwk : objectMapper.readTree(response.body()).path("keys")) {
+                try {
+                    refreshed.putIfAbsent(jwk.path("kid").asText(), EcJwk.fromJwk(objectMapper.convertValue(jwk, Map.class)));
+                } catch (GeneralSecurityException | IllegalArgumentException e) {
+                    log.warn("[JwksKeyResolver] JWK 변환 실패, kid: {}, {}", jwk.path("kid").asText(), e.getMessage());
+                }
+            }
+            keys = refreshed;
+        } catch (IOException e) {
+            log.warn("[JwksKeyResolver] JWK Set 조회 실패: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void refreshInBackground() {
+        long last = lastRefreshAt.get();
+        long now = System.currentTimeMillis();
+        if (jwksUri != null && now - last >= MIN_REFRESH_INTERVAL_MILLIS && lastRefreshAt.compareAndSet(last, now)) {
+            CompletableFuture.runAsync(this::refresh);
+        }
+    }
+}
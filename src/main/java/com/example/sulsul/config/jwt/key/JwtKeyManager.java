@@ -0,0 +1,135 @@
+package com.example.sulsul.config.jwt.key;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JWT 서명키 관리 (ES256)
+ * jwt.signing.keys 에 kid 별 키를 "kid:개인키:공개키" 형식(base64 DER, PKCS#8 / X.509)으로 쉼표로 구분해 등록한다.
+ * 새 키를 추가하고 active-kid 를 바꾸면 새 토큰은 새 키로 서명하고, 이전 키(공개키만 남겨도 된다)로 서명된 토큰도 만료될 때까지 검증된다.
+ * 키가 설정되지 않으면 서버를 시작하지 않는다. 서버마다 다른 임시 키를 쓰면 재시작이나 다른 서버에서 기존 토큰이 모두 무효가 되기 때문이다.
+ * local, test 프로필에서만 키가 없을 때 서버 시작시 임시 키를 만든다.
+ */
+@Slf4j
+@Component
+public class JwtKeyManager {
+
+    private static final String[] EPHEMERAL_KEY_PROFILES = {"local", "test"};
+
+    private final SigningKey activeKey;
+    private final Map<String, PublicKey> publicKeys;
+
+    @Autowired
+    public JwtKeyManager(@Value("${jwt.signing.keys:}") String keys,
+                         @Value("${jwt.signing.active-kid:}") String activeKid,
+                         Environment environment) {
+        this(keys, activeKid, environment.acceptsProfiles(Profiles.of(EPHEMERAL_KEY_PROFILES)));
+    }
+
+    /**
+     * @param allowEphemeralKey 키가 설정되지 않았을 때 임시 키 사용 허용 여부
+     */
+    public JwtKeyManager(String keys, String activeKid, boolean allowEphemeralKey) {
+        Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+        Map<String, PrivateKey> privateKeys = new LinkedHashMap<>();
+        for (String entry : keys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":", -1);
+            if (parts.length != 3) {
+                throw new IllegalStateException("jwt.signing.keys 형식이 올바르지 않습니다. (kid:개인키:공개키)");
+            }
+            try {
+                publicKeys.put(parts[0], EcJwk.publicKeyOf(parts[2]));
+                if (!parts[1].isBlank()) {
+                    privateKeys.put(parts[0], EcJwk.privateKeyOf(parts[1]));
+                }
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                throw new IllegalStateException("JWT 서명키를 읽을 수 없습니다. kid: " + parts[0], e);
+            }
+        }
+
+        if (publicKeys.isEmpty()) {
+            if (!allowEphemeralKey) {
+                throw new IllegalStateException("jwt.signing.keys 가 설정되지 않았습니다. (임시 키는 local, test 프로필에서만 허용)");
+            }
+            KeyPair keyPair = generateKeyPair();
+            String kid = "ephemeral-" + UUID.randomUUID();
+            publicKeys.put(kid, keyPair.getPublic());
+            this.activeKey = new SigningKey(kid, keyPair.getPrivate());
+            log.warn("[JwtKeyManager] 서명키가 설정되지 않아 임시 키를 사용합니다. kid: {}", kid);
+        } else {
+            String kid = activeKid.isBlank() ? publicKeys.keySet().iterator().next() : activeKid;
+            if (!privateKeys.containsKey(kid)) {
+                throw new IllegalStateException("활성 서명키의 개인키가 없습니다. kid: " + kid);
+            }
+            this.activeKey = new SigningKey(kid, privateKeys.get(kid));
+            log.info("[JwtKeyManager] 서명키 로딩: 활성 kid {}, 검증용 키 {}개", kid, publicKeys.size());
+        }
+        this.publicKeys = Collections.unmodifiableMap(publicKeys);
+    }
+
+    /**
+     * 새 토큰 서명에 사용할 키
+     */
+    public SigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    /**
+     * 검증에 사용할 kid 별 공개키 (이전 키 포함)
+     */
+    public Map<String, PublicKey> getPublicKeys() {
+        return publicKeys;
+    }
+
+    /**
+     * 공개키 목록을 JWK Set 형식으로 반환
+     */
+    public Map<String, Object> toJwks() {
+        List<Map<String, String>> keys = new ArrayList<>();
+        publicKeys.forEach((kid, publicKey) -> keys.add(EcJwk.toJwk(kid, (ECPublicKey) publicKey)));
+        return Map.of("keys", keys);
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명키를 생성할 수 없습니다.", e);
+        }
+    }
+
+    @Getter
+    public static class SigningKey {
+        private final String kid;
+        private final PrivateKey privateKey;
+
+        SigningKey(String kid, PrivateKey privateKey) {
+            this.kid = kid;
+            this.privateKey = privateKey;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.sulsul.config.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 시작시 주요 조회 쿼리의 실행계획(EXPLAIN)이 마이그레이션으로 만든 인덱스를 사용하는지 확인한다. (MySQL 전용)
+ * - 인덱스가 없거나 실행계획 후보(possible_keys)에 없으면 오류로 본다. fail-on-error=true 이면 서버 시작을 중단한다.
+ * - 후보에는 있지만 옵티마이저가 다른 인덱스를 고른 경우(데이터가 적은 테이블 등)는 경고만 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "schema.explain-check", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ExplainPlanVerifier {
+
+    /**
+     * 리포지토리 쿼리와 같은 조건의 SQL, 파라미터 값은 실행계획에 영향이 없는 임의의 값이다.
+     */
+    private static final List<ExplainCheck> CHECKS = List.of(
+            new ExplainCheck("EssayRepository.findAllByTeacherIdAndEssayState", "essays", "idx_essays_teacher_state",
+                    "SELECT * FROM essays WHERE teacher_id = 1 AND essay_state = 'REQUEST'"),
+            new ExplainCheck("EssayRepository.findAllByStudentIdAndEssayState", "essays", "idx_essays_student_state",
+                    "SELECT * FROM essays WHERE student_id = 1 AND essay_state = 'REQUEST'"),
+            new ExplainCheck("FileRepository.getStudentEssayFile", "files", "idx_files_essay_user",
+                    "SELECT * FROM files WHERE essay_id = 1 AND user_id = 1"),
+            new ExplainCheck("FileRepository.findByFilePathHash", "files", "uk_files_file_path_hash",
+                    "SELECT * FROM files WHERE file_path_hash = '0000000000000000000000000000000000000000000000000000000000000000'"),
+            new ExplainCheck("CommentRepository.findCommentsBefore", "comments", "idx_comments_essay_id",
+                    "SELECT * FROM comments WHERE essay_id = 1 AND comment_id < 100 ORDER BY comment_id DESC LIMIT 21"),
+            new ExplainCheck("ReviewRepository.findReviewsBefore", "reviews", "idx_reviews_teacher_id",
+                    "SELECT * FROM reviews WHERE teacher_id = 1 AND review_id < 100 ORDER BY review_id DESC LIMIT 21"),
+            new ExplainCheck("UserRepository.findByEmail", "users", "idx_users_email",
+                    "SELECT * FROM users WHERE email = 'sulsul@gmail.com'"),
+            new ExplainCheck("NotificationRepository.findEssayNotificationsBefore", "notifications", "idx_notifications_type_user_id",
+                    "SELECT * FROM notifications WHERE noti_type = 'ESSAY' AND user_id = 1 AND notification_id < 100 "
+                            + "ORDER BY notification_id DESC LIMIT 21")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${schema.explain-check.fail-on-error:false}")
+    private boolean failOnError;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(database)) {
+            log.info("[Schema] {} 는 실행계획 확인 대상이 아닙니다.", database);
+            return;
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (ExplainCheck check : CHECKS) {
+            if (!indexExists(check.table, check.index)) {
+                errors.add(check.query + ": 인덱스 없음 (" + check.index + ")");
+                continue;
+            }
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + check.sql);
+            if (plan.stream().anyMatch(row -> check.index.equals(row.get("key")))) {
+                continue;
+            }
+            if (plan.stream().anyMatch(row -> isPossibleKey(row.get("possible_keys"), check.index))) {
+                log.warn("[Schema] {}: {} 대신 {} 사용", check.query, check.index,
+                        plan.stream().map(row -> String.valueOf(row.get("key"))).findFirst().orElse(null));
+                continue;
+            }
+            errors.add(check.query + ": 실행계획에서 " + check.index + " 를 사용할 수 없음");
+        }
+
+        if (errors.isEmpty()) {
+            log.info("[Schema] 실행계획 확인 완료: {}개 쿼리", CHECKS.size());
+            return;
+        }
+        errors.forEach(error -> log.error("[Schema] {}", error));
+        if (failOnError) {
+            throw new IllegalStateException("인덱스를 사용하지 않는 쿼리가 있습니다: " + errors);
+        }
+    }
+
+    private boolean indexExists(String table, String index) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, index);
+        return count != null && count > 0;
+    }
+
+    private static boolean isPossibleKey(Object possibleKeys, String index) {
+        return possibleKeys != null && Arrays.asList(possibleKeys.toString().split(",")).contains(index);
+    }
+
+    @RequiredArgsConstructor
+    private static class ExplainCheck {
+        private final String query;
+        private final String table;
+        private final String index;
+        private final String sql;
+    }
+}
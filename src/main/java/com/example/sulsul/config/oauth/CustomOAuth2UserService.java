@@ -1,9 +1,8 @@
 package com.example.sulsul.config.oauth;
 
 import com.example.sulsul.config.security.CustomUserDetails;
-import com.example.sulsul.exception.user.UserNotFoundException;
 import com.example.sulsul.user.entity.User;
-import com.example.sulsul.user.repository.UserRepository;
+import com.example.sulsul.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -18,7 +17,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
-    private final UserRepository userRepository;
+    private final UserService userService;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -47,20 +46,10 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         log.info("[카카오 attributes] kakakAccont: {}", attributes);
 
-        User user;
-        if (userRepository.existsByEmail(attributes.getEmail())) {
-            user = userRepository.findByEmail(attributes.getEmail())
-                    .orElseThrow(UserNotFoundException::new);
+        User user = userService.upsertSocialUser(attributes.getLoginType(), attributes.getEmail(),
+                attributes.getName(), attributes.getPicture(), null);
+        log.info("[소셜 유저 로그인] user_id: {}", user.getId());
 
-            user.update(attributes.getName(), attributes.getPicture());
-            log.info("[카카오 유저 등록 확인] user_id: {}", user.getId());
-            log.info("[카카오 유저 등록 확인] user_profile_url: {}", user.getProfileImage());
-
-        } else {
-            user = attributes.toEntity();
-            log.info("[카카오 유저 등록] user_id: {}", user.getId());
-        }
-
-        return userRepository.save(user);
+        return user;
     }
-}
\ No newline at end of file
+}
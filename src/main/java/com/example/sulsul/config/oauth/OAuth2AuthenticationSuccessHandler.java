@@ -4,8 +4,7 @@ import com.example.sulsul.config.jwt.JwtTokenProvider;
 import com.example.sulsul.config.jwt.dto.JwtTokenDto;
 import com.example.sulsul.config.security.CustomUserDetails;
 import com.example.sulsul.exception.user.UserNotFoundException;
-import com.example.sulsul.refreshtoken.RefreshToken;
-import com.example.sulsul.refreshtoken.RefreshTokenRepository;
+import com.example.sulsul.refreshtoken.RefreshTokenStore;
 import com.example.sulsul.user.entity.Role;
 import com.example.sulsul.user.entity.User;
 import com.example.sulsul.user.repository.UserRepository;
@@ -27,7 +26,7 @@ public class OAuth2AuthenticationSuccessHandler extends SavedRequestAwareAuthent
 
     private final JwtTokenProvider tokenProvider;
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final OAuth2ResponseJsonServlet OAuth2ResponseJsonServlet;
 
     @Override
@@ -42,19 +41,13 @@ public class OAuth2AuthenticationSuccessHandler extends SavedRequestAwareAuthent
 
     private void loginSuccess(HttpServletResponse response, CustomUserDetails oAuth2User) throws IOException, ServletException {
 
-        // refresh token이 존재하는 경우 delete
-        // 동작안되는 상태
         User user = oAuth2User.getUser();
-        refreshTokenRepository.findByUserId(user.getId())
-                .ifPresent(refreshTokenRepository::delete);
-
         JwtTokenDto jwtTokenDto = tokenProvider.createJwtToken(oAuth2User.getUsername());
         String userRole = isGuest(oAuth2User.getUsername());
 
-        // refresh token 엔티티 저장
+        // refresh token 저장 (기존 토큰은 덮어쓴다)
         String refreshToken = jwtTokenDto.getRefreshToken();
-        RefreshToken refreshTokenEntity = new RefreshToken(user.getId(), refreshToken);
-        refreshTokenRepository.save(refreshTokenEntity);
+        refreshTokenStore.save(user.getId(), refreshToken);
 
         tokenProvider.sendAccessAndRefreshToken(response, jwtTokenDto.getAccessToken(), refreshToken);
         OAuth2ResponseJsonServlet.service(response, oAuth2User, userRole);
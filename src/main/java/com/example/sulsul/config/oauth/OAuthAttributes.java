@@ -52,6 +52,7 @@ public class OAuthAttributes {
                 .picture((String) attributes.get("picture"))
                 .attributes(attributes)
                 .nameAttributeKey(userNameAttributeName)
+                .loginType(LoginType.GOOGLE)
                 .build();
     }
 
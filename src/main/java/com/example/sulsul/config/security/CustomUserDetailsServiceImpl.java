@@ -20,7 +20,7 @@ public class CustomUserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public CustomUserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        log.info("[CustomUserDetailsServiceImpl] loadUserByUsername -> username: {}", username);
+        log.debug("[CustomUserDetailsServiceImpl] loadUserByUsername -> username: {}", username);
 
         User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> new UserNotFoundException());
@@ -1,10 +1,11 @@
 package com.example.sulsul.config.security;
 
 import com.example.sulsul.config.jwt.JwtTokenProvider;
+import com.example.sulsul.config.jwt.TokenRevocationList;
 import com.example.sulsul.exception.refresh.RefreshTokenNotFoundException;
-import com.example.sulsul.refreshtoken.RefreshToken;
-import com.example.sulsul.refreshtoken.RefreshTokenRepository;
+import com.example.sulsul.refreshtoken.RefreshTokenStore;
 import com.example.sulsul.user.entity.User;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -20,7 +21,8 @@ import javax.servlet.http.HttpServletResponse;
 public class LogoutService implements LogoutHandler {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response,
@@ -28,16 +30,15 @@ public class LogoutService implements LogoutHandler {
 
         String accessToken = jwtTokenProvider.resolveAccessToken(request);
         User user = jwtTokenProvider.getUserFromAccessToken(accessToken);
-        RefreshToken storedToken = refreshTokenRepository.findByUserId(user.getId())
-                .orElseThrow(RefreshTokenNotFoundException::new);
 
-        log.info("[logoutService] RefreshToken 조회: {}", storedToken.getRefreshToken());
+        // access token 폐기, 이미 만료된 토큰은 저장하지 않는다.
+        Claims claims = jwtTokenProvider.getClaimsAllowingExpired(accessToken);
+        tokenRevocationList.revoke(claims.getId(), claims.getExpiration().getTime());
 
         // refresh token 삭제
-        if (storedToken != null) {
-            log.info("[logoutService] RefreshToken 삭제");
-            refreshTokenRepository.delete(storedToken);
-            log.info("[logoutService] 로그아웃 완료");
+        if (!refreshTokenStore.delete(user.getId())) {
+            throw new RefreshTokenNotFoundException();
         }
+        log.info("[logoutService] 로그아웃 완료");
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.example.sulsul.config.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인증 없이 호출할 수 있는 URL 목록
+ * SecurityConfig 의 permitAll 설정과 JwtAuthenticationFilter 의 토큰 검사 생략 대상이 같은 목록을 사용한다.
+ */
+public final class PermitAllUrls {
+
+    public static final String[] SWAGGER_URL = {
+            "/api-docs",
+            "/v3/api-docs/**",
+            "/swagger-*/**",
+            "/webjars/**"
+    };
+
+    public static final String[] GET_PERMIT_API_URL = {
+            "/",
+            "/refresh",
+            "/.well-known/jwks.json",
+    };
+
+    public static final String[] POST_PERMIT_API_URL = {
+            "/refresh",
+            "/users/auth/token/kakao"
+    };
+
+    private PermitAllUrls() {
+    }
+
+    /**
+     * 위 URL 중 하나와 일치하는 요청인지 확인하는 RequestMatcher
+     */
+    public static RequestMatcher matcher() {
+        List<RequestMatcher> matchers = new ArrayList<>();
+        for (String pattern : SWAGGER_URL) {
+            matchers.add(new AntPathRequestMatcher(pattern));
+        }
+        for (String pattern : GET_PERMIT_API_URL) {
+            matchers.add(new AntPathRequestMatcher(pattern, HttpMethod.GET.name()));
+        }
+        for (String pattern : POST_PERMIT_API_URL) {
+            matchers.add(new AntPathRequestMatcher(pattern, HttpMethod.POST.name()));
+        }
+        return new OrRequestMatcher(matchers);
+    }
+}
@@ -12,11 +12,12 @@ import com.example.sulsul.exception.essay.InvalidEssayCreateException;
 import com.example.sulsul.exception.essay.InvalidRejectDetailException;
 import com.example.sulsul.exception.essay.TeacherCreateEssayException;
 import com.example.sulsul.exception.file.EmptyEssayFileException;
-import com.example.sulsul.fcm.service.FcmMessageService;
 import com.example.sulsul.file.entity.File;
 import com.example.sulsul.file.service.FileService;
 import com.example.sulsul.handler.ErrorResponse;
-import com.example.sulsul.notification.service.NotificationService;
+import com.example.sulsul.notification.entity.NotiBody;
+import com.example.sulsul.notification.entity.NotiTitle;
+import com.example.sulsul.notification.service.NotificationCoalescer;
 import com.example.sulsul.user.entity.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -46,8 +47,7 @@ public class EssayController {
 
     private final EssayService essayService;
     private final FileService fileService;
-    private final FcmMessageService fcmMessageService;
-    private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
 
     @Operation(summary = "첨삭요청 (학생)", description = "profileId에 해당하는 강사에게 첨삭을 요청한다.")
     @ApiResponses({
@@ -91,12 +91,9 @@ public class EssayController {
         String filePath = file.getFilePath();
 
         // 첨삭요청 알림 전송
-//        User target = essay.getTeacher();
-//        String title = NotiTitle.REQUEST.getTitle();
-//        String studentName = loginedUser.getName();
-//        String body = NotiBody.REQUEST.getDetail(studentName);
-//        notificationService.saveEssayNotification(title, body, target, essay);
-//        fcmMessageService.sendToOne(target, title, body);
+        User target = essay.getTeacher();
+        String studentName = user.getName();
+        notificationCoalescer.send(target, essay, NotiTitle.REQUEST, NotiBody.REQUEST.getDetail(studentName));
 
         // 첨삭요청 응답 생성
         RequestEssayResponse essayResponse = new RequestEssayResponse(essay, filePath);
@@ -135,13 +132,9 @@ public class EssayController {
         ProceedEssayResponse essayResponse = essayService.getProceedEssay(essayId);
 
         // 첨삭파일 업로드 알림 전송
-//        User student = essay.getStudent();
-//        User teacher = essay.getTeacher();
-//        String teacherName = teacher.getName();
-//        String title = NotiTitle.FILE.getTitle();
-//        String body = NotiBody.FILE.getDetail(teacherName);
-//        notificationService.saveEssayNotification(title, body, student, essay);
-//        fcmMessageService.sendToOne(student, title, body);
+        User student = essay.getStudent();
+        String teacherName = essay.getTeacher().getName();
+        notificationCoalescer.send(student, essay, NotiTitle.FILE, NotiBody.FILE.getDetail(teacherName));
 
         // 강사 첨삭 파일 업로드 완료: 201 CREATED
         return new ResponseEntity<>(essayResponse, HttpStatus.CREATED);
@@ -315,13 +308,9 @@ public class EssayController {
         Essay essay = essayService.acceptEssay(essayId);
 
         // 첨삭요청 수락 알림 전송
-//        User student = essay.getStudent();
-//        User teacher = essay.getTeacher();
-//        String teacherName = teacher.getName();
-//        String title = NotiTitle.ACCEPT.getTitle();
-//        String body = NotiBody.ACCEPT.getDetail(teacherName);
-//        notificationService.saveEssayNotification(title, body, student, essay);
-//        fcmMessageService.sendToOne(student, title, body);
+        User student = essay.getStudent();
+        String teacherName = essay.getTeacher().getName();
+        notificationCoalescer.send(student, essay, NotiTitle.ACCEPT, NotiBody.ACCEPT.getDetail(teacherName));
 
         return new ResponseEntity<>(new AcceptEssayResponse(essay), HttpStatus.OK);
     }
@@ -354,13 +343,9 @@ public class EssayController {
         Essay essay = essayService.rejectEssay(essayId, rejectRequest);
 
         // 첨삭요청 거절 알림 전송
-//        User student = essay.getStudent();
-//        User teacher = essay.getTeacher();
-//        String teacherName = teacher.getName();
-//        String title = NotiTitle.REJECT.getTitle();
-//        String body = NotiBody.REJECT.getDetail(teacherName);
-//        notificationService.saveEssayNotification(title, body, student, essay);
-//        fcmMessageService.sendToOne(student, title, body);
+        User student = essay.getStudent();
+        String teacherName = essay.getTeacher().getName();
+        notificationCoalescer.send(student, essay, NotiTitle.REJECT, NotiBody.REJECT.getDetail(teacherName));
 
         return new ResponseEntity<>(new RejectEssayResponse(essay), HttpStatus.OK);
     }
@@ -382,13 +367,9 @@ public class EssayController {
         Essay essay = essayService.completeEssay(essayId);
 
         // 첨삭완료 알림 전송
-//        User student = essay.getStudent();
-//        User teacher = essay.getTeacher();
-//        String teacherName = teacher.getName();
-//        String title = NotiTitle.COMPLETE.getTitle();
-//        String body = NotiBody.COMPLETE.getDetail(teacherName);
-//        notificationService.saveEssayNotification(title, body, student, essay);
-//        fcmMessageService.sendToOne(student, title, body);
+        User student = essay.getStudent();
+        String teacherName = essay.getTeacher().getName();
+        notificationCoalescer.send(student, essay, NotiTitle.COMPLETE, NotiBody.COMPLETE.getDetail(teacherName));
 
         return new ResponseEntity<>(new CompleteEssayResponse(essay), HttpStatus.OK);
     }
@@ -5,6 +5,8 @@ import com.example.sulsul.comment.entity.Comment;
 import com.example.sulsul.essay.entity.Essay;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,11 +25,19 @@ public class ProceedEssayResponse extends EssayResponse {
             example = "https://sulsul.s3.ap-northeast-2.amazonaws.com/files/751b44f7_sulsul.pdf")
     private final String teacherFilePath;
 
-    @Schema(description = "댓글 리스트")
+    @Schema(description = "댓글 리스트 (최근 댓글 페이지, 오래된순)")
     private final List<CommentResponse> comments = new ArrayList<>();
 
+    @Schema(description = "이전 댓글 존재 여부, 이전 댓글은 댓글 조회 API의 cursor로 조회한다.", example = "false")
+    private final boolean hasPreviousComments;
+
     public ProceedEssayResponse(Essay essay, String studentFilePath,
                                 String teacherFilePath, List<Comment> comments) {
+        this(essay, studentFilePath, teacherFilePath, new SliceImpl<>(comments));
+    }
+
+    public ProceedEssayResponse(Essay essay, String studentFilePath,
+                                String teacherFilePath, Slice<Comment> comments) {
         super(essay);
         this.inquiry = essay.getInquiry();
         this.studentFilePath = studentFilePath;
@@ -35,5 +45,6 @@ public class ProceedEssayResponse extends EssayResponse {
         comments.stream()
                 .map(CommentResponse::new)
                 .forEach(comment -> this.comments.add(comment));
+        this.hasPreviousComments = comments.hasNext();
     }
 }
\ No newline at end of file
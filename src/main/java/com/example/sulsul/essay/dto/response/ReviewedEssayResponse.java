@@ -7,6 +7,8 @@ import com.example.sulsul.review.dto.response.ReviewResponse;
 import com.example.sulsul.review.entity.Review;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,14 +27,22 @@ public class ReviewedEssayResponse extends EssayResponse {
             example = "https://sulsul.s3.ap-northeast-2.amazonaws.com/files/751b44f7_sulsul.pdf")
     private final String teacherFilePath;
 
-    @Schema(description = "댓글 리스트")
+    @Schema(description = "댓글 리스트 (최근 댓글 페이지, 오래된순)")
     private final List<CommentResponse> comments = new ArrayList<>();
 
+    @Schema(description = "이전 댓글 존재 여부, 이전 댓글은 댓글 조회 API의 cursor로 조회한다.", example = "false")
+    private final boolean hasPreviousComments;
+
     @Schema(description = "첨삭 리뷰")
     private final ReviewResponse review;
 
     public ReviewedEssayResponse(Essay essay, String studentFilePath, String teacherFilePath,
                                  List<Comment> comments, Review review) {
+        this(essay, studentFilePath, teacherFilePath, new SliceImpl<>(comments), review);
+    }
+
+    public ReviewedEssayResponse(Essay essay, String studentFilePath, String teacherFilePath,
+                                 Slice<Comment> comments, Review review) {
         super(essay);
         this.inquiry = essay.getInquiry();
         this.studentFilePath = studentFilePath;
@@ -40,6 +50,7 @@ public class ReviewedEssayResponse extends EssayResponse {
         comments.stream()
                 .map(CommentResponse::new)
                 .forEach(comment -> this.comments.add(comment));
+        this.hasPreviousComments = comments.hasNext();
          this.review = new ReviewResponse(review);
     }
 }
\ No newline at end of file
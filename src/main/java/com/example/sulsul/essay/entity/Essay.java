@@ -1,6 +1,7 @@
 package com.example.sulsul.essay.entity;
 
 import com.example.sulsul.common.BaseEntity;
+import com.example.sulsul.common.IdGeneration;
 import com.example.sulsul.common.type.EssayState;
 import com.example.sulsul.common.type.ReviewState;
 import com.example.sulsul.user.entity.User;
@@ -10,7 +11,10 @@ import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 
 @Entity
-@Table(name = "essays")
+@Table(name = "essays", indexes = {
+        @Index(name = "idx_essays_teacher_state", columnList = "teacher_id, essay_state"),
+        @Index(name = "idx_essays_student_state", columnList = "student_id, essay_state")
+})
 @Builder
 @Getter
 @Setter(AccessLevel.PROTECTED)
@@ -18,7 +22,10 @@ import javax.validation.constraints.NotBlank;
 @AllArgsConstructor
 public class Essay extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "essay_id_generator")
+    @TableGenerator(name = "essay_id_generator", table = IdGeneration.TABLE, pkColumnName = IdGeneration.PK_COLUMN,
+            valueColumnName = IdGeneration.VALUE_COLUMN, pkColumnValue = "essays",
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "essay_id")
     private Long id;
 
@@ -2,17 +2,30 @@ package com.example.sulsul.essay.repository;
 
 import com.example.sulsul.essay.entity.Essay;
 import com.example.sulsul.common.type.EssayState;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface EssayRepository extends JpaRepository<Essay, Long> {
+    /**
+     * 첨삭을 학생, 강사와 함께 조회한다.
+     * 응답 DTO와 알림 전송이 트랜잭션 밖에서 학생, 강사 정보를 사용하므로 함께 로딩한다.
+     * @param essayId 조회할 첨삭 id
+     * @return essayId에 해당하는 첨삭
+     */
+    @Override
+    @EntityGraph(attributePaths = {"student", "teacher"})
+    Optional<Essay> findById(Long essayId);
+
     /**
      * 강사가 자신에게 요청된 첨삭목록을 조회한다.
      * @param teacherId 강사의 userId
      * @param essayState 조회할 첨삭상태
      * @return 지정한 첨삭상태의 첨삭목록을 반환한다.
      */
+    @EntityGraph(attributePaths = {"student", "teacher"})
     List<Essay> findAllByTeacherIdAndEssayState(Long teacherId, EssayState essayState);
 
     /**
@@ -21,6 +34,7 @@ public interface EssayRepository extends JpaRepository<Essay, Long> {
      * @param essayState 조회할 첨삭상태
      * @return 지정한 첨삭상태의 첨삭목록을 반환한다.
      */
+    @EntityGraph(attributePaths = {"student", "teacher"})
     List<Essay> findAllByStudentIdAndEssayState(Long studentId, EssayState essayState);
 
 }
\ No newline at end of file
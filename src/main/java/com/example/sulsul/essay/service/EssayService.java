@@ -1,7 +1,7 @@
 package com.example.sulsul.essay.service;
 
 import com.example.sulsul.comment.entity.Comment;
-import com.example.sulsul.comment.repository.CommentRepository;
+import com.example.sulsul.comment.service.CommentService;
 import com.example.sulsul.common.type.EssayState;
 import com.example.sulsul.common.type.UType;
 import com.example.sulsul.essay.dto.request.CreateEssayRequest;
@@ -23,6 +23,7 @@ import com.example.sulsul.teacherprofile.entity.TeacherProfile;
 import com.example.sulsul.teacherprofile.repository.TeacherProfileRepository;
 import com.example.sulsul.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,7 +36,7 @@ public class EssayService {
 
     private final EssayRepository essayRepository;
     private final FileRepository fileRepository;
-    private final CommentRepository commentRepository;
+    private final CommentService commentService;
     private final ReviewRepository reviewRepository;
     private final TeacherProfileRepository teacherProfileRepository;
 
@@ -134,8 +135,8 @@ public class EssayService {
         // 강사가 올린 첨삭파일 조회
         Long teacherId = essay.getTeacher().getId();
         String teacherFilePath = getTeacherFilePath(essayId, teacherId);
-        // 첨삭에 작성된 모든 댓글 조회
-        List<Comment> comments = commentRepository.findAllByEssayId(essayId);
+        // 첨삭에 작성된 최근 댓글 페이지 조회 (이전 댓글은 댓글 조회 API로 페이징)
+        Slice<Comment> comments = commentService.getLatestComments(essayId);
         // 진행중인 첨삭 Response 반환
         return new ProceedEssayResponse(essay, studentFilePath, teacherFilePath, comments);
     }
@@ -150,8 +151,8 @@ public class EssayService {
         // 강사가 올린 첨삭파일 조회
         Long teacherId = essay.getTeacher().getId();
         String teacherFilePath = getTeacherFilePath(essayId, teacherId);
-        // 첨삭에 작성된 모든 댓글 조회
-        List<Comment> comments = commentRepository.findAllByEssayId(essayId);
+        // 첨삭에 작성된 최근 댓글 페이지 조회 (이전 댓글은 댓글 조회 API로 페이징)
+        Slice<Comment> comments = commentService.getLatestComments(essayId);
         // 리뷰가 작성되지 않은 경우
         return new CompletedEssayResponse(essay, studentFilePath, teacherFilePath, comments);
     }
@@ -166,8 +167,8 @@ public class EssayService {
         // 강사가 올린 첨삭파일 조회
         Long teacherId = essay.getTeacher().getId();
         String teacherFilePath = getTeacherFilePath(essayId, teacherId);
-        // 첨삭에 작성된 모든 댓글 조회
-        List<Comment> comments = commentRepository.findAllByEssayId(essayId);
+        // 첨삭에 작성된 최근 댓글 페이지 조회 (이전 댓글은 댓글 조회 API로 페이징)
+        Slice<Comment> comments = commentService.getLatestComments(essayId);
         // 첨삭에 작성된 리뷰 조회
         Review review = reviewRepository.findByEssayId(essayId)
                 .orElseThrow(() -> new ReviewNotFoundException(essayId));
@@ -0,0 +1,13 @@
+package com.example.sulsul.exception;
+
+import java.util.Map;
+
+public class KakaoApiException extends BaseException {
+    public KakaoApiException(String code, String message) {
+        super(code, message);
+    }
+
+    public KakaoApiException(String code, String message, Map<String, String> errors) {
+        super(code, message, errors);
+    }
+}
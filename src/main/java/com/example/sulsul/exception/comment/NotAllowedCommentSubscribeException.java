@@ -0,0 +1,9 @@
+package com.example.sulsul.exception.comment;
+
+import com.example.sulsul.exception.AccessNotAllowedException;
+
+public class NotAllowedCommentSubscribeException extends AccessNotAllowedException {
+    public NotAllowedCommentSubscribeException() {
+        super("COMMENT_06", "첨삭의 학생과 강사만 댓글 스트림을 구독할 수 있습니다.");
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.sulsul.exception.jwt;
+
+import com.example.sulsul.exception.AuthenticationException;
+
+public class RevokedTokenException extends AuthenticationException {
+    public RevokedTokenException() {
+        super("JWT_06", "로그아웃된 AccessToken입니다. 다시 로그인해주세요.");
+    }
+}
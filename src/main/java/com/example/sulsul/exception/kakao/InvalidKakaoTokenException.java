@@ -0,0 +1,9 @@
+package com.example.sulsul.exception.kakao;
+
+import com.example.sulsul.exception.AuthenticationException;
+
+public class InvalidKakaoTokenException extends AuthenticationException {
+    public InvalidKakaoTokenException() {
+        super("KAKAO_02", "카카오 액세스 토큰이 유효하지 않습니다.");
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.sulsul.exception.kakao;
+
+import com.example.sulsul.exception.KakaoApiException;
+
+public class KakaoApiUnavailableException extends KakaoApiException {
+    public KakaoApiUnavailableException() {
+        super("KAKAO_01", "카카오 서버가 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.sulsul.exception.notification;
+
+import com.example.sulsul.exception.BadInputException;
+
+import java.util.Map;
+
+public class InvalidNotiDeleteRequestException extends BadInputException {
+    public InvalidNotiDeleteRequestException(Map<String, String> errorMap) {
+        super("NOTI_02", "알림 삭제요청이 유효하지 않습니다.", errorMap);
+    }
+}
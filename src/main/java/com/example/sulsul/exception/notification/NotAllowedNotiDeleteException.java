@@ -0,0 +1,12 @@
+package com.example.sulsul.exception.notification;
+
+import com.example.sulsul.exception.AccessNotAllowedException;
+
+import java.util.Map;
+
+public class NotAllowedNotiDeleteException extends AccessNotAllowedException {
+    public NotAllowedNotiDeleteException(long notificationId) {
+        super("NOTI_03", "다른 유저의 알림을 삭제할 수 없습니다.",
+                Map.of("notificationId", String.valueOf(notificationId)));
+    }
+}
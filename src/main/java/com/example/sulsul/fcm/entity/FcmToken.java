@@ -1,6 +1,7 @@
 package com.example.sulsul.fcm.entity;
 
 import com.example.sulsul.common.BaseEntity;
+import com.example.sulsul.common.IdGeneration;
 import com.example.sulsul.user.entity.User;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -8,38 +9,57 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
+import java.time.LocalDateTime;
 
+/**
+ * 기기별 FcmToken
+ * 한 유저가 여러 기기에서 로그인할 수 있으므로 유저당 여러 개의 토큰을 가진다.
+ */
 @Entity
 @Getter
-@Table(name = "fcm_tokens")
+@Table(name = "fcm_tokens", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_fcm_tokens_fcm_token", columnNames = "fcm_token")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class FcmToken extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "fcm_token_id_generator")
+    @TableGenerator(name = "fcm_token_id_generator", table = IdGeneration.TABLE, pkColumnName = IdGeneration.PK_COLUMN,
+            valueColumnName = IdGeneration.VALUE_COLUMN, pkColumnValue = "fcm_tokens",
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "fcm_token_id")
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
     @NotBlank(message = "Fcm 토큰 값은 필수입니다.")
-    @Column(length = 1000, nullable = false)
+    @Column(name = "fcm_token", length = 512, nullable = false)
     private String fcmToken;
 
+    private LocalDateTime lastSeenAt;
+
     public FcmToken(User user, String fcmToken) {
         this.user = user;
         this.fcmToken = fcmToken;
+        this.lastSeenAt = LocalDateTime.now();
     }
 
     public FcmToken(Long id, User user, String fcmToken) {
+        this(user, fcmToken);
         this.id = id;
-        this.user = user;
-        this.fcmToken = fcmToken;
     }
 
-    public void updateFcmToken(String fcmToken) {
-        this.fcmToken = fcmToken;
+    /**
+     * 토큰 사용기록 갱신
+     * 같은 기기에서 다른 계정으로 로그인한 경우 토큰의 소유자를 변경한다.
+     *
+     * @param user 현재 토큰을 사용하는 유저
+     */
+    public void touch(User user) {
+        this.user = user;
+        this.lastSeenAt = LocalDateTime.now();
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,68 @@
 package com.example.sulsul.fcm.repository;
 
 import com.example.sulsul.fcm.entity.FcmToken;
-import com.example.sulsul.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
     /**
-     * 유저의 FcmToken 조회
+     * 토큰 값으로 FcmToken 조회
      *
-     * @param user FcmToken을 조회할 유저
+     * @param fcmToken 기기의 Fcm 토큰 값
      * @return FcmToken 반환
      */
-    Optional<FcmToken> findByUser(User user);
-}
\ No newline at end of file
+    Optional<FcmToken> findByFcmToken(String fcmToken);
+
+    /**
+     * 유저의 모든 기기 토큰 값 조회
+     *
+     * @param userId 토큰을 조회할 유저 id
+     * @return Fcm 토큰 값 리스트
+     */
+    @Query("select t.fcmToken from FcmToken t where t.user.id = :userId")
+    List<String> findTokensByUserId(@Param("userId") Long userId);
+
+    /**
+     * 전체 기기 토큰 값 조회
+     *
+     * @return Fcm 토큰 값 리스트
+     */
+    @Query("select t.fcmToken from FcmToken t")
+    List<String> findAllTokens();
+
+    /**
+     * 오랫동안 사용되지 않은 토큰을 가진 유저 id 조회
+     *
+     * @param threshold 이 시각 이후로 사용되지 않은 토큰
+     * @return 유저 id 리스트
+     */
+    @Query("select distinct t.user.id from FcmToken t where coalesce(t.lastSeenAt, t.modifiedDate) < :threshold")
+    List<Long> findUserIdsWithStaleTokens(@Param("threshold") LocalDateTime threshold);
+
+    /**
+     * 오랫동안 사용되지 않은 토큰 삭제
+     *
+     * @param threshold 이 시각 이후로 사용되지 않은 토큰
+     * @return 삭제된 토큰 수
+     */
+    @Modifying
+    @Query("delete from FcmToken t where coalesce(t.lastSeenAt, t.modifiedDate) < :threshold")
+    int deleteStaleTokens(@Param("threshold") LocalDateTime threshold);
+
+    /**
+     * 만료된 토큰 삭제
+     *
+     * @param fcmTokens 삭제할 토큰 값 리스트
+     * @return 삭제된 토큰 수
+     */
+    @Modifying
+    @Query("delete from FcmToken t where t.fcmToken in :fcmTokens")
+    int deleteByFcmTokens(@Param("fcmTokens") Collection<String> fcmTokens);
+}
@@ -2,40 +2,46 @@ package com.example.sulsul.fcm.service;
 
 import com.example.sulsul.exception.fcm.CommonMessageFailureException;
 import com.example.sulsul.exception.fcm.EssayMessageFailureException;
-import com.example.sulsul.fcm.entity.FcmToken;
 import com.example.sulsul.fcm.repository.FcmTokenRepository;
 import com.example.sulsul.user.entity.User;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class FcmMessageService {
 
+    // FCM 멀티캐스트 요청 한 번에 보낼 수 있는 최대 토큰 수
+    private static final int MULTICAST_LIMIT = 500;
+
     private final FcmTokenRepository fcmTokenRepository;
+    private final FcmTokenCache fcmTokenCache;
+    private final FcmTokenService fcmTokenService;
 
     /**
      * 첨삭알림 전송
+     * 유저가 로그인한 모든 기기로 전송하고, 만료된 기기 토큰은 삭제한다.
      *
      * @param target 알림 대상
      * @param title  알림 제목
      * @param body   알림 내용
      */
-    @Transactional(readOnly = true)
     public void sendToOne(User target, String title, String body) {
 
-        Optional<FcmToken> token = fcmTokenRepository.findByUser(target);
+        List<String> tokens = fcmTokenCache.getTokens(target.getId());
         // 알림대상의 token이 존재하지 않는 경우
-        if (token.isEmpty()) { // 로그아웃 상태
+        if (tokens.isEmpty()) { // 로그아웃 상태
             return;
         }
 
@@ -44,19 +50,24 @@ public class FcmMessageService {
                 .setBody(body)
                 .build();
 
-        String fcmToken = token.get().getFcmToken();
-        Message message = Message.builder()
+        MulticastMessage message = MulticastMessage.builder()
                 .setNotification(notification)
-                .setToken(fcmToken)
+                .addAllTokens(tokens)
                 .build();
 
+        BatchResponse response;
         try {
             // 첨삭알림 전송
-            FirebaseMessaging.getInstance().send(message);
+            response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
         } catch (Exception e) {
             // 알림 전송 실패
             throw new EssayMessageFailureException(target.getId(), title, body);
         }
+
+        fcmTokenService.removeTokens(target.getId(), findExpiredTokens(tokens, response));
+        if (response.getSuccessCount() == 0) {
+            throw new EssayMessageFailureException(target.getId(), title, body);
+        }
     }
 
     /**
@@ -68,27 +79,40 @@ public class FcmMessageService {
     @Transactional(readOnly = true)
     public void sendToAll(String title, String body) {
 
-        List<Message> messages = fcmTokenRepository.findAll()
-                .stream()
-                .map(token -> {
-                    String fcmToken = token.getFcmToken();
-                    Notification notification = Notification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build();
-
-                    return Message.builder()
-                            .setNotification(notification)
-                            .setToken(fcmToken)
-                            .build();
-                }).collect(Collectors.toList());
+        List<String> tokens = fcmTokenRepository.findAllTokens();
+        Notification notification = Notification.builder()
+                .setTitle(title)
+                .setBody(body)
+                .build();
 
         try {
-            // 전체알림 전송
-            FirebaseMessaging.getInstance().sendAll(messages);
+            // 전체알림 전송 (최대 500개씩)
+            for (int from = 0; from < tokens.size(); from += MULTICAST_LIMIT) {
+                MulticastMessage message = MulticastMessage.builder()
+                        .setNotification(notification)
+                        .addAllTokens(tokens.subList(from, Math.min(from + MULTICAST_LIMIT, tokens.size())))
+                        .build();
+                FirebaseMessaging.getInstance().sendEachForMulticast(message);
+            }
         } catch (FirebaseMessagingException e) {
             // 알림 전송 실패
             throw new CommonMessageFailureException(title, body);
         }
     }
-}
\ No newline at end of file
+
+    private List<String> findExpiredTokens(List<String> tokens, BatchResponse response) {
+        List<String> expired = new ArrayList<>();
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            if (sendResponse.isSuccessful() || sendResponse.getException() == null) {
+                continue;
+            }
+            MessagingErrorCode errorCode = sendResponse.getException().getMessagingErrorCode();
+            if (errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
+                expired.add(tokens.get(i));
+            }
+        }
+        return expired;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.sulsul.fcm.service;
+
+import com.example.sulsul.common.AfterCommit;
+import com.example.sulsul.fcm.repository.FcmTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 유저별 기기 토큰 조회 캐시 (Redis)
+ * 캐시에 없으면 DB에서 읽어 채우고, 토큰이 등록/삭제되면 커밋 이후 해당 유저의 캐시를 비운다.
+ * 토큰이 없는 유저도 빈 값으로 캐시해 매 전송마다 DB를 조회하지 않도록 한다.
+ * 캐시를 채울 때는 방금 커밋된 토큰 변경을 읽어야 하므로 replica 가 아닌 primary 에서 조회한다.
+ * 캐시를 비울 때 유저별 버전을 올리고, DB 조회 전에 읽은 버전이 그대로일 때만 캐시를 채워서
+ * 조회 중에 캐시가 비워진 경우 이전 토큰 목록이 다시 저장되지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmTokenCache {
+
+    private static final String KEY_PREFIX = "fcm:tokens:";
+    private static final String VERSION_KEY_PREFIX = "fcm:tokens:version:";
+    private static final String EMPTY_MARKER = "-";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    /**
+     * 버전(KEYS[2])이 ARGV[1] 과 같고 캐시가 비어 있을 때만 토큰(ARGV[3]~)을 저장한다.
+     * 1: 저장, 0: 저장하지 않음
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '0' " +
+            "if version ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('SADD', KEYS[1], unpack(ARGV, 3)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    /**
+     * 캐시를 지우고 버전을 올린다.
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "local version = redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "return version", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 유저의 기기 토큰 조회
+     *
+     * @param userId 유저 id
+     * @return Fcm 토큰 값 리스트
+     */
+    public List<String> getTokens(Long userId) {
+        String version;
+        try {
+            Set<String> cached = redisTemplate.opsForSet().members(KEY_PREFIX + userId);
+            if (cached != null && !cached.isEmpty()) {
+                cached.remove(EMPTY_MARKER);
+                return new ArrayList<>(cached);
+            }
+            // DB 조회 전에 버전을 읽어 둔다.
+            version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("[FcmTokenCache] 캐시 조회 실패, DB에서 조회: {}", e.getMessage());
+            return fcmTokenRepository.findTokensByUserId(userId);
+        }
+
+        List<String> tokens = loadFromPrimary(userId);
+        put(userId, version == null ? "0" : version, tokens);
+        return tokens;
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 유저의 캐시 삭제
+     *
+     * @param userId 유저 id
+     */
+    public void evict(Long userId) {
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId),
+                        String.valueOf(TTL.toMillis()));
+            } catch (DataAccessException e) {
+                log.warn("[FcmTokenCache] 캐시 삭제 실패: userId={}, {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    // 읽기 전용이 아닌 트랜잭션은 primary 로 라우팅된다. (ReplicationRoutingDataSource)
+    private List<String> loadFromPrimary(Long userId) {
+        return transactionTemplate.execute(status -> fcmTokenRepository.findTokensByUserId(userId));
+    }
+
+    private void put(Long userId, String version, List<String> tokens) {
+        List<String> args = new ArrayList<>();
+        args.add(version);
+        args.add(String.valueOf(TTL.toMillis()));
+        if (tokens.isEmpty()) {
+            args.add(EMPTY_MARKER);
+        } else {
+            args.addAll(tokens);
+        }
+        try {
+            redisTemplate.execute(PUT_SCRIPT, List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId),
+                    args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("[FcmTokenCache] 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+}
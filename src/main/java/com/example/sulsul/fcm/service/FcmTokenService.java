@@ -4,32 +4,83 @@ import com.example.sulsul.fcm.entity.FcmToken;
 import com.example.sulsul.fcm.repository.FcmTokenRepository;
 import com.example.sulsul.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmTokenService {
 
     private final FcmTokenRepository fcmTokenRepository;
+    private final FcmTokenCache fcmTokenCache;
 
+    @Value("${fcm.token.stale-days:60}")
+    private int staleDays;
+
+    /**
+     * 기기 토큰 등록 (토큰 값 기준 upsert)
+     * 이미 등록된 토큰이면 사용기록을 갱신하고, 다른 유저의 토큰이었다면 소유자를 변경한다.
+     *
+     * @param user     토큰을 사용하는 유저
+     * @param fcmToken 기기의 Fcm 토큰 값
+     */
     @Transactional
     public void saveFcmToken(User user, String fcmToken) {
-        Optional<FcmToken> optionalFcmToken = fcmTokenRepository.findByUser(user);
-        // 저장된 fcmToken이 있는 경우
+        if (fcmToken == null || fcmToken.isBlank()) {
+            return;
+        }
+        Optional<FcmToken> optionalFcmToken = fcmTokenRepository.findByFcmToken(fcmToken);
+        // 이미 등록된 토큰인 경우
         if (optionalFcmToken.isPresent()) {
             FcmToken savedToken = optionalFcmToken.get();
-            // 저장된 fcmToken과 전달된 fcmToken이 다른 경우 update
-            if (!savedToken.getFcmToken().equals(fcmToken)) {
-                savedToken.updateFcmToken(fcmToken);
-                fcmTokenRepository.save(savedToken);
+            Long previousOwnerId = savedToken.getUser().getId();
+            savedToken.touch(user);
+            // 같은 기기에서 다른 계정으로 로그인한 경우
+            if (!previousOwnerId.equals(user.getId())) {
+                fcmTokenCache.evict(previousOwnerId);
+                fcmTokenCache.evict(user.getId());
             }
             return;
         }
-        // 저장된 fcmToken이 없는 경우
-        FcmToken newToken = new FcmToken(user, fcmToken);
-        fcmTokenRepository.save(newToken);
+        // 새 기기인 경우
+        fcmTokenRepository.save(new FcmToken(user, fcmToken));
+        fcmTokenCache.evict(user.getId());
+    }
+
+    /**
+     * 전송에 실패한 만료 토큰 삭제
+     *
+     * @param userId    토큰 소유자 id
+     * @param fcmTokens 삭제할 토큰 값 리스트
+     */
+    @Transactional
+    public void removeTokens(Long userId, Collection<String> fcmTokens) {
+        if (fcmTokens.isEmpty()) {
+            return;
+        }
+        fcmTokenRepository.deleteByFcmTokens(fcmTokens);
+        fcmTokenCache.evict(userId);
+    }
+
+    /**
+     * 오랫동안 사용되지 않은 기기 토큰 정리
+     */
+    @Transactional
+    @Scheduled(cron = "${fcm.token.expire-cron:0 30 4 * * *}")
+    public void expireStaleTokens() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(staleDays);
+        List<Long> userIds = fcmTokenRepository.findUserIdsWithStaleTokens(threshold);
+        int deleted = fcmTokenRepository.deleteStaleTokens(threshold);
+        userIds.forEach(fcmTokenCache::evict);
+        log.info("[FcmToken] 미사용 토큰 {}건 정리", deleted);
     }
-}
\ No newline at end of file
+}
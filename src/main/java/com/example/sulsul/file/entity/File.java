@@ -1,28 +1,43 @@
 package com.example.sulsul.file.entity;
 
 import com.example.sulsul.common.BaseEntity;
+import com.example.sulsul.common.IdGeneration;
 import com.example.sulsul.common.type.FileType;
 import com.example.sulsul.essay.entity.Essay;
 import com.example.sulsul.user.entity.User;
 import lombok.*;
 
 import javax.persistence.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 @Builder
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "files")
+@Table(name = "files", indexes = {
+        @Index(name = "idx_files_essay_user", columnList = "essay_id, user_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_files_file_path_hash", columnNames = "file_path_hash")
+})
 public class File extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "file_id_generator")
+    @TableGenerator(name = "file_id_generator", table = IdGeneration.TABLE, pkColumnName = IdGeneration.PK_COLUMN,
+            valueColumnName = IdGeneration.VALUE_COLUMN, pkColumnValue = "files",
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "file_id")
     private Long id;
 
     @Column(length = 1000, nullable = false)
     private String filePath;
 
+    // 파일경로 조회용 SHA-256 해시 (긴 URL 컬럼 대신 고정 길이 유니크 인덱스로 조회)
+    @Column(name = "file_path_hash", length = 64)
+    private String filePathHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "essay_id")
     private Essay essay;
@@ -35,4 +50,33 @@ public class File extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private FileType fileType;
 
+    @PrePersist
+    private void prePersist() {
+        this.filePathHash = hashFilePath(filePath);
+    }
+
+    /**
+     * 기존 파일의 해시 채우기 (FilePathHashBackfill)
+     */
+    public void updateFilePathHash() {
+        this.filePathHash = hashFilePath(filePath);
+    }
+
+    /**
+     * 파일경로의 SHA-256 해시 (소문자 16진수 64자리)
+     * MySQL 의 SHA2(file_path, 256) 과 같은 값이다.
+     */
+    public static String hashFilePath(String filePath) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(filePath.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.example.sulsul.file.repository;
 
 import com.example.sulsul.file.entity.File;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FileRepository extends JpaRepository<File, Long> {
@@ -29,17 +32,39 @@ public interface FileRepository extends JpaRepository<File, Long> {
     Optional<File> getTeacherEssayFile(@Param("essayId") Long essayId, @Param("teacherId") Long teacherId);
 
     /**
-     * 파일경로로 파일 엔티티 조회
+     * 파일경로 해시로 파일 엔티티 조회 (uk_files_file_path_hash)
+     * 해시 충돌에 대비해 호출하는 쪽에서 파일경로가 같은지 확인한다.
      *
-     * @param filePath 조회할 파일경로
+     * @param filePathHash 조회할 파일경로의 해시 (File.hashFilePath)
      * @return 조회된 파일 엔티티 반환
      */
-    Optional<File> findByFilePath(String filePath);
+    Optional<File> findByFilePathHash(String filePathHash);
 
     /**
-     * 파일경로로 파일 엔티티 삭제
+     * 해시가 채워지지 않은 파일을 파일경로로 조회 (이전 버전 서버가 저장한 파일)
+     *
      * @param filePath 조회할 파일경로
+     * @return 조회된 파일 엔티티 반환
+     */
+    Optional<File> findFirstByFilePathAndFilePathHashIsNull(String filePath);
+
+    /**
+     * 해시가 채워지지 않은 기존 파일을 id 순으로 조회한다.
+     *
+     * @param cursorId 이전 배치의 마지막 파일 id
+     * @param pageable 조회할 개수
+     * @return 해시가 없는 파일 목록
+     */
+    @Query("select f from File f where f.filePathHash is null and f.id > :cursorId order by f.id asc")
+    List<File> findFilesWithoutHash(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    /**
+     * 이미 사용중인 파일경로 해시 조회
+     *
+     * @param filePathHashes 확인할 해시 목록
+     * @return 이미 저장된 해시 목록
      */
-    void deleteByFilePath(String filePath);
+    @Query("select f.filePathHash from File f where f.filePathHash in :filePathHashes")
+    List<String> findExistingFilePathHashes(@Param("filePathHashes") Collection<String> filePathHashes);
 
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.example.sulsul.file.service;
+
+import com.example.sulsul.file.entity.File;
+import com.example.sulsul.file.repository.FileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 파일경로 해시 backfill
+ * 기존 파일의 해시는 V5 마이그레이션이 채우고, 여기서는 배포 중 이전 버전 서버가 해시 없이 저장한 파일을 배치 단위로 채운다.
+ * 같은 파일경로가 이미 저장되어 있으면 같은 S3 객체를 가리키는 중복 행이므로 마이그레이션과 같이 삭제한다.
+ * 해시가 채워지기 전에도 FileService 는 파일경로로 조회할 수 있다.
+ */
+@Slf4j
+@Component
+public class FilePathHashBackfill {
+
+    private final FileRepository fileRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${file.path-hash.backfill-batch-size:500}")
+    private int batchSize;
+
+    public FilePathHashBackfill(FileRepository fileRepository, PlatformTransactionManager transactionManager) {
+        this.fileRepository = fileRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long cursorId = 0L;
+        int updated = 0;
+        int removed = 0;
+        while (true) {
+            Long lastId = cursorId;
+            BatchResult result = transactionTemplate.execute(status -> backfillBatch(lastId));
+            if (result == null || result.lastId == null) {
+                break;
+            }
+            updated += result.updated;
+            removed += result.removed;
+            cursorId = result.lastId;
+        }
+        if (updated > 0 || removed > 0) {
+            log.info("[File] 파일경로 해시 backfill 완료: {}건, 중복 파일 삭제 {}건", updated, removed);
+        }
+    }
+
+    private BatchResult backfillBatch(Long cursorId) {
+        List<File> files = fileRepository.findFilesWithoutHash(cursorId, PageRequest.of(0, batchSize));
+        if (files.isEmpty()) {
+            return new BatchResult(null, 0, 0);
+        }
+        Set<String> usedHashes = new HashSet<>(fileRepository.findExistingFilePathHashes(
+                files.stream().map(file -> File.hashFilePath(file.getFilePath())).collect(Collectors.toSet())));
+        int updated = 0;
+        int removed = 0;
+        for (File file : files) {
+            String hash = File.hashFilePath(file.getFilePath());
+            if (!usedHashes.add(hash)) {
+                // S3 객체는 남아 있는 행이 가리키므로 행만 삭제한다.
+                log.warn("[File] 중복된 파일경로 삭제: fileId={}, {}", file.getId(), file.getFilePath());
+                fileRepository.delete(file);
+                removed++;
+                continue;
+            }
+            file.updateFilePathHash();
+            updated++;
+        }
+        // 변경 내용은 트랜잭션 커밋시 dirty checking으로 반영된다.
+        return new BatchResult(files.get(files.size() - 1).getId(), updated, removed);
+    }
+
+    private static class BatchResult {
+        private final Long lastId;
+        private final int updated;
+        private final int removed;
+
+        private BatchResult(Long lastId, int updated, int removed) {
+            this.lastId = lastId;
+            this.updated = updated;
+            this.removed = removed;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -159,7 +160,7 @@ public class FileService {
         }
         // 기존에 업로드한 이미지 파일이 있으면 삭제
         if (uploader.getProfileImage() != null) {
-            fileRepository.findByFilePath(uploader.getProfileImage())
+            findByFilePath(uploader.getProfileImage())
                     .ifPresent(file -> deleteFile(file.getFilePath()));
         }
         // 이미지 파일을 s3 스토리지에 업로드하고 파일경로를 반환
@@ -206,9 +207,9 @@ public class FileService {
             throw new InvalidFilePathException(filePath);
         }
         // File 엔티티 조회 후 삭제
-        File file = fileRepository.findByFilePath(filePath)
+        File file = findByFilePath(filePath)
                 .orElseThrow(() -> new FileNotFoundException(filePath));
-        fileRepository.deleteById(file.getId());
+        fileRepository.delete(file);
         // S3 버킷에서 파일 삭제
         deleteFileFromBucket(filePath);
     }
@@ -238,7 +239,20 @@ public class FileService {
     @Transactional(readOnly = true)
     public File findFileByFilePath(String filePath) {
         // File 엔티티 조회 후 반환
-        return fileRepository.findByFilePath(filePath)
+        return findByFilePath(filePath)
                 .orElseThrow(() -> new FileNotFoundException(filePath));
     }
+
+    /**
+     * 파일경로 해시로 파일 엔티티를 조회한다. 해시가 충돌한 경우 다른 파일을 반환하지 않는다.
+     * 해시로 찾지 못하면 아직 해시가 채워지지 않은 파일(FilePathHashBackfill)을 파일경로로 조회한다.
+     *
+     * @param filePath 조회할 파일의 경로
+     * @return 파일경로가 일치하는 파일 엔티티
+     */
+    private Optional<File> findByFilePath(String filePath) {
+        return fileRepository.findByFilePathHash(File.hashFilePath(filePath))
+                .filter(file -> file.getFilePath().equals(filePath))
+                .or(() -> fileRepository.findFirstByFilePathAndFilePathHashIsNull(filePath));
+    }
 }
\ No newline at end of file
@@ -85,4 +85,15 @@ public class CommonExceptionHandler {
 
         return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(KakaoApiException.class)
+    public ResponseEntity<ErrorResponse> kakaoApiExceptionHandler(KakaoApiException e) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code(e.getCode())
+                .message(e.getMessage())
+                .errors(e.getErrors())
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
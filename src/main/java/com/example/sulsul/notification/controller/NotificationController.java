@@ -2,12 +2,19 @@ package com.example.sulsul.notification.controller;
 
 import com.example.sulsul.common.CurrentUser;
 import com.example.sulsul.exception.notification.InvalidCommonNotiRequestException;
+import com.example.sulsul.exception.notification.InvalidNotiDeleteRequestException;
 import com.example.sulsul.fcm.service.FcmMessageService;
 import com.example.sulsul.handler.ErrorResponse;
 import com.example.sulsul.notification.dto.CommonNotiRequest;
 import com.example.sulsul.notification.dto.CommonNotiResponse;
+import com.example.sulsul.notification.dto.NotiDeleteRequest;
+import com.example.sulsul.notification.dto.NotiDeleteResponse;
 import com.example.sulsul.notification.dto.NotiGroupResponse;
+import com.example.sulsul.notification.dto.NotiReadResponse;
+import com.example.sulsul.notification.dto.NotiResponse;
+import com.example.sulsul.notification.dto.UnreadCountResponse;
 import com.example.sulsul.notification.entity.Notification;
+import com.example.sulsul.notification.service.NotificationPublisher;
 import com.example.sulsul.notification.service.NotificationService;
 import com.example.sulsul.user.entity.User;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,18 +24,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Tag(name = "Notification", description = "알림 관련 API")
@@ -38,6 +50,7 @@ public class NotificationController {
 
     private final NotificationService notificationService;
     private final FcmMessageService fcmMessageService;
+    private final NotificationPublisher notificationPublisher;
 
     @Operation(summary = "전체알림 전송", description = "전체알림을 전송한다.")
     @ApiResponses({
@@ -72,7 +85,7 @@ public class NotificationController {
         return new ResponseEntity<>(new CommonNotiResponse(), HttpStatus.OK);
     }
 
-    @Operation(summary = "유저별 알림 조회", description = "알림을 조회한다.")
+    @Operation(summary = "유저별 알림 조회", description = "알림을 최신순으로 조회한다. 다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = NotiGroupResponse.class))),
@@ -84,9 +97,110 @@ public class NotificationController {
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/noti")
-    public ResponseEntity<?> getNotifications(@CurrentUser User user) {
+    public ResponseEntity<?> getNotifications(@CurrentUser User user,
+                                              @RequestParam(required = false) Long cursor,
+                                              @RequestParam(defaultValue = "20") int size) {
         // 유저별 알림 조회
-        List<Notification> notifications = notificationService.getEssayNotifications(user.getId());
+        Slice<Notification> notifications = notificationService.getNotifications(user.getId(), cursor, size);
         return new ResponseEntity<>(new NotiGroupResponse(notifications), HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "새 알림 조회", description = "마지막으로 읽은 알림 이후의 알림을 오래된순으로 조회한다. since를 전달하면 해당 알림 이후부터 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = NotiGroupResponse.class))),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "NOT FOUND",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/noti/unread")
+    public ResponseEntity<?> getUnreadNotifications(@CurrentUser User user,
+                                                    @RequestParam(required = false) Long since,
+                                                    @RequestParam(defaultValue = "20") int size) {
+        Slice<Notification> notifications = (since == null)
+                ? notificationService.getUnreadNotifications(user.getId(), size)
+                : notificationService.getNotificationsSince(user.getId(), since, size);
+        return new ResponseEntity<>(new NotiGroupResponse(notifications), HttpStatus.OK);
+    }
+
+    @Operation(summary = "알림 읽음처리", description = "전달한 알림 id까지 읽음처리한다. lastReadId를 생략하면 모든 알림을 읽음처리한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = NotiReadResponse.class))),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "NOT FOUND",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PutMapping("/noti/read")
+    public ResponseEntity<?> markAsRead(@CurrentUser User user,
+                                        @RequestParam(required = false) Long lastReadId) {
+        Long readId = notificationService.markAsRead(user.getId(), lastReadId);
+        return new ResponseEntity<>(new NotiReadResponse(readId), HttpStatus.OK);
+    }
+
+    @Operation(summary = "읽지 않은 알림 수 조회", description = "앱 뱃지에 표시할 읽지 않은 알림 수를 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnreadCountResponse.class))),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/noti/unread-count")
+    public ResponseEntity<?> getUnreadCount(@CurrentUser User user) {
+        long count = notificationService.getUnreadCount(user.getId());
+        return new ResponseEntity<>(new UnreadCountResponse(count), HttpStatus.OK);
+    }
+
+    @Operation(summary = "실시간 알림 구독", description = "SSE 로 새 알림을 실시간으로 전달받는다. 'notification' 이벤트로 알림 데이터가 전달된다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = NotiResponse.class))),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/noti/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@CurrentUser User user) {
+        return notificationPublisher.subscribe(user.getId());
+    }
+
+    @Operation(summary = "알림 일괄삭제", description = "알림을 한 번에 최대 100개까지 삭제한다. 전체알림은 요청한 유저에게만 숨김처리된다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = NotiDeleteResponse.class))),
+            @ApiResponse(responseCode = "400", description = "BAD REQUEST",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "405", description = "METHOD NOT ALLOWED",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @DeleteMapping("/noti")
+    public ResponseEntity<?> deleteNotifications(@CurrentUser User user,
+                                                 @RequestBody @Valid NotiDeleteRequest request,
+                                                 BindingResult bindingResult) {
+
+        // 알림 삭제요청 유효성 검사
+        if (bindingResult.hasErrors()) {
+            Map<String, String> errorMap = new HashMap<>();
+            for (FieldError error : bindingResult.getFieldErrors()) {
+                errorMap.put(error.getField(), error.getDefaultMessage());
+            }
+            throw new InvalidNotiDeleteRequestException(errorMap);
+        }
+
+        int count = notificationService.deleteNotifications(user.getId(), request.getIds());
+        return new ResponseEntity<>(new NotiDeleteResponse(count), HttpStatus.OK);
+    }
+}
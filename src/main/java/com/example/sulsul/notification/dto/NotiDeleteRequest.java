@@ -0,0 +1,22 @@
+package com.example.sulsul.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
+public class NotiDeleteRequest {
+    @NotEmpty
+    @Size(max = 100, message = "알림은 한 번에 100개까지 삭제할 수 있습니다.")
+    @Schema(description = "삭제할 알림 id 리스트", example = "[1, 2, 3]")
+    private final List<@NotNull Long> ids;
+}
@@ -0,0 +1,19 @@
+package com.example.sulsul.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class NotiDeleteResponse {
+
+    @Schema(description = "삭제 확인 메시지", example = "알림 삭제 성공")
+    private final String message;
+
+    @Schema(description = "삭제(숨김)처리된 알림 수", example = "3")
+    private final int count;
+
+    public NotiDeleteResponse(int count) {
+        this.message = "알림 삭제 성공";
+        this.count = count;
+    }
+}
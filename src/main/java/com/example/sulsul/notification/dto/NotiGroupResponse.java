@@ -3,6 +3,7 @@ package com.example.sulsul.notification.dto;
 import com.example.sulsul.notification.entity.Notification;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
+import org.springframework.data.domain.Slice;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,9 +14,19 @@ public class NotiGroupResponse {
     @Schema(description = "알림 리스트")
     private final List<NotiResponse> notifications = new ArrayList<>();
 
-    public NotiGroupResponse(List<Notification> notifications) {
+    @Schema(description = "다음 페이지 조회에 사용할 커서(마지막 알림 id), 알림이 없으면 null", example = "120")
+    private final Long nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    public NotiGroupResponse(Slice<Notification> notifications) {
         notifications.stream()
                 .map(NotiResponse::new)
                 .forEach(noti -> this.notifications.add(noti));
+
+        this.nextCursor = this.notifications.isEmpty() ? null
+                : this.notifications.get(this.notifications.size() - 1).getId();
+        this.hasNext = notifications.hasNext();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.example.sulsul.notification.dto;
+
+import com.example.sulsul.notification.entity.NotiType;
+import lombok.Getter;
+
+/**
+ * 알림 삭제 전 소유권 확인용 조회 결과
+ */
+@Getter
+public class NotiOwnership {
+
+    private final Long id;
+    private final NotiType notiType;
+    private final Long userId;
+
+    public NotiOwnership(Long id, NotiType notiType, Long userId) {
+        this.id = id;
+        this.notiType = notiType;
+        this.userId = userId;
+    }
+
+    public boolean isCommon() {
+        return notiType == NotiType.COMMON;
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return isCommon() || userId.equals(this.userId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.sulsul.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class NotiReadResponse {
+
+    @Schema(description = "마지막으로 읽은 알림 id", example = "120")
+    private final Long lastReadId;
+
+    public NotiReadResponse(Long lastReadId) {
+        this.lastReadId = lastReadId;
+    }
+}
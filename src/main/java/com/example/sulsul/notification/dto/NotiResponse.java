@@ -30,7 +30,7 @@ public class NotiResponse {
     @Schema(description = "알림 생성후 경과시간", example = "1일전")
     private final String createdAt;
 
-    @Schema(description = "관련 첨삭 id, 전체 알림의 경우 -1로 응답", example = "-1")
+    @Schema(description = "관련 첨삭 id, 전체 알림이나 여러 첨삭을 묶은 알림의 경우 -1로 응답", example = "-1")
     private final Long essayId;
 
     public NotiResponse(Notification notification) {
@@ -40,7 +40,8 @@ public class NotiResponse {
         this.notiType = notification.getNotiType().name();
 //        this.createdDate = notification.getCreatedDate().toString();
 
-        if (notiType.equals(NotiType.ESSAY)) {
+        // 여러 첨삭의 알림을 묶은 알림은 관련 첨삭이 없다.
+        if (notiType.equals(NotiType.ESSAY) && notification.getEssay() != null) {
             this.essayId = notification.getEssay().getId();
         } else {
             this.essayId = -1L;
@@ -0,0 +1,27 @@
+package com.example.sulsul.notification.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관기간 정리 대상 확인용 조회 결과
+ */
+@Getter
+public class NotiRetentionRow {
+
+    private final Long id;
+    private final LocalDateTime createdDate;
+    // 전체알림이면 null
+    private final Long userId;
+
+    public NotiRetentionRow(Long id, LocalDateTime createdDate, Long userId) {
+        this.id = id;
+        this.createdDate = createdDate;
+        this.userId = userId;
+    }
+
+    public boolean isCommon() {
+        return userId == null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.sulsul.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class UnreadCountResponse {
+
+    @Schema(description = "읽지 않은 알림 수", example = "3")
+    private final long count;
+
+    public UnreadCountResponse(long count) {
+        this.count = count;
+    }
+}
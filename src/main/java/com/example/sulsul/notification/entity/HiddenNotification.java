@@ -0,0 +1,40 @@
+package com.example.sulsul.notification.entity;
+
+import com.example.sulsul.common.BaseEntity;
+import com.example.sulsul.common.IdGeneration;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 유저가 삭제한 전체알림 표시
+ * 전체알림은 모든 유저가 공유하므로 행을 지우지 않고 유저별로 숨김 처리한다.
+ */
+@Entity
+@Getter
+@Table(name = "hidden_notifications", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_hidden_notifications_user_noti", columnNames = {"user_id", "notification_id"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HiddenNotification extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "hidden_notification_id_generator")
+    @TableGenerator(name = "hidden_notification_id_generator", table = IdGeneration.TABLE, pkColumnName = IdGeneration.PK_COLUMN,
+            valueColumnName = IdGeneration.VALUE_COLUMN, pkColumnValue = "hidden_notifications",
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
+    @Column(name = "hidden_notification_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    public HiddenNotification(Long userId, Long notificationId) {
+        this.userId = userId;
+        this.notificationId = notificationId;
+    }
+}
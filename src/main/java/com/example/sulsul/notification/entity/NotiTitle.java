@@ -7,7 +7,8 @@ public enum NotiTitle {
     ACCEPT("첨삭요청이 수락되었습니다."),
     REJECT("첨삭요청이 거절되었습니다."),
     COMPLETE("첨삭이 완료되었습니다."),
-    FILE("첨삭에 파일이 업로드되었습니다.");
+    FILE("첨삭에 파일이 업로드되었습니다."),
+    DIGEST("새로운 첨삭 알림이 있습니다.");
 
     private final String title;
 
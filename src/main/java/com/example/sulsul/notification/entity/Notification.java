@@ -12,10 +12,13 @@ import javax.persistence.*;
 
 @Entity
 @Getter
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_type_user_id", columnList = "noti_type, user_id, notification_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends BaseEntity {
     @Id
+    // id 순서를 커서(since, 읽음 위치)로 사용하므로 insert 순서대로 증가하는 IDENTITY 를 사용한다. (IdGeneration 참고)
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "notification_id")
     private Long id;
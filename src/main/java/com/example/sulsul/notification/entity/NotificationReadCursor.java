@@ -0,0 +1,43 @@
+package com.example.sulsul.notification.entity;
+
+import com.example.sulsul.common.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 유저별 마지막으로 읽은 알림 위치
+ */
+@Entity
+@Getter
+@Table(name = "notification_read_cursors")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationReadCursor extends BaseEntity {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long lastReadId;
+
+    public NotificationReadCursor(Long userId, Long lastReadId) {
+        this.userId = userId;
+        this.lastReadId = lastReadId;
+    }
+
+    /**
+     * 읽음 위치는 앞으로만 이동한다.
+     *
+     * @param lastReadId 마지막으로 읽은 알림 id
+     */
+    public void moveTo(Long lastReadId) {
+        if (lastReadId > this.lastReadId) {
+            this.lastReadId = lastReadId;
+        }
+    }
+}
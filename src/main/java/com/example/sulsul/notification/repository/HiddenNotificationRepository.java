@@ -0,0 +1,34 @@
+package com.example.sulsul.notification.repository;
+
+import com.example.sulsul.notification.entity.HiddenNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HiddenNotificationRepository extends JpaRepository<HiddenNotification, Long> {
+
+    /**
+     * 이미 숨김처리된 전체알림 id 조회
+     *
+     * @param userId          유저 id
+     * @param notificationIds 확인할 알림 id 리스트
+     * @return 숨김처리된 알림 id 리스트
+     */
+    @Query("select h.notificationId from HiddenNotification h where h.userId = :userId and h.notificationId in :notificationIds")
+    List<Long> findHiddenNotificationIds(@Param("userId") Long userId,
+                                         @Param("notificationIds") Collection<Long> notificationIds);
+
+    /**
+     * 삭제된 알림의 숨김 표시 정리
+     *
+     * @param notificationIds 삭제된 알림 id 리스트
+     * @return 삭제된 숨김 표시 수
+     */
+    @Modifying
+    @Query("delete from HiddenNotification h where h.notificationId in :notificationIds")
+    int deleteAllByNotificationIds(@Param("notificationIds") Collection<Long> notificationIds);
+}
@@ -0,0 +1,7 @@
+package com.example.sulsul.notification.repository;
+
+import com.example.sulsul.notification.entity.NotificationReadCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationReadCursorRepository extends JpaRepository<NotificationReadCursor, Long> {
+}
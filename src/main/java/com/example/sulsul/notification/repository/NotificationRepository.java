@@ -1,29 +1,183 @@
 package com.example.sulsul.notification.repository;
 
+import com.example.sulsul.notification.dto.NotiOwnership;
+import com.example.sulsul.notification.dto.NotiRetentionRow;
 import com.example.sulsul.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * 전체알림 및 첨삭알림 조회
+     * 커서 이전의 전체알림 조회 (최신순, 유저가 숨긴 알림 제외)
+     * (noti_type, user_id, notification_id) 인덱스를 타도록 user_id is null 조건을 함께 건다.
      *
-     * @param userId 알림대상의 id
+     * @param userId   조회하는 유저의 id
+     * @param cursorId 이전 페이지의 마지막 알림 id
+     * @param pageable 조회할 개수
+     * @return 전체알림 리스트
+     */
+    @Query("select n from Notification n where n.notiType = 'COMMON' and n.user is null and n.id < :cursorId"
+            + " and not exists (select h.id from HiddenNotification h where h.userId = :userId and h.notificationId = n.id) order by n.id desc")
+    List<Notification> findCommonNotificationsBefore(@Param("userId") Long userId,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Pageable pageable);
+
+    /**
+     * 커서 이전의 첨삭알림 조회 (최신순)
+     *
+     * @param userId   알림대상의 id
+     * @param cursorId 이전 페이지의 마지막 알림 id
+     * @param pageable 조회할 개수
      * @return 첨삭알림 리스트
      */
-    @Query("select n from Notification n where n.notiType = 'COMMON' or (n.notiType = 'ESSAY' and n.user.id = :userId) order by n.id desc")
-    List<Notification> findNotificationByUserId(@Param("userId") Long userId);
+    @Query("select n from Notification n where n.notiType = 'ESSAY' and n.user.id = :userId and n.id < :cursorId order by n.id desc")
+    List<Notification> findEssayNotificationsBefore(@Param("userId") Long userId,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
 
     /**
-     * 알림 삭제
+     * 커서 이후에 생성된 전체알림 조회 (오래된순, 유저가 숨긴 알림 제외)
+     *
+     * @param userId   조회하는 유저의 id
+     * @param sinceId  마지막으로 읽은 알림 id
+     * @param pageable 조회할 개수
+     * @return 전체알림 리스트
+     */
+    @Query("select n from Notification n where n.notiType = 'COMMON' and n.user is null and n.id > :sinceId"
+            + " and not exists (select h.id from HiddenNotification h where h.userId = :userId and h.notificationId = n.id) order by n.id asc")
+    List<Notification> findCommonNotificationsAfter(@Param("userId") Long userId,
+                                                    @Param("sinceId") Long sinceId,
+                                                    Pageable pageable);
+
+    /**
+     * 커서 이후에 생성된 첨삭알림 조회 (오래된순)
+     *
+     * @param userId   알림대상의 id
+     * @param sinceId  마지막으로 읽은 알림 id
+     * @param pageable 조회할 개수
+     * @return 첨삭알림 리스트
+     */
+    @Query("select n from Notification n where n.notiType = 'ESSAY' and n.user.id = :userId and n.id > :sinceId order by n.id asc")
+    List<Notification> findEssayNotificationsAfter(@Param("userId") Long userId,
+                                                   @Param("sinceId") Long sinceId,
+                                                   Pageable pageable);
+
+    /**
+     * 가장 최근 전체알림 id 조회
+     *
+     * @return 최근 전체알림 id, 없으면 null
+     */
+    @Query("select max(n.id) from Notification n where n.notiType = 'COMMON' and n.user is null")
+    Long findLatestCommonNotificationId();
+
+    /**
+     * 가장 최근 첨삭알림 id 조회
+     *
+     * @param userId 알림대상의 id
+     * @return 최근 첨삭알림 id, 없으면 null
+     */
+    @Query("select max(n.id) from Notification n where n.notiType = 'ESSAY' and n.user.id = :userId")
+    Long findLatestEssayNotificationId(@Param("userId") Long userId);
+
+    /**
+     * 특정 알림 이후에 생성된 전체알림 수 조회 (유저가 숨긴 알림 제외)
+     *
+     * @param userId  조회하는 유저의 id
+     * @param sinceId 기준 알림 id
+     * @return 전체알림 수
+     */
+    @Query("select count(n) from Notification n where n.notiType = 'COMMON' and n.user is null and n.id > :sinceId"
+            + " and not exists (select h.id from HiddenNotification h where h.userId = :userId and h.notificationId = n.id)")
+    long countCommonNotificationsAfter(@Param("userId") Long userId, @Param("sinceId") Long sinceId);
+
+    /**
+     * 특정 알림 이후에 생성된 첨삭알림 수 조회
+     *
+     * @param userId  알림대상의 id
+     * @param sinceId 기준 알림 id
+     * @return 첨삭알림 수
+     */
+    @Query("select count(n) from Notification n where n.notiType = 'ESSAY' and n.user.id = :userId and n.id > :sinceId")
+    long countEssayNotificationsAfter(@Param("userId") Long userId, @Param("sinceId") Long sinceId);
+
+    /**
+     * 삭제요청된 알림들의 타입과 수신자 조회 (소유권 확인용)
+     *
+     * @param ids 삭제요청된 알림 id 리스트
+     * @return 알림 id, 타입, 수신자 id 리스트
+     */
+    @Query("select new com.example.sulsul.notification.dto.NotiOwnership(n.id, n.notiType, u.id) "
+            + "from Notification n left join n.user u where n.id in :ids")
+    List<NotiOwnership> findOwnerships(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 유저의 첨삭알림 삭제
+     *
+     * @param userId 알림 수신자 id
+     * @param ids    삭제할 알림들의 id 리스트
+     * @return 삭제된 알림 수
+     */
+    @Modifying
+    @Query("delete from Notification n where n.id in :ids and n.notiType = 'ESSAY' and n.user.id = :userId")
+    int deleteEssayNotifications(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+
+    /**
+     * 커서 이후 알림의 id, 생성일, 수신자 id 조회 (오래된순)
+     * 기본키 순서로 배치 크기만큼만 읽기 때문에 생성일 인덱스 없이도 오래된 알림을 찾을 수 있다.
+     *
+     * @param lastId   이전 배치의 마지막 알림 id
+     * @param pageable 배치 크기
+     * @return 알림 id, 생성일, 수신자 id 리스트
+     */
+    @Query("select new com.example.sulsul.notification.dto.NotiRetentionRow(n.id, n.createdDate, u.id) "
+            + "from Notification n left join n.user u where n.id > :lastId order by n.id asc")
+    List<NotiRetentionRow> findRetentionRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 보관개수를 초과한 첨삭알림을 가진 유저 id 조회
+     *
+     * @param cap 유저별 최대 보관개수
+     * @return 유저 id 리스트
+     */
+    @Query("select n.user.id from Notification n where n.notiType = 'ESSAY' group by n.user.id having count(n) > :cap")
+    List<Long> findUserIdsExceedingCap(@Param("cap") long cap);
+
+    /**
+     * 유저의 첨삭알림 id 조회 (최신순)
+     *
+     * @param userId   알림대상의 id
+     * @param pageable 조회 위치와 개수
+     * @return 알림 id 리스트
+     */
+    @Query("select n.id from Notification n where n.notiType = 'ESSAY' and n.user.id = :userId order by n.id desc")
+    List<Long> findEssayNotificationIds(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 기준 id 이하인 유저의 첨삭알림 id 조회 (오래된순)
+     *
+     * @param userId   알림대상의 id
+     * @param maxId    기준 알림 id
+     * @param pageable 배치 크기
+     * @return 알림 id 리스트
+     */
+    @Query("select n.id from Notification n where n.notiType = 'ESSAY' and n.user.id = :userId and n.id <= :maxId order by n.id asc")
+    List<Long> findEssayNotificationIdsUpTo(@Param("userId") Long userId, @Param("maxId") Long maxId, Pageable pageable);
+
+    /**
+     * 알림 삭제 (보관기간 정리용)
      *
      * @param ids 삭제할 알림들의 id 리스트
+     * @return 삭제된 알림 수
      */
+    @Modifying
     @Query("delete from Notification n where n.id in :ids")
-    void deleteNotifications(@Param("ids") List<Long> ids);
-
-}
\ No newline at end of file
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,134 @@
+package com.example.sulsul.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 묶음 전송 대기중인 첨삭알림 저장소 (Redis)
+ * 유저별 리스트에 알림을 쌓고, 전송 예정 시각을 sorted set 에 유저 id 로 기록한다.
+ * 서버가 재시작되거나 다른 서버로 배포되어도 대기중인 알림이 남아 있어 어느 서버에서든 전송된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalesceBuffer {
+
+    private static final String EVENTS_KEY_PREFIX = "noti:coalesce:events:";
+    private static final String DUE_KEY = "noti:coalesce:due";
+    // 전송 예정 기록이 사라진 경우를 대비한 리스트 만료 시간
+    private static final Duration EVENTS_TTL = Duration.ofDays(1);
+
+    /**
+     * 알림을 쌓고 첫 알림이면 전송 예정 시각(ARGV[2])을 기록한다.
+     * 쌓인 알림 개수를 반환
+     */
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('RPUSH', KEYS[1], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('ZADD', KEYS[2], 'NX', ARGV[2], ARGV[3]) " +
+            "return redis.call('LLEN', KEYS[1])", Long.class);
+
+    /**
+     * 전송 예정 기록을 지운 서버만 쌓인 알림을 가져간다. (여러 서버가 동시에 전송하지 않도록)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then return {} end " +
+            "local events = redis.call('LRANGE', KEYS[2], 0, -1) " +
+            "redis.call('DEL', KEYS[2]) " +
+            "return events", List.class);
+
+    /**
+     * 전송에 실패한 알림(ARGV[4..])을 순서대로 리스트 앞에 되돌리고 전송 예정 시각(ARGV[1])을 기록한다.
+     * 그 사이에 쌓인 알림이 있으면 기존 전송 예정 시각을 유지한다.
+     */
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "for i = #ARGV, 4, -1 do redis.call('LPUSH', KEYS[1], ARGV[i]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "redis.call('ZADD', KEYS[2], 'NX', ARGV[1], ARGV[2]) " +
+            "return redis.call('LLEN', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 알림 추가
+     *
+     * @param targetId 알림 수신자 id
+     * @param event    직렬화한 알림
+     * @param dueAt    첫 알림일 경우 전송 예정 시각 (epoch ms)
+     * @return 쌓인 알림 개수
+     */
+    public long append(Long targetId, String event, long dueAt) {
+        Long size = redisTemplate.execute(APPEND_SCRIPT, List.of(EVENTS_KEY_PREFIX + targetId, DUE_KEY),
+                event, String.valueOf(dueAt), String.valueOf(targetId), String.valueOf(EVENTS_TTL.toMillis()));
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 가져간 알림을 전송하지 못한 경우 다시 쌓음
+     *
+     * @param targetId 알림 수신자 id
+     * @param events   직렬화한 알림 목록 (쌓인 순서)
+     * @param dueAt    다시 전송할 시각 (epoch ms)
+     */
+    public void requeue(Long targetId, List<String> events, long dueAt) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(events.size() + 3);
+        args.add(String.valueOf(dueAt));
+        args.add(String.valueOf(targetId));
+        args.add(String.valueOf(EVENTS_TTL.toMillis()));
+        args.addAll(events);
+        redisTemplate.execute(REQUEUE_SCRIPT, List.of(EVENTS_KEY_PREFIX + targetId, DUE_KEY), args.toArray());
+    }
+
+    /**
+     * 바로 전송하도록 전송 예정 시각을 앞당김
+     *
+     * @param targetId 알림 수신자 id
+     */
+    public void markDue(Long targetId) {
+        redisTemplate.opsForZSet().add(DUE_KEY, String.valueOf(targetId), 0);
+    }
+
+    /**
+     * 전송 예정 시각이 지난 유저 id 조회
+     *
+     * @param now   현재 시각 (epoch ms)
+     * @param limit 최대 조회 개수
+     * @return 유저 id 목록
+     */
+    public Set<Long> dueTargets(long now, int limit) {
+        Set<String> targets = redisTemplate.opsForZSet().rangeByScore(DUE_KEY, 0, now, 0, limit);
+        if (targets == null) {
+            return Collections.emptySet();
+        }
+        return targets.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 유저에게 쌓인 알림을 가져오고 비움
+     * 다른 서버가 먼저 가져간 경우 빈 리스트를 반환
+     *
+     * @param targetId 알림 수신자 id
+     * @return 직렬화한 알림 목록 (쌓인 순서)
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> claim(Long targetId) {
+        List<String> events = redisTemplate.execute(CLAIM_SCRIPT, List.of(DUE_KEY, EVENTS_KEY_PREFIX + targetId),
+                String.valueOf(targetId));
+        return events == null ? Collections.emptyList() : events;
+    }
+}
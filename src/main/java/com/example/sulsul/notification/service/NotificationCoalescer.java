@@ -0,0 +1,251 @@
+package com.example.sulsul.notification.service;
+
+import com.example.sulsul.essay.entity.Essay;
+import com.example.sulsul.essay.repository.EssayRepository;
+import com.example.sulsul.fcm.service.FcmMessageService;
+import com.example.sulsul.notification.entity.NotiTitle;
+import com.example.sulsul.user.entity.User;
+import com.example.sulsul.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 첨삭알림 묶음 전송
+ * 같은 유저에게 짧은 시간 안에 발생한 첨삭알림을 모아 하나의 알림 저장과 하나의 푸시로 전송한다.
+ * 첫 알림이 들어온 뒤 window-ms 가 지나거나 max-events 개가 쌓이면 전송한다.
+ * 대기중인 알림은 Redis(NotificationCoalesceBuffer)에 쌓아서 서버가 재시작되어도 유실되지 않는다.
+ * 알림 저장에 실패하면 가져간 알림을 다시 쌓아 window-ms 뒤에 다시 전송한다. (MAX_ATTEMPTS 번까지)
+ * 여러 첨삭의 알림을 묶은 경우 특정 첨삭으로 연결하지 않는다.
+ * noti.essay.enabled 가 꺼져 있으면 첨삭알림을 보내지 않는다. (기존 동작)
+ */
+@Slf4j
+@Service
+public class NotificationCoalescer {
+
+    private static final int CLAIM_LIMIT = 100;
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final NotificationService notificationService;
+    private final FcmMessageService fcmMessageService;
+    private final NotificationCoalesceBuffer buffer;
+    private final UserRepository userRepository;
+    private final EssayRepository essayRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxEvents;
+    private final long pollIntervalMillis;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "noti-coalescer-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public NotificationCoalescer(NotificationService notificationService,
+                                 FcmMessageService fcmMessageService,
+                                 NotificationCoalesceBuffer buffer,
+                                 UserRepository userRepository,
+                                 EssayRepository essayRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${noti.essay.enabled:false}") boolean enabled,
+                                 @Value("${noti.coalesce.window-ms:10000}") long windowMillis,
+                                 @Value("${noti.coalesce.max-events:20}") int maxEvents,
+                                 @Value("${noti.coalesce.poll-interval-ms:1000}") long pollIntervalMillis) {
+        this.notificationService = notificationService;
+        this.fcmMessageService = fcmMessageService;
+        this.buffer = buffer;
+        this.userRepository = userRepository;
+        this.essayRepository = essayRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.maxEvents = maxEvents;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::flushDue, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 대기중인 알림은 Redis 에 남아 있으므로 다른 서버나 재시작한 서버가 전송한다.
+        scheduler.shutdown();
+    }
+
+    /**
+     * 첨삭알림 전송 요청
+     *
+     * @param target 알림 수신자
+     * @param essay  알림 관련 essay
+     * @param title  알림 제목
+     * @param body   알림 내용
+     */
+    public void send(User target, Essay essay, NotiTitle title, String body) {
+        if (!enabled) {
+            return;
+        }
+        NotiEvent event = new NotiEvent(essay.getId(), title.getTitle(), body);
+        Long targetId = target.getId();
+        if (windowMillis <= 0) {
+            deliver(targetId, List.of(event));
+            return;
+        }
+
+        try {
+            long size = buffer.append(targetId, objectMapper.writeValueAsString(event),
+                    System.currentTimeMillis() + windowMillis);
+            // 너무 많이 쌓이면 바로 전송
+            if (size >= maxEvents) {
+                buffer.markDue(targetId);
+                scheduler.execute(this::flushDue);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis 장애시 묶지 않고 바로 전송
+            log.warn("[NotificationCoalescer] 알림 대기열 저장 실패, 바로 전송: targetId={}, {}", targetId, e.getMessage());
+            scheduler.execute(() -> deliver(targetId, List.of(event)));
+        }
+    }
+
+    /**
+     * 전송 예정 시각이 지난 유저의 알림 전송
+     */
+    void flushDue() {
+        try {
+            for (Long targetId : buffer.dueTargets(System.currentTimeMillis(), CLAIM_LIMIT)) {
+                List<NotiEvent> events = parse(buffer.claim(targetId));
+                if (!deliver(targetId, events)) {
+                    requeue(targetId, events);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 예외가 발생하면 이후 스케줄이 취소되므로 로그만 남긴다.
+            log.warn("[NotificationCoalescer] 대기중인 알림 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<NotiEvent> parse(List<String> rawEvents) {
+        List<NotiEvent> events = new ArrayList<>(rawEvents.size());
+        for (String rawEvent : rawEvents) {
+            try {
+                events.add(objectMapper.readValue(rawEvent, NotiEvent.class));
+            } catch (JsonProcessingException e) {
+                log.warn("[NotificationCoalescer] 알림 역직렬화 실패: {}", rawEvent);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * 알림 저장과 푸시 전송
+     *
+     * @return 알림 저장에 실패한 경우 false (푸시 전송 실패는 알림이 이미 저장되었으므로 true)
+     */
+    private boolean deliver(Long targetId, List<NotiEvent> events) {
+        if (events.isEmpty()) {
+            return true;
+        }
+        NotiEvent latest = events.get(events.size() - 1);
+        String title = latest.getTitle();
+        String body = latest.getBody();
+        if (events.size() > 1) {
+            title = NotiTitle.DIGEST.getTitle();
+            body = String.format("%s 외 %d건의 알림이 있습니다.", latest.getBody(), events.size() - 1);
+        }
+        // 여러 첨삭의 알림을 묶은 경우 마지막 첨삭으로만 연결되지 않도록 첨삭을 비워둔다.
+        Long essayId = latest.getEssayId();
+        boolean singleEssay = events.stream().allMatch(event -> Objects.equals(essayId, event.getEssayId()));
+
+        User target;
+        try {
+            String digestTitle = title;
+            String digestBody = body;
+            // 알림 저장에는 id 만 필요하므로 조회 없이 참조만 사용한다.
+            target = transactionTemplate.execute(status -> {
+                User user = userRepository.getReferenceById(targetId);
+                Essay essay = singleEssay ? essayRepository.getReferenceById(essayId) : null;
+                notificationService.saveEssayNotification(digestTitle, digestBody, user, essay);
+                return user;
+            });
+        } catch (RuntimeException e) {
+            // 알림 저장 실패가 다른 유저의 알림 전송에 영향을 주지 않도록 한다.
+            log.warn("[NotificationCoalescer] 알림 저장 실패: targetId={}, {}", targetId, e.getMessage());
+            return false;
+        }
+        try {
+            fcmMessageService.sendToOne(target, title, body);
+        } catch (RuntimeException e) {
+            log.warn("[NotificationCoalescer] 푸시 전송 실패: targetId={}, {}", targetId, e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * 저장에 실패한 알림을 다시 쌓아 window-ms 뒤에 다시 전송
+     * MAX_ATTEMPTS 번 실패한 알림은 버린다.
+     */
+    private void requeue(Long targetId, List<NotiEvent> events) {
+        List<String> retries = new ArrayList<>(events.size());
+        for (NotiEvent event : events) {
+            if (event.getAttempts() + 1 >= MAX_ATTEMPTS) {
+                log.error("[NotificationCoalescer] 알림 저장 재시도 횟수 초과로 버림: targetId={}, title={}",
+                        targetId, event.getTitle());
+                continue;
+            }
+            try {
+                retries.add(objectMapper.writeValueAsString(event.retried()));
+            } catch (JsonProcessingException e) {
+                log.error("[NotificationCoalescer] 알림 직렬화 실패로 버림: targetId={}, title={}", targetId, event.getTitle());
+            }
+        }
+        try {
+            buffer.requeue(targetId, retries, System.currentTimeMillis() + windowMillis);
+        } catch (RuntimeException e) {
+            log.error("[NotificationCoalescer] 알림 대기열 복구 실패: targetId={}, {}건, {}",
+                    targetId, retries.size(), e.getMessage());
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor
+    static class NotiEvent {
+        private Long essayId;
+        private String title;
+        private String body;
+        // 알림 저장 실패 횟수
+        private int attempts;
+
+        NotiEvent(Long essayId, String title, String body) {
+            this(essayId, title, body, 0);
+        }
+
+        NotiEvent retried() {
+            return new NotiEvent(essayId, title, body, attempts + 1);
+        }
+    }
+}
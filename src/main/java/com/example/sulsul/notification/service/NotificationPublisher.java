@@ -0,0 +1,51 @@
+package com.example.sulsul.notification.service;
+
+import com.example.sulsul.common.AfterCommit;
+import com.example.sulsul.common.sse.SseHub;
+import com.example.sulsul.common.sse.SseRedisRelay;
+import com.example.sulsul.notification.dto.NotiResponse;
+import com.example.sulsul.notification.entity.NotiType;
+import com.example.sulsul.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * 새 알림 실시간 전달 (SSE)
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationPublisher {
+
+    private static final String EVENT_NAME = "notification";
+    private static final String COMMON_TOPIC = "noti:common";
+    private static final String USER_TOPIC_PREFIX = "noti:user:";
+
+    private final SseHub sseHub;
+    private final SseRedisRelay sseRedisRelay;
+
+    /**
+     * 유저의 알림 스트림 구독 (첨삭알림 + 전체알림)
+     *
+     * @param userId 구독할 유저 id
+     * @return SseEmitter
+     */
+    public SseEmitter subscribe(Long userId) {
+        return sseHub.subscribe(List.of(USER_TOPIC_PREFIX + userId, COMMON_TOPIC));
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 알림 대상에게 새 알림 전달
+     *
+     * @param notification 저장된 알림
+     */
+    public void publish(Notification notification) {
+        String topic = (notification.getNotiType() == NotiType.COMMON)
+                ? COMMON_TOPIC
+                : USER_TOPIC_PREFIX + notification.getUser().getId();
+        NotiResponse response = new NotiResponse(notification);
+        AfterCommit.run(() -> sseRedisRelay.publish(topic, EVENT_NAME, response));
+    }
+}
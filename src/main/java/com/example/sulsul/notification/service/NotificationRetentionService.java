@@ -0,0 +1,230 @@
+package com.example.sulsul.notification.service;
+
+import com.example.sulsul.notification.dto.NotiRetentionRow;
+import com.example.sulsul.notification.repository.HiddenNotificationRepository;
+import com.example.sulsul.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 알림 보관기간 정리
+ * - 보관기간이 지난 알림 삭제
+ * - 유저별 최대 보관개수를 초과한 오래된 첨삭알림 삭제
+ * 운영 트래픽과 경합하지 않도록 작은 배치 단위의 짧은 트랜잭션으로 삭제하고, 배치 사이에 쉬어간다.
+ * 삭제가 끝나면 첨삭알림이 삭제된 유저의 읽지 않은 알림 카운터를 다시 세고, 삭제된 전체알림 수만큼 전체알림 카운터를 줄인다.
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private static final String LOCK_KEY = "noti:retention:lock";
+
+    /**
+     * 락을 잡은 서버(ARGV[1])일 때만 락을 해제한다.
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final NotificationRepository notificationRepository;
+    private final HiddenNotificationRepository hiddenNotificationRepository;
+    private final NotificationService notificationService;
+    private final UnreadCountService unreadCountService;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Counter agePurged;
+    private final Counter capPurged;
+    private final Timer batchTimer;
+
+    @Value("${noti.retention.enabled:false}")
+    private boolean enabled;
+
+    @Value("${noti.retention.max-age-days:180}")
+    private int maxAgeDays;
+
+    @Value("${noti.retention.per-user-cap:500}")
+    private int perUserCap;
+
+    @Value("${noti.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${noti.retention.batch-pause-ms:200}")
+    private long batchPauseMillis;
+
+    public NotificationRetentionService(NotificationRepository notificationRepository,
+                                        HiddenNotificationRepository hiddenNotificationRepository,
+                                        NotificationService notificationService,
+                                        UnreadCountService unreadCountService,
+                                        TransactionTemplate transactionTemplate,
+                                        StringRedisTemplate redisTemplate,
+                                        MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.hiddenNotificationRepository = hiddenNotificationRepository;
+        this.notificationService = notificationService;
+        this.unreadCountService = unreadCountService;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+        this.agePurged = Counter.builder("notification.purge.rows")
+                .description("보관기간 정리로 삭제된 알림 수")
+                .tag("reason", "age")
+                .register(meterRegistry);
+        this.capPurged = Counter.builder("notification.purge.rows")
+                .description("보관기간 정리로 삭제된 알림 수")
+                .tag("reason", "per-user-cap")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("notification.purge.batch")
+                .description("알림 삭제 배치 소요시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${noti.retention.cron:0 0 4 * * *}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        // 여러 서버 중 한 곳에서만 실행
+        String owner = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, Duration.ofHours(1));
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            long byAge = purgeExpired(LocalDateTime.now().minusDays(maxAgeDays));
+            long byCap = purgeOverCap();
+            log.info("[NotificationRetention] 알림 정리 완료: 보관기간 초과 {}건, 보관개수 초과 {}건", byAge, byCap);
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), owner);
+        }
+    }
+
+    /**
+     * 보관기간이 지난 알림 삭제
+     * 알림 id는 생성순으로 증가하므로 기본키 순서로 읽다가 기준일 이후의 알림을 만나면 멈춘다.
+     * 생성일이 없는 알림은 보관기간을 알 수 없으므로 삭제하지 않고 건너뛴다. (보관개수 정리 대상에는 포함)
+     *
+     * @param threshold 이 시각 이전에 생성된 알림을 삭제
+     * @return 삭제된 알림 수
+     */
+    public long purgeExpired(LocalDateTime threshold) {
+        long purged = 0;
+        long lastId = 0L;
+        long commonPurged = 0;
+        Set<Long> affectedUserIds = new HashSet<>();
+        while (true) {
+            List<NotiRetentionRow> rows = notificationRepository.findRetentionRowsAfter(lastId, PageRequest.of(0, batchSize));
+            List<Long> expiredIds = new ArrayList<>(rows.size());
+            long expiredCommons = 0;
+            boolean reachedThreshold = false;
+            for (NotiRetentionRow row : rows) {
+                if (row.getCreatedDate() == null) {
+                    lastId = row.getId();
+                    continue;
+                }
+                if (!row.getCreatedDate().isBefore(threshold)) {
+                    reachedThreshold = true;
+                    break;
+                }
+                expiredIds.add(row.getId());
+                if (row.isCommon()) {
+                    expiredCommons++;
+                } else {
+                    affectedUserIds.add(row.getUserId());
+                }
+                lastId = row.getId();
+            }
+            if (!expiredIds.isEmpty()) {
+                int deleted = deleteBatch(expiredIds);
+                agePurged.increment(deleted);
+                purged += deleted;
+                // 전체알림은 유저가 삭제하지 않고 숨기기만 하므로 조회한 만큼 삭제된다.
+                commonPurged += expiredCommons;
+            }
+            if (reachedThreshold || rows.size() < batchSize) {
+                unreadCountService.decreaseCommonCount(commonPurged);
+                affectedUserIds.forEach(this::refreshUnreadCount);
+                return purged;
+            }
+            pause();
+        }
+    }
+
+    /**
+     * 유저별 최대 보관개수를 초과한 오래된 첨삭알림 삭제
+     *
+     * @return 삭제된 알림 수
+     */
+    public long purgeOverCap() {
+        long purged = 0;
+        for (Long userId : notificationRepository.findUserIdsExceedingCap(perUserCap)) {
+            // 최신 perUserCap 개를 제외한 알림 중 가장 최근 알림 id
+            List<Long> boundary = notificationRepository.findEssayNotificationIds(userId, PageRequest.of(perUserCap, 1));
+            if (boundary.isEmpty()) {
+                continue;
+            }
+            Long maxId = boundary.get(0);
+            while (true) {
+                List<Long> ids = notificationRepository.findEssayNotificationIdsUpTo(userId, maxId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                int deleted = deleteBatch(ids);
+                capPurged.increment(deleted);
+                purged += deleted;
+                if (ids.size() < batchSize) {
+                    break;
+                }
+                pause();
+            }
+            refreshUnreadCount(userId);
+        }
+        return purged;
+    }
+
+    // 삭제된 첨삭알림이 읽지 않은 알림이었을 수 있으므로 카운터를 다시 센다.
+    private void refreshUnreadCount(Long userId) {
+        try {
+            notificationService.refreshUnreadCount(userId);
+        } catch (RuntimeException e) {
+            log.warn("[NotificationRetention] 읽지 않은 알림 카운터 재설정 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    private int deleteBatch(List<Long> ids) {
+        Integer deleted = batchTimer.record(() -> transactionTemplate.execute(status -> {
+            hiddenNotificationRepository.deleteAllByNotificationIds(ids);
+            return notificationRepository.deleteAllByIds(ids);
+        }));
+        return (deleted == null) ? 0 : deleted;
+    }
+
+    private void pause() {
+        if (batchPauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("알림 정리 작업이 중단되었습니다.", e);
+        }
+    }
+}
@@ -1,20 +1,50 @@
 package com.example.sulsul.notification.service;
 
 import com.example.sulsul.essay.entity.Essay;
+import com.example.sulsul.exception.notification.NotAllowedNotiDeleteException;
+import com.example.sulsul.notification.dto.NotiOwnership;
+import com.example.sulsul.notification.entity.HiddenNotification;
 import com.example.sulsul.notification.entity.Notification;
+import com.example.sulsul.notification.entity.NotificationReadCursor;
+import com.example.sulsul.notification.repository.HiddenNotificationRepository;
+import com.example.sulsul.notification.repository.NotificationReadCursorRepository;
 import com.example.sulsul.notification.repository.NotificationRepository;
 import com.example.sulsul.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationReadCursorRepository readCursorRepository;
+    private final UnreadCountService unreadCountService;
+    private final NotificationPublisher notificationPublisher;
+    private final HiddenNotificationRepository hiddenNotificationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${noti.delete.batch-size:50}")
+    private int deleteBatchSize;
 
     /**
      * 첨삭알림 생성
@@ -34,6 +64,8 @@ public class NotificationService {
                 .build();
 
         notificationRepository.save(notification);
+        unreadCountService.increaseEssayCount(target.getId());
+        notificationPublisher.publish(notification);
     }
 
     /**
@@ -46,26 +78,204 @@ public class NotificationService {
     public void saveCommonNotification(String title, String body) {
         Notification notification = new Notification(title, body);
         notificationRepository.save(notification);
+        unreadCountService.increaseCommonCount();
+        notificationPublisher.publish(notification);
     }
 
     /**
      * 알림 일괄삭제
+     * 요청된 알림의 소유권을 한 번에 확인한 뒤, 첨삭알림은 작은 배치 단위의 트랜잭션으로 삭제하고
+     * 전체알림은 유저별 숨김 표시만 남긴다. 이미 삭제된 알림이나 이미 숨긴 전체알림은 무시한다.
      *
-     * @param ids 삭제할 알림 id 리스트
+     * @param userId 삭제를 요청한 유저 id
+     * @param ids    삭제할 알림 id 리스트
+     * @return 이번 요청으로 삭제(숨김)처리된 알림 수
      */
-    @Transactional
-    public void deleteNotifications(List<Long> ids) {
-        notificationRepository.deleteNotifications(ids);
+    public int deleteNotifications(Long userId, List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        List<NotiOwnership> ownerships = notificationRepository.findOwnerships(requested);
+
+        List<Long> essayIds = new ArrayList<>();
+        List<Long> commonIds = new ArrayList<>();
+        for (NotiOwnership ownership : ownerships) {
+            if (!ownership.isOwnedBy(userId)) {
+                throw new NotAllowedNotiDeleteException(ownership.getId());
+            }
+            if (ownership.isCommon()) {
+                commonIds.add(ownership.getId());
+            } else {
+                essayIds.add(ownership.getId());
+            }
+        }
+
+        int count = 0;
+        for (int from = 0; from < essayIds.size(); from += deleteBatchSize) {
+            List<Long> batch = essayIds.subList(from, Math.min(from + deleteBatchSize, essayIds.size()));
+            Integer deleted = transactionTemplate.execute(status ->
+                    notificationRepository.deleteEssayNotifications(userId, batch));
+            count += (deleted == null) ? 0 : deleted;
+        }
+        if (!commonIds.isEmpty()) {
+            count += transactionTemplate.execute(status -> hideCommonNotifications(userId, commonIds));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> refreshUnreadCount(userId, getLastReadId(userId)));
+        return count;
+    }
+
+    private int hideCommonNotifications(Long userId, List<Long> commonIds) {
+        Set<Long> alreadyHidden = new HashSet<>(hiddenNotificationRepository.findHiddenNotificationIds(userId, commonIds));
+        List<HiddenNotification> markers = commonIds.stream()
+                .filter(id -> !alreadyHidden.contains(id))
+                .map(id -> new HiddenNotification(userId, id))
+                .collect(Collectors.toList());
+        hiddenNotificationRepository.saveAll(markers);
+        return markers.size();
+    }
+
+    /**
+     * 유저별 알림 페이지 조회 (최신순, 커서 기반)
+     * 전체알림과 첨삭알림을 각각 인덱스로 조회한 뒤 id 기준으로 병합한다.
+     *
+     * @param userId   알림을 조회할 유저 id
+     * @param cursorId 이전 페이지의 마지막 알림 id, 첫 페이지는 null
+     * @param size     페이지 크기
+     * @return 알림 페이지
+     */
+    @Transactional(readOnly = true)
+    public Slice<Notification> getNotifications(Long userId, Long cursorId, int size) {
+        int pageSize = normalizeSize(size);
+        long cursor = (cursorId == null) ? Long.MAX_VALUE : cursorId;
+        // 다음 페이지 존재여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> commons = notificationRepository.findCommonNotificationsBefore(userId, cursor, limit);
+        List<Notification> essays = notificationRepository.findEssayNotificationsBefore(userId, cursor, limit);
+        return merge(commons, essays, Comparator.comparing(Notification::getId).reversed(), pageSize);
     }
 
     /**
-     * 유저별 알림 조회
+     * 마지막으로 읽은 알림 이후의 새 알림 조회 (오래된순)
      *
      * @param userId 알림을 조회할 유저 id
-     * @return 알림 리스트
+     * @param size   페이지 크기
+     * @return 새 알림 페이지
+     */
+    @Transactional(readOnly = true)
+    public Slice<Notification> getUnreadNotifications(Long userId, int size) {
+        return getNotificationsSince(userId, getLastReadId(userId), size);
+    }
+
+    /**
+     * 특정 알림 이후에 생성된 알림 조회 (오래된순)
+     *
+     * @param userId  알림을 조회할 유저 id
+     * @param sinceId 기준 알림 id
+     * @param size    페이지 크기
+     * @return 알림 페이지
+     */
+    @Transactional(readOnly = true)
+    public Slice<Notification> getNotificationsSince(Long userId, Long sinceId, int size) {
+        int pageSize = normalizeSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> commons = notificationRepository.findCommonNotificationsAfter(userId, sinceId, limit);
+        List<Notification> essays = notificationRepository.findEssayNotificationsAfter(userId, sinceId, limit);
+        return merge(commons, essays, Comparator.comparing(Notification::getId), pageSize);
+    }
+
+    /**
+     * 유저의 마지막으로 읽은 알림 id 조회
+     *
+     * @param userId 유저 id
+     * @return 마지막으로 읽은 알림 id, 읽은 기록이 없으면 0
      */
     @Transactional(readOnly = true)
-    public List<Notification> getEssayNotifications(Long userId) {
-        return notificationRepository.findNotificationByUserId(userId);
+    public Long getLastReadId(Long userId) {
+        return readCursorRepository.findById(userId)
+                .map(NotificationReadCursor::getLastReadId)
+                .orElse(0L);
+    }
+
+    /**
+     * 알림 읽음처리
+     *
+     * @param userId     유저 id
+     * @param lastReadId 마지막으로 읽은 알림 id, null 이면 현재까지의 모든 알림을 읽음처리
+     *                   최신 알림 id보다 크면 최신 알림 id까지만 읽음처리한다. (이후에 생기는 알림은 안 읽은 알림)
+     * @return 갱신된 마지막으로 읽은 알림 id
+     */
+    @Transactional
+    public Long markAsRead(Long userId, Long lastReadId) {
+        long latestId = findLatestNotificationId(userId);
+        long readId = (lastReadId == null) ? latestId : Math.min(lastReadId, latestId);
+        NotificationReadCursor cursor = readCursorRepository.findById(userId)
+                .orElseGet(() -> readCursorRepository.save(new NotificationReadCursor(userId, 0L)));
+        cursor.moveTo(readId);
+
+        refreshUnreadCount(userId, cursor.getLastReadId());
+        return cursor.getLastReadId();
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회
+     * Redis 카운터가 없으면 읽음 위치 이후의 알림 수를 DB에서 세어 카운터를 채운다.
+     *
+     * @param userId 유저 id
+     * @return 읽지 않은 알림 수
+     */
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        OptionalLong cached = unreadCountService.findUnreadCount(userId);
+        if (cached.isPresent()) {
+            return cached.getAsLong();
+        }
+        Long lastReadId = getLastReadId(userId);
+        long unreadEssays = notificationRepository.countEssayNotificationsAfter(userId, lastReadId);
+        long unreadCommons = notificationRepository.countCommonNotificationsAfter(userId, lastReadId);
+        unreadCountService.reset(userId, unreadEssays, unreadCommons);
+        return unreadEssays + unreadCommons;
+    }
+
+    /**
+     * 읽음 위치 이후에 남아있는 알림 수로 카운터 재설정 (알림이 일괄 삭제된 경우)
+     *
+     * @param userId 유저 id
+     */
+    @Transactional
+    public void refreshUnreadCount(Long userId) {
+        refreshUnreadCount(userId, getLastReadId(userId));
+    }
+
+    // 읽음 위치 이후에 남아있는 알림 수로 카운터 재설정
+    private void refreshUnreadCount(Long userId, Long lastReadId) {
+        unreadCountService.reset(userId,
+                notificationRepository.countEssayNotificationsAfter(userId, lastReadId),
+                notificationRepository.countCommonNotificationsAfter(userId, lastReadId));
+    }
+
+    private long findLatestNotificationId(Long userId) {
+        Long common = notificationRepository.findLatestCommonNotificationId();
+        Long essay = notificationRepository.findLatestEssayNotificationId(userId);
+        return Math.max(common == null ? 0L : common, essay == null ? 0L : essay);
+    }
+
+    private Slice<Notification> merge(List<Notification> commons, List<Notification> essays,
+                                      Comparator<Notification> order, int pageSize) {
+        List<Notification> merged = new ArrayList<>(commons.size() + essays.size());
+        merged.addAll(commons);
+        merged.addAll(essays);
+        merged.sort(order);
+
+        boolean hasNext = merged.size() > pageSize;
+        List<Notification> content = hasNext ? merged.subList(0, pageSize) : merged;
+        return new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext);
+    }
+
+    private int normalizeSize(int size) {
+        if (size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
-}
\ No newline at end of file
+}
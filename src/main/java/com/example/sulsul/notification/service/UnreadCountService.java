@@ -0,0 +1,139 @@
+package com.example.sulsul.notification.service;
+
+import com.example.sulsul.common.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Redis 기반 읽지 않은 알림 카운터
+ * - noti:unread:{userId}      : 유저별 읽지 않은 첨삭알림 수
+ * - noti:common:total         : 지금까지 전송된 전체알림 수
+ * - noti:common:read:{userId} : 유저가 읽음처리한 시점의 전체알림 수 ("세대:전체알림 수")
+ * - noti:common:epoch         : 전체알림이 삭제될 때마다 올라가는 세대
+ * 읽지 않은 알림 수 = 첨삭알림 카운터 + (전체알림 수 - 읽음처리 시점의 전체알림 수)
+ * 읽음처리 기준점이 없거나 세대가 다른 유저는 카운터가 없는 것으로 보고, NotificationService 가 DB에서 세어 reset 으로 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCountService {
+
+    private static final String ESSAY_KEY_PREFIX = "noti:unread:";
+    private static final String COMMON_TOTAL_KEY = "noti:common:total";
+    private static final String COMMON_READ_KEY_PREFIX = "noti:common:read:";
+    private static final String COMMON_EPOCH_KEY = "noti:common:epoch";
+
+    /**
+     * 읽음처리 기준점이 없거나 이전 세대의 기준점인 유저는 -1 을 반환한다.
+     */
+    private static final RedisScript<Long> COUNT_SCRIPT = new DefaultRedisScript<>(
+            "local read = redis.call('GET', KEYS[3]) " +
+            "if not read then return -1 end " +
+            "local sep = string.find(read, ':', 1, true) " +
+            "local epoch = redis.call('GET', KEYS[4]) or '0' " +
+            "if not sep or string.sub(read, 1, sep - 1) ~= epoch then return -1 end " +
+            "local total = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "local common = total - tonumber(string.sub(read, sep + 1)) " +
+            "if common < 0 then common = 0 end " +
+            "return tonumber(redis.call('GET', KEYS[1]) or '0') + common", Long.class);
+
+    /**
+     * 첨삭알림 카운터와 전체알림 기준점을 한 번에 갱신한다.
+     */
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1]) " +
+            "local total = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "local epoch = redis.call('GET', KEYS[4]) or '0' " +
+            "redis.call('SET', KEYS[3], epoch .. ':' .. (total - tonumber(ARGV[2]))) " +
+            "return 1", Long.class);
+
+    /**
+     * 전체알림 수를 줄이고 세대를 올려 모든 유저의 읽음처리 기준점을 무효화한다.
+     */
+    private static final RedisScript<Long> REMOVE_COMMON_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DECRBY', KEYS[1], ARGV[1]) " +
+            "return redis.call('INCR', KEYS[2])", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 첨삭알림 생성시 수신자의 카운터 증가 (트랜잭션 커밋 이후 반영)
+     *
+     * @param userId 알림 수신자 id
+     */
+    public void increaseEssayCount(Long userId) {
+        afterCommit(() -> redisTemplate.opsForValue().increment(ESSAY_KEY_PREFIX + userId));
+    }
+
+    /**
+     * 전체알림 생성시 전역 카운터 증가 (트랜잭션 커밋 이후 반영)
+     */
+    public void increaseCommonCount() {
+        afterCommit(() -> redisTemplate.opsForValue().increment(COMMON_TOTAL_KEY));
+    }
+
+    /**
+     * 전체알림 삭제시 전역 카운터 감소 (트랜잭션 커밋 이후 반영)
+     * 삭제된 전체알림을 유저별로 읽었는지 알 수 없으므로 모든 유저의 기준점을 무효화해서 다음 조회 때 DB 기준으로 다시 채운다.
+     *
+     * @param count 삭제된 전체알림 수
+     */
+    public void decreaseCommonCount(long count) {
+        if (count <= 0) {
+            return;
+        }
+        afterCommit(() -> redisTemplate.execute(REMOVE_COMMON_SCRIPT, List.of(COMMON_TOTAL_KEY, COMMON_EPOCH_KEY),
+                String.valueOf(count)));
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회
+     *
+     * @param userId 유저 id
+     * @return 읽지 않은 알림 수, 카운터가 없으면 empty
+     */
+    public OptionalLong findUnreadCount(Long userId) {
+        Long count = redisTemplate.execute(COUNT_SCRIPT, keys(userId));
+        if (count == null || count < 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(count);
+    }
+
+    /**
+     * 읽음처리 이후 남은 읽지 않은 알림 수로 카운터를 원자적으로 재설정
+     *
+     * @param userId        유저 id
+     * @param unreadEssays  남은 읽지 않은 첨삭알림 수
+     * @param unreadCommons 남은 읽지 않은 전체알림 수
+     */
+    public void reset(Long userId, long unreadEssays, long unreadCommons) {
+        afterCommit(() -> redisTemplate.execute(RESET_SCRIPT, keys(userId),
+                String.valueOf(unreadEssays), String.valueOf(unreadCommons)));
+    }
+
+    private List<String> keys(Long userId) {
+        return List.of(ESSAY_KEY_PREFIX + userId, COMMON_TOTAL_KEY, COMMON_READ_KEY_PREFIX + userId, COMMON_EPOCH_KEY);
+    }
+
+    private void afterCommit(Runnable command) {
+        AfterCommit.run(() -> runQuietly(command));
+    }
+
+    private void runQuietly(Runnable command) {
+        // 카운터는 뱃지 표시용이므로 Redis 장애가 알림 저장을 실패시키지 않도록 한다.
+        try {
+            command.run();
+        } catch (DataAccessException e) {
+            log.warn("[UnreadCount] 읽지 않은 알림 카운터 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -4,6 +4,10 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.redis.core.RedisHash;
 import org.springframework.data.redis.core.index.Indexed;
 
+/**
+ * 이전 방식의 RefreshToken 저장 형식
+ * 새 토큰은 RefreshTokenStore 에 저장하며, 이미 발급된 토큰이 만료될 때까지만 조회/삭제에 사용한다.
+ */
 @RedisHash(value = "refreshToken", timeToLive = 60 * 60 * 24 * 14)
 public class RefreshToken {
 
@@ -5,6 +5,7 @@ import com.example.sulsul.config.jwt.dto.JwtTokenDto;
 import com.example.sulsul.exception.refresh.RefreshTokenMismatchException;
 import com.example.sulsul.exception.refresh.RefreshTokenNotFoundException;
 import com.example.sulsul.exception.user.UserNotFoundException;
+import com.example.sulsul.refreshtoken.RefreshTokenStore.RotationResult;
 import com.example.sulsul.user.entity.User;
 import com.example.sulsul.user.repository.UserRepository;
 import io.jsonwebtoken.Claims;
@@ -19,7 +20,7 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
 
@@ -39,19 +40,6 @@ public class RefreshTokenService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(UserNotFoundException::new);
 
-        // 유저의 RefreshToken 조회
-        RefreshToken refreshTokenEntity = refreshTokenRepository.findByUserId(user.getId())
-                .orElseThrow(RefreshTokenNotFoundException::new);
-
-        // 유저의 RefreshToken이 맞는지 확인
-        if (!refreshTokenEntity.getRefreshToken().equals(refreshToken)) {
-            throw new RefreshTokenMismatchException();
-        }
-
-        // AccessToken 재발급
-        String accessToken = jwtTokenProvider.createAccessToken(email, new Date());
-        tokensDto.setAccessToken(accessToken);
-
         // Refresh 토큰 만료일 계산
         long expiration = jwtTokenProvider.getRefreshTokenClaims(refreshToken)
                 .getExpiration().getTime();
@@ -59,11 +47,21 @@ public class RefreshTokenService {
         long diffTime = expiration - now;
 
         // 1일 이내에 만료된다면 RefreshToken 재발급
-        if (diffTime < 86400000) {
-            String newRefreshToken = jwtTokenProvider.createRefreshToken(new Date());
-            refreshTokenEntity.updateRefreshToken(newRefreshToken);
-            // 재발급된 refresh token 저장
-            refreshTokenRepository.save(refreshTokenEntity);
+        String newRefreshToken = diffTime < 86400000 ? jwtTokenProvider.createRefreshToken(new Date()) : null;
+
+        // 유저의 RefreshToken이 맞는지 확인하고, 재발급하는 경우 같은 스크립트 안에서 교체
+        RotationResult result = refreshTokenStore.rotate(user.getId(), refreshToken, newRefreshToken);
+        if (result == RotationResult.NOT_FOUND) {
+            throw new RefreshTokenNotFoundException();
+        }
+        if (result == RotationResult.MISMATCHED) {
+            throw new RefreshTokenMismatchException();
+        }
+
+        // AccessToken 재발급
+        String accessToken = jwtTokenProvider.createAccessToken(email, new Date());
+        tokensDto.setAccessToken(accessToken);
+        if (newRefreshToken != null) {
             tokensDto.setRefreshToken(newRefreshToken);
         }
 
@@ -0,0 +1,96 @@
+package com.example.sulsul.refreshtoken;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 유저별 RefreshToken 저장소 (Redis)
+ * 유저 id를 키로 토큰 값 하나만 저장하므로 로그인시 기존 토큰 조회/삭제 없이 SET 한 번으로 덮어쓴다.
+ * 토큰 확인과 재발급(교체)은 Lua 스크립트 하나로 원자적으로 처리해서 동시에 재발급을 요청해도 한 요청만 성공한다.
+ * 이전 방식(@RedisHash + userId 보조 인덱스)으로 저장된 토큰은 만료될 때까지 조회/삭제시 함께 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refreshToken:user:";
+    private static final Duration TTL = Duration.ofDays(14);
+
+    /**
+     * 저장된 토큰이 ARGV[1] 과 같으면 ARGV[2] 로 교체한다. (ARGV[2] 가 빈 값이면 확인만 한다)
+     * 1: 일치, 0: 불일치, -1: 토큰 없음
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local stored = redis.call('GET', KEYS[1]) " +
+            "if not stored then return -1 end " +
+            "if stored ~= ARGV[1] then return 0 end " +
+            "if ARGV[2] ~= '' then redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) end " +
+            "return 1", Long.class);
+
+    public enum RotationResult {
+        MATCHED, MISMATCHED, NOT_FOUND
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenRepository legacyRefreshTokenRepository;
+
+    /**
+     * 유저의 RefreshToken 저장 (기존 토큰은 덮어쓴다)
+     *
+     * @param userId       유저 id
+     * @param refreshToken 저장할 refreshToken
+     */
+    public void save(Long userId, String refreshToken) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + userId, refreshToken, TTL);
+    }
+
+    /**
+     * 유저의 RefreshToken 확인 후 교체 (compare-and-swap)
+     * 이전 방식으로 저장된 토큰이 일치하면 새 방식으로 옮겨 저장한다.
+     *
+     * @param userId          유저 id
+     * @param refreshToken    요청한 refreshToken
+     * @param newRefreshToken 교체할 refreshToken, 확인만 할 경우 null
+     * @return 확인 결과
+     */
+    public RotationResult rotate(Long userId, String refreshToken, String newRefreshToken) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + userId),
+                refreshToken, newRefreshToken == null ? "" : newRefreshToken, String.valueOf(TTL.toMillis()));
+        if (result != null && result == 1L) {
+            return RotationResult.MATCHED;
+        }
+        if (result != null && result == 0L) {
+            return RotationResult.MISMATCHED;
+        }
+        return legacyRefreshTokenRepository.findByUserId(userId)
+                .map(legacyToken -> {
+                    if (!legacyToken.getRefreshToken().equals(refreshToken)) {
+                        return RotationResult.MISMATCHED;
+                    }
+                    save(userId, newRefreshToken == null ? refreshToken : newRefreshToken);
+                    legacyRefreshTokenRepository.delete(legacyToken);
+                    return RotationResult.MATCHED;
+                })
+                .orElse(RotationResult.NOT_FOUND);
+    }
+
+    /**
+     * 유저의 RefreshToken 삭제
+     *
+     * @param userId 유저 id
+     * @return 삭제된 토큰이 있었는지 여부
+     */
+    public boolean delete(Long userId) {
+        boolean deleted = Boolean.TRUE.equals(redisTemplate.delete(KEY_PREFIX + userId));
+        Optional<RefreshToken> legacyToken = legacyRefreshTokenRepository.findByUserId(userId);
+        legacyToken.ifPresent(legacyRefreshTokenRepository::delete);
+        return deleted || legacyToken.isPresent();
+    }
+}
@@ -20,6 +20,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -28,7 +29,6 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Tag(name = "Review", description = "리뷰 관련 API")
@@ -69,7 +69,7 @@ public class ReviewController {
         return new ResponseEntity<>(new ReviewResponse(review), HttpStatus.CREATED);
     }
 
-    @Operation(summary = "강사프로필에 작성된 모든 리뷰 조회", description = "profileId에 해당하는 강사프로필에 작성된 모든 리뷰를 조회한다.")
+    @Operation(summary = "강사프로필에 작성된 리뷰 조회", description = "profileId에 해당하는 강사프로필에 작성된 리뷰를 최신순으로 페이지 단위로 조회한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReviewGroupResponse.class))),
@@ -82,13 +82,15 @@ public class ReviewController {
     })
     @GetMapping("/profiles/{profileId}/reviews")
     public ResponseEntity<?> getReviews(@Parameter(description = "리뷰를 조회할 강사프로필의 id값")
-                                        @PathVariable Long profileId) {
+                                        @PathVariable Long profileId,
+                                        @RequestParam(required = false) Long cursor,
+                                        @RequestParam(defaultValue = "20") int size) {
 
         TeacherProfile profile = teacherProfileRepository.findById(profileId)
                 .orElseThrow(() -> new TeacherProfileNotFoundException());
 
         long teacherId = profile.getTeacher().getId();
-        List<Review> reviews = reviewService.getReviews(teacherId);
+        Slice<Review> reviews = reviewService.getReviews(teacherId, cursor, size);
         return new ResponseEntity<>(new ReviewGroupResponse(reviews), HttpStatus.OK);
     }
 }
\ No newline at end of file
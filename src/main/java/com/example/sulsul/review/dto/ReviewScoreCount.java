@@ -0,0 +1,18 @@
+package com.example.sulsul.review.dto;
+
+import lombok.Getter;
+
+/**
+ * 강사 리뷰의 점수별 개수 집계 결과
+ */
+@Getter
+public class ReviewScoreCount {
+
+    private final int score;
+    private final long count;
+
+    public ReviewScoreCount(int score, long count) {
+        this.score = score;
+        this.count = count;
+    }
+}
@@ -7,8 +7,8 @@ import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
 import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.PositiveOrZero;
 import javax.validation.constraints.Size;
 
 @Getter
@@ -21,7 +21,7 @@ public class ReviewRequest {
     private final String detail;
 
     @Schema(description = "리뷰 점수", example = "5")
-    @PositiveOrZero
+    @Min(value = 1, message = "리뷰 점수는 1점 이상의 정수입니다.")
     @Max(value = 5, message = "리뷰 점수는 5점 이하의 정수입니다.")
     private final Integer score;
 }
\ No newline at end of file
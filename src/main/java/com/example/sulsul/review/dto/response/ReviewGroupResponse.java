@@ -3,6 +3,7 @@ package com.example.sulsul.review.dto.response;
 import com.example.sulsul.review.entity.Review;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
+import org.springframework.data.domain.Slice;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,9 +14,19 @@ public class ReviewGroupResponse {
     @Schema(description = "리뷰 리스트")
     private final List<ReviewResponse> reviews = new ArrayList<>();
 
-    public ReviewGroupResponse(List<Review> reviews) {
+    @Schema(description = "다음 페이지 조회에 사용할 커서(마지막 리뷰 id), 리뷰가 없으면 null", example = "12")
+    private final Long nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    public ReviewGroupResponse(Slice<Review> reviews) {
         reviews.stream()
                 .map(ReviewResponse::new)
                 .forEach(review -> this.reviews.add(review));
+
+        this.nextCursor = this.reviews.isEmpty() ? null
+                : this.reviews.get(this.reviews.size() - 1).getId();
+        this.hasNext = reviews.hasNext();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.example.sulsul.review.entity;
 
 import com.example.sulsul.common.BaseEntity;
+import com.example.sulsul.common.IdGeneration;
 import com.example.sulsul.essay.entity.Essay;
 import com.example.sulsul.user.entity.User;
 import lombok.*;
@@ -8,7 +9,9 @@ import lombok.*;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_teacher_id", columnList = "teacher_id")
+})
 @Builder
 @Getter
 @Setter(AccessLevel.PROTECTED)
@@ -16,7 +19,10 @@ import javax.persistence.*;
 @AllArgsConstructor
 public class Review extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "review_id_generator")
+    @TableGenerator(name = "review_id_generator", table = IdGeneration.TABLE, pkColumnName = IdGeneration.PK_COLUMN,
+            valueColumnName = IdGeneration.VALUE_COLUMN, pkColumnValue = "reviews",
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "review_id")
     private Long id;
 
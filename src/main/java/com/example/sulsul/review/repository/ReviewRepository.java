@@ -1,18 +1,38 @@
 package com.example.sulsul.review.repository;
 
+import com.example.sulsul.review.dto.ReviewScoreCount;
 import com.example.sulsul.review.entity.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     /**
-     * 강사의 리뷰 목록을 조회한다.
+     * 강사의 리뷰 중 cursorId보다 이전에 작성된 리뷰를 작성자와 함께 최신순으로 조회한다.
      * @param teacherId 강사의 userId
-     * @return 리뷰 목록을 반환한다.
+     * @param cursorId  이전 페이지의 마지막 리뷰 id
+     * @param pageable  조회할 개수
+     * @return cursorId 이전의 리뷰 목록 (최신순)
      */
-    List<Review> findAllByTeacherId(Long teacherId);
+    @Query("select r from Review r join fetch r.student " +
+            "where r.teacher.id = :teacherId and r.id < :cursorId order by r.id desc")
+    List<Review> findReviewsBefore(@Param("teacherId") Long teacherId,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    /**
+     * 강사가 받은 리뷰의 점수별 개수를 집계한다.
+     * 리뷰 점수 히스토그램이 없는 기존 강사프로필을 처음 갱신할 때 사용한다.
+     * @param teacherId 강사의 userId
+     * @return 점수별 리뷰 개수 (리뷰가 없는 점수는 포함되지 않음)
+     */
+    @Query("select new com.example.sulsul.review.dto.ReviewScoreCount(r.score, count(r)) " +
+            "from Review r where r.teacher.id = :teacherId group by r.score")
+    List<ReviewScoreCount> countScoresByTeacherId(@Param("teacherId") Long teacherId);
 
     /**
      * 첨삭에 작성된 리뷰를 조회한다.
@@ -20,4 +40,4 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      * @return 첨삭에 작성된 리뷰를 반환한다.
      */
     Optional<Review> findByEssayId(Long essayId);
-}
\ No newline at end of file
+}
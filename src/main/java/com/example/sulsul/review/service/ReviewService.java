@@ -10,7 +10,11 @@ import com.example.sulsul.review.repository.ReviewRepository;
 import com.example.sulsul.teacherprofile.service.TeacherProfileService;
 import com.example.sulsul.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -18,10 +22,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReviewService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final EssayRepository essayRepository;
     private final ReviewRepository reviewRepository;
     private final TeacherProfileService teacherProfileService;
 
+    /**
+     * 리뷰 작성, 첨삭 리뷰상태 변경, 강사 평점 갱신을 하나의 트랜잭션으로 처리한다.
+     */
+    @Transactional
     public Review createReview(Long essayId, User student, ReviewRequest request) {
         Essay essay = essayRepository.findById(essayId)
                 .orElseThrow(() -> new EssayNotFoundException(essayId));
@@ -35,17 +46,37 @@ public class ReviewService {
                 .score(request.getScore())
                 .build();
 
-        // 첨삭리뷰 여부 update
+        // 첨삭리뷰 여부 update (dirty checking)
         essay.updateReviewState(ReviewState.ON);
-        essayRepository.save(essay);
 
         // 강사 리뷰 평점, 완료된 첨삭 수 update
+        // 리뷰 점수 집계가 새 리뷰를 중복으로 세지 않도록 리뷰 저장 전에 호출한다.
         teacherProfileService.regradeTeacherProfile(request.getScore(), essay.getTeacher());
 
         return reviewRepository.save(review);
     }
 
-    public List<Review> getReviews(Long teacherId) {
-        return reviewRepository.findAllByTeacherId(teacherId);
+    /**
+     * 강사의 리뷰를 최신순으로 페이지 단위로 조회한다.
+     * @param teacherId 강사의 userId
+     * @param cursorId  이전 페이지의 마지막 리뷰 id, 첫 페이지는 null
+     * @param size      페이지 크기
+     * @return 리뷰 Slice
+     */
+    @Transactional(readOnly = true)
+    public Slice<Review> getReviews(Long teacherId, Long cursorId, int size) {
+        int pageSize = normalizeSize(size);
+        Long cursor = cursorId == null ? Long.MAX_VALUE : cursorId;
+        List<Review> reviews = reviewRepository.findReviewsBefore(teacherId, cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = reviews.size() > pageSize;
+        List<Review> content = hasNext ? reviews.subList(0, pageSize) : reviews;
+        return new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext);
+    }
+
+    private int normalizeSize(int size) {
+        if (size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 }
\ No newline at end of file
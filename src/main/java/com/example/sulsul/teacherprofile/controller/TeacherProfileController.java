@@ -5,8 +5,11 @@ import com.example.sulsul.common.type.EType;
 import com.example.sulsul.handler.ErrorResponse;
 import com.example.sulsul.teacherprofile.dto.request.TeacherProfileRequest;
 import com.example.sulsul.teacherprofile.dto.response.ProfileListResponse;
+import com.example.sulsul.teacherprofile.dto.response.ProfileSearchResponse;
 import com.example.sulsul.teacherprofile.dto.response.TeacherProfileResponse;
 import com.example.sulsul.teacherprofile.entity.TeacherProfile;
+import com.example.sulsul.teacherprofile.search.ProfileSearchCondition;
+import com.example.sulsul.teacherprofile.search.ProfileSearchResult;
 import com.example.sulsul.teacherprofile.service.TeacherProfileService;
 import com.example.sulsul.user.entity.User;
 import io.swagger.v3.oas.annotations.Operation;
@@ -103,6 +106,42 @@ public class TeacherProfileController {
         return new ResponseEntity<>(profileListResponse, HttpStatus.OK);
     }
 
+    @Operation(summary = "강사 프로필 검색",
+            description = "키워드(이름, 약력, 소개, 가능 대학, 기타 사항)와 계열, 대학, 가격 범위, 최소 평점으로 강사 프로필을 검색한다. " +
+                    "결과는 평점순이며 조건별 프로필 수(패싯)를 함께 반환한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfileSearchResponse.class))),
+            @ApiResponse(responseCode = "401", description = "UNAUTHORIZED",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "FORBIDDEN",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/profiles/search")
+    public ResponseEntity<?> searchProfiles(@Parameter(description = "검색 키워드") @RequestParam(required = false) String q,
+                                            @Parameter(description = "계열 (NATURE, SOCIETY)") @RequestParam(required = false) EType essayType,
+                                            @Parameter(description = "첨삭 가능 대학") @RequestParam(required = false) String univ,
+                                            @Parameter(description = "최소 가격") @RequestParam(required = false) Integer minPrice,
+                                            @Parameter(description = "최대 가격") @RequestParam(required = false) Integer maxPrice,
+                                            @Parameter(description = "최소 평점 (0~5)") @RequestParam(required = false) Integer minRating,
+                                            @RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "20") int size) {
+
+        ProfileSearchCondition condition = ProfileSearchCondition.builder()
+                .keyword(q)
+                .essayType(essayType)
+                .univ(univ)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minRating(minRating)
+                .page(page)
+                .size(size)
+                .build();
+
+        ProfileSearchResult result = teacherProfileService.searchProfiles(condition);
+        return new ResponseEntity<>(new ProfileSearchResponse(result), HttpStatus.OK);
+    }
+
     @Operation(summary = "강사(자신)의 프로필 수정", description = "강사(자신)의 프로필을 수정한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK",
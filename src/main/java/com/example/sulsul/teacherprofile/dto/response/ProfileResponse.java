@@ -1,6 +1,7 @@
 package com.example.sulsul.teacherprofile.dto.response;
 
 import com.example.sulsul.teacherprofile.entity.TeacherProfile;
+import com.example.sulsul.teacherprofile.search.ProfileDocument;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -25,4 +26,11 @@ public class ProfileResponse {
         this.url = teacherProfile.getTeacher().getProfileImage();
         this.reviewScore = teacherProfile.getReviewScore();
     }
-}
\ No newline at end of file
+
+    public ProfileResponse(ProfileDocument document) {
+        this.id = document.getProfileId();
+        this.name = document.getName();
+        this.url = document.getProfileImage();
+        this.reviewScore = document.getReviewScore();
+    }
+}
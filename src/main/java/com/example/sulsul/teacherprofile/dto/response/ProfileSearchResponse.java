@@ -0,0 +1,44 @@
+package com.example.sulsul.teacherprofile.dto.response;
+
+import com.example.sulsul.teacherprofile.search.ProfileSearchResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class ProfileSearchResponse {
+
+    @Schema(description = "검색된 강사 프로필 리스트 (평점순)")
+    private final List<ProfileResponse> profiles = new ArrayList<>();
+
+    @Schema(description = "검색 조건에 맞는 전체 프로필 수", example = "32")
+    private final int totalCount;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "계열별 프로필 수", example = "{\"NATURE\": 20, \"SOCIETY\": 12}")
+    private final Map<String, Integer> essayTypeFacets = new LinkedHashMap<>();
+
+    @Schema(description = "대학별 프로필 수 (상위 20개)", example = "{\"서울대\": 10, \"연세대\": 7}")
+    private final Map<String, Integer> univFacets;
+
+    @Schema(description = "평점 구간별 프로필 수 (4는 4.0~4.9점)", example = "{\"5\": 3, \"4\": 20}")
+    private final Map<Integer, Integer> ratingFacets;
+
+    public ProfileSearchResponse(ProfileSearchResult result) {
+        result.getDocuments().stream()
+                .map(ProfileResponse::new)
+                .forEach(this.profiles::add);
+        this.totalCount = result.getTotalCount();
+        this.hasNext = result.isHasNext();
+        result.getEssayTypeFacets()
+                .forEach((essayType, count) -> this.essayTypeFacets.put(essayType.getValue(), count));
+        this.univFacets = result.getUnivFacets();
+        this.ratingFacets = result.getRatingFacets();
+    }
+}
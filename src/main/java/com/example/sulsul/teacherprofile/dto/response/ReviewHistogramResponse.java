@@ -0,0 +1,32 @@
+package com.example.sulsul.teacherprofile.dto.response;
+
+import com.example.sulsul.teacherprofile.entity.ReviewHistogram;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class ReviewHistogramResponse {
+
+    @Schema(description = "1점 리뷰 개수", example = "0")
+    private final int score1;
+
+    @Schema(description = "2점 리뷰 개수", example = "1")
+    private final int score2;
+
+    @Schema(description = "3점 리뷰 개수", example = "2")
+    private final int score3;
+
+    @Schema(description = "4점 리뷰 개수", example = "5")
+    private final int score4;
+
+    @Schema(description = "5점 리뷰 개수", example = "12")
+    private final int score5;
+
+    public ReviewHistogramResponse(ReviewHistogram histogram) {
+        this.score1 = histogram.getCount(1);
+        this.score2 = histogram.getCount(2);
+        this.score3 = histogram.getCount(3);
+        this.score4 = histogram.getCount(4);
+        this.score5 = histogram.getCount(5);
+    }
+}
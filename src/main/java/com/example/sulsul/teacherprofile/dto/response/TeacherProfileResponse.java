@@ -41,6 +41,9 @@ public class TeacherProfileResponse {
     @Schema(description = "완료한 첨삭 개수", example = "강사가 진행한 총 첨삭 개수")
     private final Integer completedCount;
 
+    @Schema(description = "점수별 리뷰 개수")
+    private final ReviewHistogramResponse reviewHistogram;
+
     public TeacherProfileResponse(TeacherProfile teacherProfile) {
         this.name = teacherProfile.getTeacher().getName();
         this.url = teacherProfile.getTeacher().getProfileImage();
@@ -53,5 +56,6 @@ public class TeacherProfileResponse {
         this.otherDetail = teacherProfile.getOtherDetail();
         this.reviewScore = teacherProfile.getReviewScore();
         this.completedCount = teacherProfile.getCompletedCount();
+        this.reviewHistogram = new ReviewHistogramResponse(teacherProfile.getReviewHistogram());
     }
 }
\ No newline at end of file
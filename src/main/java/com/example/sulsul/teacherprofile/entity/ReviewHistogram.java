@@ -0,0 +1,78 @@
+package com.example.sulsul.teacherprofile.entity;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/**
+ * 강사가 받은 리뷰의 점수별(1~5점) 개수
+ * 리뷰가 작성될 때마다 증가시키므로 프로필 조회시 리뷰를 다시 집계하지 않는다.
+ * 컬럼 추가 이전의 프로필은 값이 null 이므로 0으로 취급한다.
+ */
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewHistogram {
+
+    public static final int MIN_SCORE = 1;
+    public static final int MAX_SCORE = 5;
+
+    @Column(name = "score1_count")
+    private Integer score1Count;
+
+    @Column(name = "score2_count")
+    private Integer score2Count;
+
+    @Column(name = "score3_count")
+    private Integer score3Count;
+
+    @Column(name = "score4_count")
+    private Integer score4Count;
+
+    @Column(name = "score5_count")
+    private Integer score5Count;
+
+    /**
+     * 점수별 개수로 히스토그램 생성
+     *
+     * @param counts counts[0]이 1점, counts[4]가 5점 리뷰의 개수
+     */
+    public static ReviewHistogram of(long[] counts) {
+        ReviewHistogram histogram = new ReviewHistogram();
+        histogram.score1Count = (int) counts[0];
+        histogram.score2Count = (int) counts[1];
+        histogram.score3Count = (int) counts[2];
+        histogram.score4Count = (int) counts[3];
+        histogram.score5Count = (int) counts[4];
+        return histogram;
+    }
+
+    public static ReviewHistogram empty() {
+        return of(new long[MAX_SCORE]);
+    }
+
+    public int getCount(int score) {
+        Integer count;
+        switch (score) {
+            case 1: count = score1Count; break;
+            case 2: count = score2Count; break;
+            case 3: count = score3Count; break;
+            case 4: count = score4Count; break;
+            case 5: count = score5Count; break;
+            default: throw new IllegalArgumentException("리뷰 점수는 1점 이상 5점 이하입니다: " + score);
+        }
+        return count == null ? 0 : count;
+    }
+
+    public void add(int score) {
+        int count = getCount(score) + 1;
+        switch (score) {
+            case 1: score1Count = count; break;
+            case 2: score2Count = count; break;
+            case 3: score3Count = count; break;
+            case 4: score4Count = count; break;
+            default: score5Count = count; break;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.sulsul.teacherprofile.entity;
 
 import com.example.sulsul.common.BaseEntity;
+import com.example.sulsul.common.IdGeneration;
 import com.example.sulsul.teacherprofile.dto.request.TeacherProfileRequest;
 import com.example.sulsul.user.entity.User;
 import lombok.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
 @Entity
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teacherProfile")
 @Getter
 @Builder
 @Setter(AccessLevel.PROTECTED)
@@ -17,7 +21,10 @@ import javax.persistence.*;
 public class TeacherProfile extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "teacher_profile_id_generator")
+    @TableGenerator(name = "teacher_profile_id_generator", table = IdGeneration.TABLE, pkColumnName = IdGeneration.PK_COLUMN,
+            valueColumnName = IdGeneration.VALUE_COLUMN, pkColumnValue = "teacher_profiles",
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "teacher_profile_id")
     private Long id;
 
@@ -46,6 +53,9 @@ public class TeacherProfile extends BaseEntity {
     @Column
     private Integer completedCount;
 
+    @Embedded
+    private ReviewHistogram reviewHistogram;
+
     public boolean isNewTeacher() {
         return completedCount.equals(0);
     }
@@ -58,6 +68,29 @@ public class TeacherProfile extends BaseEntity {
         this.reviewScore = reviewScore;
     }
 
+    /**
+     * 리뷰 점수 히스토그램이 집계되어 있는지 확인
+     * 컬럼이 모두 null 이면 Hibernate는 임베디드 값을 null로 로딩한다.
+     */
+    public boolean hasReviewHistogram() {
+        return reviewHistogram != null;
+    }
+
+    public void initReviewHistogram(ReviewHistogram reviewHistogram) {
+        this.reviewHistogram = reviewHistogram;
+    }
+
+    public void addReviewScore(int score) {
+        if (reviewHistogram == null) {
+            reviewHistogram = ReviewHistogram.empty();
+        }
+        reviewHistogram.add(score);
+    }
+
+    public ReviewHistogram getReviewHistogram() {
+        return reviewHistogram == null ? ReviewHistogram.empty() : reviewHistogram;
+    }
+
     public TeacherProfile(User user, String reviewScore, Integer completedCount) {
         this.teacher = user;
         this.reviewScore = reviewScore;
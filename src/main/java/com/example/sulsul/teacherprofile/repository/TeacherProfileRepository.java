@@ -4,19 +4,69 @@ import com.example.sulsul.common.type.EType;
 import com.example.sulsul.teacherprofile.entity.TeacherProfile;
 import com.example.sulsul.user.entity.User;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
 public interface TeacherProfileRepository extends JpaRepository<TeacherProfile, Long> {
 
+    /**
+     * 강사프로필을 강사와 함께 조회한다.
+     * @param profileId 강사프로필 id
+     * @return profileId에 해당하는 강사프로필
+     */
+    @Override
+    @EntityGraph(attributePaths = "teacher")
+    Optional<TeacherProfile> findById(Long profileId);
+
+    /**
+     * 강사의 프로필을 강사와 함께 조회한다.
+     * 쿼리 캐시에서 읽으면 강사가 지연로딩 상태로 남으므로 쿼리 캐시는 사용하지 않는다.
+     * @param user 강사
+     * @return 강사프로필
+     */
+    @EntityGraph(attributePaths = "teacher")
     Optional<TeacherProfile> findByTeacher(User user);
 
+    /**
+     * 강사프로필을 쓰기 잠금(select ... for update)으로 조회한다.
+     * 동시에 작성된 리뷰가 평점과 리뷰 집계를 덮어쓰지 않도록 리뷰 반영시 사용한다.
+     * @param teacherId 강사의 userId
+     * @return 잠금이 걸린 강사프로필
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "3000"))
+    @Query("select tp from TeacherProfile tp where tp.teacher.id = :teacherId")
+    Optional<TeacherProfile> findByTeacherIdForUpdate(@Param("teacherId") Long teacherId);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<TeacherProfile> findByTeacher_EssayType(EType eType);
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @Query("select tp from TeacherProfile tp where tp.teacher.essayType = :essayType order by tp.createdDate desc")
     List<TeacherProfile> findNewTeacherProfiles(@Param("essayType") EType essayType, Pageable pageable);
+
+    /**
+     * 검색 인덱스 생성을 위해 탈퇴하지 않은 강사의 강사프로필을 강사와 함께 조회한다.
+     * @return 모든 강사프로필 (탈퇴한 강사 제외)
+     */
+    @Query("select tp from TeacherProfile tp join fetch tp.teacher t where t.userState is null or t.userState <> 'DELETE'")
+    List<TeacherProfile> findAllWithTeacher();
+
+    /**
+     * 검색 인덱스 갱신을 위해 강사프로필을 강사와 함께 조회한다.
+     * @param profileId 강사프로필 id
+     * @return 강사프로필, 탈퇴한 강사의 프로필이면 empty
+     */
+    @Query("select tp from TeacherProfile tp join fetch tp.teacher t where tp.id = :profileId"
+            + " and (t.userState is null or t.userState <> 'DELETE')")
+    Optional<TeacherProfile> findByIdWithTeacher(@Param("profileId") Long profileId);
 }
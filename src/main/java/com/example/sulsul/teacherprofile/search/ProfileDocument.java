@@ -0,0 +1,99 @@
+package com.example.sulsul.teacherprofile.search;
+
+import com.example.sulsul.common.type.EType;
+import com.example.sulsul.teacherprofile.entity.TeacherProfile;
+import com.example.sulsul.user.entity.User;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 검색 인덱스에 저장되는 강사프로필 스냅샷
+ * 엔티티를 들고 있지 않으므로 트랜잭션 밖에서도 안전하게 읽을 수 있다.
+ */
+@Getter
+public class ProfileDocument {
+
+    private static final int MAX_RATING_BUCKET = 5;
+
+    private final Long profileId;
+    private final Long teacherId;
+    private final String name;
+    private final String profileImage;
+    private final EType essayType;
+    private final Set<String> universities;
+    private final Integer price;
+    private final String reviewScore;
+    private final double rating;
+    private final int completedCount;
+    private final String searchText;
+
+    private ProfileDocument(TeacherProfile profile, UniversityDictionary universityDictionary) {
+        User teacher = profile.getTeacher();
+        this.profileId = profile.getId();
+        this.teacherId = teacher.getId();
+        this.name = teacher.getName();
+        this.profileImage = teacher.getProfileImage();
+        this.essayType = teacher.getEssayType();
+        this.universities = universityDictionary.parse(profile.getPossibleUniv());
+        this.price = parsePrice(profile.getPrice());
+        this.reviewScore = profile.getReviewScore();
+        this.rating = parseRating(profile.getReviewScore());
+        this.completedCount = profile.getCompletedCount() == null ? 0 : profile.getCompletedCount();
+        this.searchText = SearchTokenizer.normalize(String.join(" ",
+                nullToEmpty(teacher.getName()),
+                nullToEmpty(profile.getCareerDetail()),
+                nullToEmpty(profile.getIntroDetail()),
+                nullToEmpty(profile.getPossibleUniv()),
+                nullToEmpty(profile.getOtherDetail())));
+    }
+
+    /**
+     * 강사프로필 스냅샷 생성, 강사(User)를 지연로딩하므로 트랜잭션 안에서 호출해야 한다.
+     * 가능 대학은 대학 사전의 표준 이름으로 저장한다.
+     */
+    public static ProfileDocument from(TeacherProfile profile, UniversityDictionary universityDictionary) {
+        return new ProfileDocument(profile, universityDictionary);
+    }
+
+    /**
+     * 평점 구간 (0~5), 4.3점은 4점 구간에 속한다.
+     */
+    public int getRatingBucket() {
+        return Math.max(0, Math.min(MAX_RATING_BUCKET, (int) Math.floor(rating)));
+    }
+
+    /**
+     * 자유 입력된 가격 문구에서 금액(원)을 추출한다. ex) "50000", "5만원"
+     * 숫자가 없거나 너무 큰 경우 null
+     */
+    static Integer parsePrice(String price) {
+        if (price == null) {
+            return null;
+        }
+        String digits = price.replaceAll("[^0-9]", "");
+        if (digits.isEmpty() || digits.length() > 9) {
+            return null;
+        }
+        int value = Integer.parseInt(digits);
+        if (price.contains("만") && value < 10000) {
+            value *= 10000;
+        }
+        return value;
+    }
+
+    private static double parseRating(String reviewScore) {
+        if (reviewScore == null) {
+            return 0.0;
+        }
+        try {
+            return Double.parseDouble(reviewScore);
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.sulsul.teacherprofile.search;
+
+import com.example.sulsul.common.type.EType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 강사프로필 검색 조건, null 인 조건은 적용하지 않는다.
+ */
+@Getter
+@Builder
+public class ProfileSearchCondition {
+
+    private final String keyword;
+    private final EType essayType;
+    private final String univ;
+    private final Integer minPrice;
+    private final Integer maxPrice;
+    private final Integer minRating;
+    private final int page;
+    private final int size;
+}
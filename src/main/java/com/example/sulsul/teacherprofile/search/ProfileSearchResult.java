@@ -0,0 +1,34 @@
+package com.example.sulsul.teacherprofile.search;
+
+import com.example.sulsul.common.type.EType;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 강사프로필 검색 결과
+ * 패싯 개수는 페이지가 아닌 검색 조건에 맞는 전체 결과 기준이다.
+ */
+@Getter
+public class ProfileSearchResult {
+
+    private final List<ProfileDocument> documents;
+    private final int totalCount;
+    private final boolean hasNext;
+    private final Map<EType, Integer> essayTypeFacets;
+    private final Map<String, Integer> univFacets;
+    private final Map<Integer, Integer> ratingFacets;
+
+    public ProfileSearchResult(List<ProfileDocument> documents, int totalCount, boolean hasNext,
+                               Map<EType, Integer> essayTypeFacets,
+                               Map<String, Integer> univFacets,
+                               Map<Integer, Integer> ratingFacets) {
+        this.documents = documents;
+        this.totalCount = totalCount;
+        this.hasNext = hasNext;
+        this.essayTypeFacets = essayTypeFacets;
+        this.univFacets = univFacets;
+        this.ratingFacets = ratingFacets;
+    }
+}
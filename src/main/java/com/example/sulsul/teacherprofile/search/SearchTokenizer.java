@@ -0,0 +1,76 @@
+package com.example.sulsul.teacherprofile.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 강사프로필 검색용 토크나이저
+ * 한글은 형태소 분석 없이 검색하기 위해 단어를 1글자(unigram)와 2글자(bigram) 조각으로 나눈다.
+ * ex) "수리논술" -> 수, 리, 논, 술, 수리, 리논, 논술
+ */
+final class SearchTokenizer {
+
+    private static final String WORD_DELIMITER = "[^\\p{L}\\p{N}]+";
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 소문자로 바꾸고 글자/숫자 외의 문자를 공백 하나로 치환한다.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll(WORD_DELIMITER, " ").trim();
+    }
+
+    static List<String> words(String text) {
+        String normalized = normalize(text);
+        List<String> words = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return words;
+        }
+        for (String word : normalized.split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 인덱싱할 토큰 (모든 단어의 unigram + bigram)
+     */
+    static Set<String> indexTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 단어 하나를 찾기 위해 모두 포함되어야 하는 토큰
+     * 1글자 단어는 unigram, 그 외에는 bigram 으로 조회한다.
+     */
+    static Set<String> queryTokens(String word) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (word.length() == 1) {
+            tokens.add(word);
+            return tokens;
+        }
+        for (int i = 0; i + 1 < word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+        return tokens;
+    }
+}
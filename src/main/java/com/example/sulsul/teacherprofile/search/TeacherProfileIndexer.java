@@ -0,0 +1,133 @@
+package com.example.sulsul.teacherprofile.search;
+
+import com.example.sulsul.common.AfterCommit;
+import com.example.sulsul.teacherprofile.entity.TeacherProfile;
+import com.example.sulsul.teacherprofile.repository.TeacherProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 강사프로필 검색 인덱스 갱신
+ * 서버 시작시 전체 인덱스를 만들고, 프로필이 변경되면 커밋 이후 Redis pub/sub 으로
+ * 모든 서버에 변경된 프로필 id를 알려 각 서버가 해당 프로필만 다시 인덱싱한다.
+ * 탈퇴한 강사의 프로필은 DB에서 조회되지 않으므로 메시지를 받은 서버가 인덱스에서 제거한다.
+ */
+@Slf4j
+@Component
+public class TeacherProfileIndexer implements MessageListener {
+
+    private static final ChannelTopic CHANNEL = new ChannelTopic("search:teacher-profile");
+
+    private final TeacherProfileSearchIndex searchIndex;
+    private final UniversityDictionary universityDictionary;
+    private final TeacherProfileRepository teacherProfileRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TransactionTemplate readOnlyTransaction;
+    // 커밋 직후 변경된 프로필을 다시 읽을 때는 replica 지연으로 이전 값을 읽지 않도록 primary 로 보낸다.
+    private final TransactionTemplate primaryTransaction;
+
+    public TeacherProfileIndexer(TeacherProfileSearchIndex searchIndex,
+                                 UniversityDictionary universityDictionary,
+                                 TeacherProfileRepository teacherProfileRepository,
+                                 StringRedisTemplate redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 PlatformTransactionManager transactionManager) {
+        this.searchIndex = searchIndex;
+        this.universityDictionary = universityDictionary;
+        this.teacherProfileRepository = teacherProfileRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    /**
+     * 전체 인덱스 생성, 누락된 변경 메시지가 있어도 하루 한 번은 DB와 맞춰진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${search.profile.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        List<ProfileDocument> documents = readOnlyTransaction.execute(status ->
+                teacherProfileRepository.findAllWithTeacher().stream()
+                        .map(profile -> ProfileDocument.from(profile, universityDictionary))
+                        .collect(Collectors.toList()));
+        searchIndex.rebuild(documents);
+        log.info("[Search] 강사프로필 검색 인덱스 생성: {}건", documents.size());
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 모든 서버의 인덱스에 프로필 변경 반영
+     * Redis 장애시 최소한 이 서버의 인덱스는 갱신한다.
+     *
+     * @param profile 변경된 강사프로필 (트랜잭션 안에서 호출)
+     */
+    public void reindex(TeacherProfile profile) {
+        ProfileDocument document = ProfileDocument.from(profile, universityDictionary);
+        publishAfterCommit(document.getProfileId(), () -> searchIndex.index(document));
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 모든 서버의 인덱스에서 프로필 제거 (탈퇴한 강사)
+     * Redis 장애시 최소한 이 서버의 인덱스에서는 제거한다.
+     *
+     * @param profile 제거할 강사프로필
+     */
+    public void remove(TeacherProfile profile) {
+        Long profileId = profile.getId();
+        publishAfterCommit(profileId, () -> searchIndex.remove(profileId));
+    }
+
+    private void publishAfterCommit(Long profileId, Runnable localFallback) {
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.convertAndSend(CHANNEL.getTopic(), String.valueOf(profileId));
+            } catch (DataAccessException e) {
+                log.warn("[Search] 프로필 변경 발행 실패, 로컬 인덱스만 갱신: {}", e.getMessage());
+                localFallback.run();
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long profileId;
+        try {
+            profileId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            log.warn("[Search] 잘못된 프로필 변경 메시지 수신: {}", e.getMessage());
+            return;
+        }
+        ProfileDocument document = primaryTransaction.execute(status ->
+                teacherProfileRepository.findByIdWithTeacher(profileId)
+                        .map(profile -> ProfileDocument.from(profile, universityDictionary))
+                        .orElse(null));
+        if (document == null) {
+            searchIndex.remove(profileId);
+            return;
+        }
+        searchIndex.index(document);
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.sulsul.teacherprofile.search;
+
+import com.example.sulsul.common.type.EType;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 강사프로필 로컬 검색 인덱스 (메모리)
+ * 키워드(역색인), 계열, 대학, 가격, 평점 구간별 프로필 id 집합을 압축 비트맵(RoaringBitmap)으로 유지해서
+ * 검색시 테이블을 조회하지 않고 비트맵 교집합으로 조건에 맞는 프로필만 골라낸다.
+ * 대학은 대학 사전의 표준 이름으로 색인한다. 인덱스 갱신은 TeacherProfileIndexer 가 담당한다.
+ */
+@Component
+public class TeacherProfileSearchIndex {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_UNIV_FACETS = 20;
+
+    private static final Comparator<ProfileDocument> RANKING = Comparator
+            .comparingDouble(ProfileDocument::getRating).reversed()
+            .thenComparing(Comparator.comparingInt(ProfileDocument::getCompletedCount).reversed())
+            .thenComparing(ProfileDocument::getProfileId);
+
+    private final UniversityDictionary universityDictionary;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, ProfileDocument> documents = new HashMap<>();
+    private final RoaringBitmap allProfiles = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> termPostings = new HashMap<>();
+    private final Map<EType, RoaringBitmap> essayTypePostings = new EnumMap<>(EType.class);
+    private final Map<String, RoaringBitmap> univPostings = new HashMap<>();
+    private final NavigableMap<Integer, RoaringBitmap> pricePostings = new TreeMap<>();
+    private final NavigableMap<Integer, RoaringBitmap> ratingPostings = new TreeMap<>();
+
+    public TeacherProfileSearchIndex(UniversityDictionary universityDictionary) {
+        this.universityDictionary = universityDictionary;
+    }
+
+    /**
+     * 프로필 추가 또는 교체
+     */
+    public void index(ProfileDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(toDocId(document.getProfileId()));
+            addInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long profileId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(toDocId(profileId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 전체를 다시 만든다.
+     */
+    public void rebuild(Collection<ProfileDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            this.documents.clear();
+            allProfiles.clear();
+            termPostings.clear();
+            essayTypePostings.clear();
+            univPostings.clear();
+            pricePostings.clear();
+            ratingPostings.clear();
+            documents.forEach(this::addInternal);
+            termPostings.values().forEach(RoaringBitmap::runOptimize);
+            univPostings.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 프로필을 평점순으로 조회한다.
+     */
+    public ProfileSearchResult search(ProfileSearchCondition condition) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = match(condition);
+
+            List<ProfileDocument> hits = new ArrayList<>(matched.getCardinality());
+            matched.forEach((int docId) -> hits.add(documents.get(docId)));
+            hits.sort(RANKING);
+
+            int size = condition.getSize() < 1 ? MAX_PAGE_SIZE : Math.min(condition.getSize(), MAX_PAGE_SIZE);
+            int from = Math.min(Math.max(condition.getPage(), 0) * size, hits.size());
+            int to = Math.min(from + size, hits.size());
+            return new ProfileSearchResult(new ArrayList<>(hits.subList(from, to)), hits.size(), to < hits.size(),
+                    essayTypeFacets(matched), univFacets(hits), ratingFacets(matched));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap match(ProfileSearchCondition condition) {
+        List<RoaringBitmap> filters = new ArrayList<>();
+
+        if (condition.getEssayType() != null) {
+            filters.add(postingOf(essayTypePostings.get(condition.getEssayType())));
+        }
+        if (condition.getUniv() != null && !condition.getUniv().isBlank()) {
+            filters.add(postingOf(univPostings.get(universityDictionary.normalize(condition.getUniv()))));
+        }
+        if (condition.getMinPrice() != null || condition.getMaxPrice() != null) {
+            int min = condition.getMinPrice() == null ? Integer.MIN_VALUE : condition.getMinPrice();
+            int max = condition.getMaxPrice() == null ? Integer.MAX_VALUE : condition.getMaxPrice();
+            filters.add(min <= max
+                    ? FastAggregation.or(pricePostings.subMap(min, true, max, true).values().iterator())
+                    : new RoaringBitmap());
+        }
+        if (condition.getMinRating() != null) {
+            filters.add(FastAggregation.or(ratingPostings.tailMap(condition.getMinRating(), true).values().iterator()));
+        }
+        List<String> words = SearchTokenizer.words(condition.getKeyword());
+        for (String word : words) {
+            for (String token : SearchTokenizer.queryTokens(word)) {
+                filters.add(postingOf(termPostings.get(token)));
+            }
+        }
+
+        if (filters.isEmpty()) {
+            return allProfiles.clone();
+        }
+        // 작은 집합부터 교집합을 구한다.
+        filters.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+        RoaringBitmap candidates = filters.get(0).clone();
+        for (int i = 1; i < filters.size() && !candidates.isEmpty(); i++) {
+            candidates.and(filters.get(i));
+        }
+        if (!words.isEmpty()) {
+            // bigram 이 서로 다른 단어에서 왔을 수 있으므로 후보 문서에서만 원문 포함 여부를 확인한다.
+            RoaringBitmap verified = new RoaringBitmap();
+            candidates.forEach((int docId) -> {
+                if (containsAll(documents.get(docId).getSearchText(), words)) {
+                    verified.add(docId);
+                }
+            });
+            return verified;
+        }
+        return candidates;
+    }
+
+    private static RoaringBitmap postingOf(RoaringBitmap posting) {
+        return posting == null ? new RoaringBitmap() : posting;
+    }
+
+    private static boolean containsAll(String text, List<String> words) {
+        for (String word : words) {
+            if (!text.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<EType, Integer> essayTypeFacets(RoaringBitmap matched) {
+        Map<EType, Integer> facets = new EnumMap<>(EType.class);
+        essayTypePostings.forEach((essayType, posting) -> {
+            int count = RoaringBitmap.andCardinality(matched, posting);
+            if (count > 0) {
+                facets.put(essayType, count);
+            }
+        });
+        return facets;
+    }
+
+    private Map<Integer, Integer> ratingFacets(RoaringBitmap matched) {
+        Map<Integer, Integer> facets = new LinkedHashMap<>();
+        ratingPostings.descendingMap().forEach((bucket, posting) -> {
+            int count = RoaringBitmap.andCardinality(matched, posting);
+            if (count > 0) {
+                facets.put(bucket, count);
+            }
+        });
+        return facets;
+    }
+
+    /**
+     * 대학 종류는 많을 수 있으므로 비트맵 대신 검색 결과 문서에서 센다.
+     */
+    private static Map<String, Integer> univFacets(List<ProfileDocument> hits) {
+        Map<String, Integer> counts = new HashMap<>();
+        hits.forEach(document -> document.getUniversities().forEach(univ -> counts.merge(univ, 1, Integer::sum)));
+
+        Map<String, Integer> top = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_UNIV_FACETS)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    private void addInternal(ProfileDocument document) {
+        int docId = toDocId(document.getProfileId());
+        documents.put(docId, document);
+        allProfiles.add(docId);
+        for (String token : SearchTokenizer.indexTokens(document.getSearchText())) {
+            termPostings.computeIfAbsent(token, key -> new RoaringBitmap()).add(docId);
+        }
+        if (document.getEssayType() != null) {
+            essayTypePostings.computeIfAbsent(document.getEssayType(), key -> new RoaringBitmap()).add(docId);
+        }
+        for (String univ : document.getUniversities()) {
+            univPostings.computeIfAbsent(univ, key -> new RoaringBitmap()).add(docId);
+        }
+        if (document.getPrice() != null) {
+            pricePostings.computeIfAbsent(document.getPrice(), key -> new RoaringBitmap()).add(docId);
+        }
+        ratingPostings.computeIfAbsent(document.getRatingBucket(), key -> new RoaringBitmap()).add(docId);
+    }
+
+    private void removeInternal(int docId) {
+        ProfileDocument old = documents.remove(docId);
+        if (old == null) {
+            return;
+        }
+        allProfiles.remove(docId);
+        for (String token : SearchTokenizer.indexTokens(old.getSearchText())) {
+            removePosting(termPostings, token, docId);
+        }
+        if (old.getEssayType() != null) {
+            removePosting(essayTypePostings, old.getEssayType(), docId);
+        }
+        for (String univ : old.getUniversities()) {
+            removePosting(univPostings, univ, docId);
+        }
+        if (old.getPrice() != null) {
+            removePosting(pricePostings, old.getPrice(), docId);
+        }
+        removePosting(ratingPostings, old.getRatingBucket(), docId);
+    }
+
+    private static <K> void removePosting(Map<K, RoaringBitmap> postings, K key, int docId) {
+        RoaringBitmap posting = postings.get(key);
+        if (posting != null) {
+            posting.remove(docId);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 비트맵은 int 값만 담을 수 있으므로 프로필 id를 int 로 변환한다.
+     */
+    private static int toDocId(Long profileId) {
+        return Math.toIntExact(profileId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.sulsul.teacherprofile.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대학 이름 사전
+ * 자유 입력된 대학 이름("서울대학교", "서울대", "SNU")을 하나의 표준 이름("서울대")으로 바꾼다.
+ * 사전에 없는 이름은 공백을 제거하고 소문자로 바꾼 값을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+public class UniversityDictionary {
+
+    private static final String DICTIONARY_PATH = "search/universities.csv";
+    private static final String UNIV_DELIMITER = "[,/·\\s]+";
+
+    private final Map<String, String> canonicalNames;
+
+    public UniversityDictionary() {
+        this.canonicalNames = load(DICTIONARY_PATH);
+        log.info("[Search] 대학 사전 로딩: 별칭 {}개", canonicalNames.size());
+    }
+
+    /**
+     * 대학 이름 하나를 표준 이름으로 변환
+     */
+    public String normalize(String univ) {
+        String key = toKey(univ);
+        return canonicalNames.getOrDefault(key, key);
+    }
+
+    /**
+     * 가능 대학 문구("서울대학교, 연대/고려대")를 표준 이름 목록으로 변환
+     */
+    public Set<String> parse(String possibleUniv) {
+        if (possibleUniv == null || possibleUniv.isBlank()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(possibleUniv.split(UNIV_DELIMITER))
+                .filter(univ -> !univ.isBlank())
+                .map(this::normalize)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static String toKey(String univ) {
+        return univ == null ? "" : univ.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, String> load(String path) {
+        Map<String, String> names = new HashMap<>();
+        ClassPathResource resource = new ClassPathResource(path);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] aliases = line.split(",");
+                String canonical = aliases[0].trim();
+                for (String alias : aliases) {
+                    names.put(toKey(alias), canonical);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("대학 사전을 읽을 수 없습니다: " + path, e);
+        }
+        return names;
+    }
+}
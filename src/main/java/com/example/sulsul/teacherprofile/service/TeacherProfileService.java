@@ -3,10 +3,17 @@ package com.example.sulsul.teacherprofile.service;
 import com.example.sulsul.common.type.EType;
 import com.example.sulsul.exception.profile.ProfileNotFoundException;
 import com.example.sulsul.exception.profile.TeacherProfileNotFoundException;
+import com.example.sulsul.review.dto.ReviewScoreCount;
+import com.example.sulsul.review.repository.ReviewRepository;
 import com.example.sulsul.teacherprofile.dto.request.TeacherProfileRequest;
 import com.example.sulsul.teacherprofile.dto.response.ProfileListResponse;
+import com.example.sulsul.teacherprofile.entity.ReviewHistogram;
 import com.example.sulsul.teacherprofile.entity.TeacherProfile;
 import com.example.sulsul.teacherprofile.repository.TeacherProfileRepository;
+import com.example.sulsul.teacherprofile.search.ProfileSearchCondition;
+import com.example.sulsul.teacherprofile.search.ProfileSearchResult;
+import com.example.sulsul.teacherprofile.search.TeacherProfileIndexer;
+import com.example.sulsul.teacherprofile.search.TeacherProfileSearchIndex;
 import com.example.sulsul.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +29,9 @@ import java.util.List;
 public class TeacherProfileService {
 
     private final TeacherProfileRepository teacherProfileRepository;
+    private final ReviewRepository reviewRepository;
+    private final TeacherProfileSearchIndex teacherProfileSearchIndex;
+    private final TeacherProfileIndexer teacherProfileIndexer;
 
     @Transactional(readOnly = true)
     public TeacherProfile getTeacherProfile(Long profileId) {
@@ -46,17 +56,27 @@ public class TeacherProfileService {
         return new ProfileListResponse(profileList, newProfileList);
     }
 
+    /**
+     * 검색 인덱스에서 강사프로필 검색 (DB 조회 없음)
+     */
+    public ProfileSearchResult searchProfiles(ProfileSearchCondition condition) {
+        return teacherProfileSearchIndex.search(condition);
+    }
+
     @Transactional
     public TeacherProfile updateTeacherProfile(User user, TeacherProfileRequest teacherProfileRequest) {
 
         TeacherProfile teacherProfile = getTeacherProfile(user).updateTeacherProfile(teacherProfileRequest);
-        return teacherProfileRepository.save(teacherProfile);
+        TeacherProfile updated = teacherProfileRepository.save(teacherProfile);
+        teacherProfileIndexer.reindex(updated);
+        return updated;
     }
 
     @Transactional
     public void regradeTeacherProfile(Integer score, User teacher) {
 
-        TeacherProfile teacherProfile = teacherProfileRepository.findByTeacher(teacher)
+        // 동시에 작성된 리뷰끼리 평점을 덮어쓰지 않도록 프로필 행을 잠그고 갱신한다.
+        TeacherProfile teacherProfile = teacherProfileRepository.findByTeacherIdForUpdate(teacher.getId())
                 .orElseThrow(() -> new TeacherProfileNotFoundException(teacher.getId()));
 
         log.info("완료된 첨삭수 : {}", teacherProfile.getCompletedCount());
@@ -69,6 +89,24 @@ public class TeacherProfileService {
         String reviewAverage = String.format("%.1f", Average);
 
         teacherProfile.updateReviewScore(reviewAverage);
-        teacherProfileRepository.save(teacherProfile);
+
+        // 리뷰 점수 히스토그램 update (기존 프로필은 처음 한 번만 리뷰를 집계해서 채운다)
+        if (!teacherProfile.hasReviewHistogram()) {
+            teacherProfile.initReviewHistogram(countReviewScores(teacher.getId()));
+        }
+        teacherProfile.addReviewScore(score);
+        teacherProfileIndexer.reindex(teacherProfile);
+        // 변경 내용은 트랜잭션 커밋시 dirty checking으로 반영된다.
+    }
+
+    private ReviewHistogram countReviewScores(Long teacherId) {
+        long[] counts = new long[ReviewHistogram.MAX_SCORE];
+        for (ReviewScoreCount scoreCount : reviewRepository.countScoresByTeacherId(teacherId)) {
+            int score = scoreCount.getScore();
+            if (score >= ReviewHistogram.MIN_SCORE && score <= ReviewHistogram.MAX_SCORE) {
+                counts[score - 1] = scoreCount.getCount();
+            }
+        }
+        return ReviewHistogram.of(counts);
     }
 }
\ No newline at end of file
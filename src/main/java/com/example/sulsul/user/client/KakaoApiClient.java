@@ -0,0 +1,146 @@
+package com.example.sulsul.user.client;
+
+import com.example.sulsul.exception.kakao.InvalidKakaoTokenException;
+import com.example.sulsul.exception.kakao.KakaoApiUnavailableException;
+import com.example.sulsul.user.dto.response.KakaoUserInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 리소스 서버 클라이언트
+ * 커넥션 풀을 재사용하고 연결/응답 대기 시간을 제한해서 카카오 응답이 늦어져도 요청 스레드가 묶이지 않게 한다.
+ * 연속으로 실패하면 서킷을 열어 잠시 카카오 호출 없이 바로 실패시키고,
+ * 같은 액세스 토큰의 사용자 정보는 짧은 시간 동안 캐시한다.
+ */
+@Slf4j
+@Component
+public class KakaoApiClient {
+
+    private static final String USER_INFO_PATH = "/v2/user/me";
+
+    private final URI userInfoUri;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Cache<String, KakaoUserInfo> userInfoCache;
+
+    public KakaoApiClient(@Value("${kakao.api.base-url:https://kapi.kakao.com}") String baseUrl,
+                          @Value("${kakao.api.connect-timeout-ms:1000}") int connectTimeoutMillis,
+                          @Value("${kakao.api.read-timeout-ms:3000}") int readTimeoutMillis,
+                          @Value("${kakao.api.max-connections:50}") int maxConnections,
+                          @Value("${kakao.api.user-info-cache-ttl-ms:30000}") long cacheTtlMillis) {
+        this.userInfoUri = UriComponentsBuilder.fromUriString(baseUrl)
+                .path(USER_INFO_PATH)
+                .encode()
+                .build()
+                .toUri();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        // 카카오 API 호스트 하나만 호출하므로 라우트당 최대 커넥션도 전체와 같게 둔다.
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeoutMillis)
+                        .setSocketTimeout(readTimeoutMillis)
+                        .setConnectionRequestTimeout(connectTimeoutMillis)
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(30, TimeUnit.SECONDS)
+                .build();
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+        // 연결 실패, 타임아웃, 5xx 만 실패로 기록한다. (만료된 토큰 같은 4xx 는 카카오 장애가 아니다)
+        this.circuitBreaker = CircuitBreaker.of("kakao-api", CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(10))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordExceptions(ResourceAccessException.class, HttpServerErrorException.class)
+                .build());
+
+        this.userInfoCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMillis))
+                .maximumSize(10_000)
+                .build();
+    }
+
+    /**
+     * 카카오 액세스 토큰으로 사용자 정보 조회
+     * 같은 토큰으로 동시에 들어온 요청은 카카오를 한 번만 호출한다.
+     *
+     * @param accessToken 카카오 액세스 토큰
+     * @return 카카오 사용자 정보
+     */
+    public KakaoUserInfo getUserInfo(String accessToken) {
+        return userInfoCache.get(accessToken, this::requestUserInfo);
+    }
+
+    CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private KakaoUserInfo requestUserInfo(String accessToken) {
+        try {
+            return circuitBreaker.executeSupplier(() -> exchange(accessToken));
+        } catch (CallNotPermittedException e) {
+            log.warn("[KakaoApiClient] 서킷 열림, 카카오 호출 생략");
+            throw new KakaoApiUnavailableException();
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            log.warn("[KakaoApiClient] 사용자 정보 조회 실패: {}", e.getMessage());
+            throw new KakaoApiUnavailableException();
+        }
+    }
+
+    private KakaoUserInfo exchange(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Content-type", MediaType.APPLICATION_FORM_URLENCODED_VALUE + ";charset=utf-8");
+        headers.add("Authorization", "Bearer " + accessToken);
+
+        RequestEntity<?> request = RequestEntity
+                .post(userInfoUri)
+                .headers(headers)
+                .build();
+        try {
+            return restTemplate.exchange(request, KakaoUserInfo.class).getBody();
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.UNAUTHORIZED || e.getStatusCode() == HttpStatus.BAD_REQUEST) {
+                throw new InvalidKakaoTokenException();
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
@@ -46,8 +46,7 @@ public class UserController {
     public ResponseEntity<?> socialLogin(@RequestBody KakaoTokenRequest kakaoTokenRequest) {
 
         log.info("[현재 요청된 token 값]: {}", kakaoTokenRequest.getKakaoToken());
-        ResponseEntity<KakaoUserInfo> response = userService.postWithAccessToken(kakaoTokenRequest.getKakaoToken());
-        KakaoUserInfo userInfo = response.getBody();
+        KakaoUserInfo userInfo = userService.getKakaoUserInfo(kakaoTokenRequest.getKakaoToken());
 
         User loginedUser = userService.saveOrUpdate(userInfo, kakaoTokenRequest.getFcmToken());
         JwtTokenDto jwtTokenDto = userService.getToken(loginedUser);
@@ -1,17 +1,25 @@
 package com.example.sulsul.user.entity;
 
 import com.example.sulsul.common.BaseEntity;
+import com.example.sulsul.common.IdGeneration;
 import com.example.sulsul.common.type.DType;
 import com.example.sulsul.common.type.EType;
 import com.example.sulsul.common.type.LoginType;
 import com.example.sulsul.common.type.UType;
 import lombok.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_email", columnList = "email")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_login_key", columnNames = "login_key")
+})
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Builder
 @Getter
 @Setter(AccessLevel.PROTECTED)
@@ -20,7 +28,10 @@ import javax.validation.constraints.NotBlank;
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator", table = IdGeneration.TABLE, pkColumnName = IdGeneration.PK_COLUMN,
+            valueColumnName = IdGeneration.VALUE_COLUMN, pkColumnValue = "users",
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "user_id")
     private Long id;
 
@@ -53,6 +64,18 @@ public class User extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private Role userRole;
 
+    // 소셜 로그인 계정 식별값 (가입한 소셜 계정 이메일), 탈퇴한 유저는 null
+    // 로그인 타입과 상관없이 같은 이메일은 한 명의 유저로 로그인한다. (인증시 유저를 이메일로 조회하므로)
+    @Column(name = "login_key")
+    private String loginKey;
+
+    @PrePersist
+    private void prePersist() {
+        if (loginKey == null && email != null && userState != DType.DELETE) {
+            loginKey = email;
+        }
+    }
+
     public User update(String name, String picture) {
         this.name = name;
         this.profileImage = picture;
@@ -65,6 +88,7 @@ public class User extends BaseEntity {
         this.profileImage = "http://k.kakaocdn.net/dn/dpk9l1/btqmGhA2lKL/Oz0wDuJn1YV2DIn92f6DVK/img_640x640.jpg";
         this.name = "알수없음";
         this.userState = DType.DELETE;
+        this.loginKey = null;
     }
 
     public void updateUserRole(Role userRole) {
@@ -2,17 +2,26 @@ package com.example.sulsul.user.repository;
 
 import com.example.sulsul.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
      * 이메일로 유저 찾기
+     * 인증시 매 요청마다 호출되므로 쿼리 캐시를 사용한다.
      * @param email 유저 이메일
      * @return 이메일에 해당하는 유저 객체 반환
      */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<User> findByEmail(String email);
 
-    boolean existsByEmail(String email);
+    /**
+     * 소셜 로그인 계정으로 유저 찾기
+     * @param loginKey 소셜 계정 이메일 (로그인 타입과 무관)
+     * @return 소셜 계정에 해당하는 유저 객체 반환
+     */
+    Optional<User> findByLoginKey(String loginKey);
 }
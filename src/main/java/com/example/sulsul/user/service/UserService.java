@@ -6,13 +6,12 @@ import com.example.sulsul.common.type.LoginType;
 import com.example.sulsul.common.type.UType;
 import com.example.sulsul.config.jwt.JwtTokenProvider;
 import com.example.sulsul.config.jwt.dto.JwtTokenDto;
-import com.example.sulsul.exception.user.UserNotFoundException;
-import com.example.sulsul.fcm.entity.FcmToken;
-import com.example.sulsul.fcm.repository.FcmTokenRepository;
-import com.example.sulsul.refreshtoken.RefreshToken;
-import com.example.sulsul.refreshtoken.RefreshTokenRepository;
+import com.example.sulsul.fcm.service.FcmTokenService;
+import com.example.sulsul.refreshtoken.RefreshTokenStore;
 import com.example.sulsul.teacherprofile.entity.TeacherProfile;
 import com.example.sulsul.teacherprofile.repository.TeacherProfileRepository;
+import com.example.sulsul.teacherprofile.search.TeacherProfileIndexer;
+import com.example.sulsul.user.client.KakaoApiClient;
 import com.example.sulsul.user.dto.request.PutMyPageRequest;
 import com.example.sulsul.user.dto.request.SignUpRequest;
 import com.example.sulsul.user.dto.response.CommonResponse;
@@ -24,16 +23,11 @@ import com.example.sulsul.user.entity.User;
 import com.example.sulsul.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.RequestEntity;
-import org.springframework.http.ResponseEntity;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.net.URI;
 import java.util.Objects;
 
 @Slf4j
@@ -43,9 +37,12 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final TeacherProfileRepository teacherProfileRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final FcmTokenRepository fcmTokenRepository;
+    private final TeacherProfileIndexer teacherProfileIndexer;
+    private final RefreshTokenStore refreshTokenStore;
+    private final FcmTokenService fcmTokenService;
     private final JwtTokenProvider tokenProvider;
+    private final KakaoApiClient kakaoApiClient;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 초기 데이터는 Name, Email, ProfileImage.
@@ -64,6 +61,7 @@ public class UserService {
         if (Objects.equals(signUpRequest.getUserType(), UType.TEACHER.getValue())) {
             TeacherProfile teacherProfile = new TeacherProfile(user, "0.0", 0);
             teacherProfileRepository.save(teacherProfile);
+            teacherProfileIndexer.reindex(teacherProfile);
         }
 
         userRepository.save(user);
@@ -109,7 +107,10 @@ public class UserService {
         user.updateCatchPhrase(putMyPageRequest.getCatchPhrase());
         user.updateEmail(putMyPageRequest.getEmail());
 
-        userRepository.save(user);
+        User saved = userRepository.save(user);
+
+        // 논술 분야는 검색 필터로 사용하므로 검색 인덱스에 반영
+        teacherProfileRepository.findByTeacher(saved).ifPresent(teacherProfileIndexer::reindex);
 
         return new TeacherResponse(user);
     }
@@ -121,11 +122,15 @@ public class UserService {
     public CommonResponse deleteUser(User user) {
 
         // RefreshToken 삭제
-        refreshTokenRepository.findByUserId(user.getId())
-                .ifPresent(refreshToken -> refreshTokenRepository.delete(refreshToken));
+        refreshTokenStore.delete(user.getId());
 
         user.delete();
-        userRepository.save(user);
+        User saved = userRepository.save(user);
+
+        // 탈퇴한 강사는 검색 결과에서 제외
+        if (UType.TEACHER.equals(saved.getUserType())) {
+            teacherProfileRepository.findByTeacher(saved).ifPresent(teacherProfileIndexer::remove);
+        }
 
         return new CommonResponse();
     }
@@ -134,42 +139,10 @@ public class UserService {
      * 카카오 리소스 서버에 사용자 정보 요청
      *
      * @param accessToken 카카오 액세스 토큰
-     * @return ResponseEntity<KakaoUserInfo> 반환
+     * @return KakaoUserInfo 반환
      */
-    public ResponseEntity<KakaoUserInfo> postWithAccessToken(String accessToken) {
-        URI uri = UriComponentsBuilder
-                .fromUriString("https://kapi.kakao.com")
-                .path("/v2/user/me")
-                .encode()
-                .build()
-                .toUri();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-type", MediaType.APPLICATION_FORM_URLENCODED_VALUE + ";charset=utf-8");
-        headers.add("Authorization", "Bearer " + accessToken);
-
-        RequestEntity<?> request = RequestEntity
-                .post(uri)
-                .headers(headers)
-                .build();
-
-        RestTemplate restTemplate = new RestTemplate();
-        return restTemplate.exchange(request, KakaoUserInfo.class);
-    }
-
-    /**
-     * 기존 유저의 refreshToken, fcmToken 제거
-     *
-     * @param user 기존 유저
-     */
-    private void manageRegisteredUser(User user) {
-        // 기존 유저의 refreshToken이 존재하는 경우 제거
-        refreshTokenRepository.findByUserId(user.getId())
-                .ifPresent(refreshTokenRepository::delete);
-
-        // 기존 유저의 fcmToken이 존재하는 경우 제거
-        fcmTokenRepository.findByUser(user)
-                .ifPresent(fcmTokenRepository::delete);
+    public KakaoUserInfo getKakaoUserInfo(String accessToken) {
+        return kakaoApiClient.getUserInfo(accessToken);
     }
 
     /**
@@ -180,7 +153,6 @@ public class UserService {
      * @param fcmToken   Fcm Token
      * @return 저장한 User entity
      */
-    @Transactional
     public User saveOrUpdate(KakaoUserInfo attributes, String fcmToken) {
         // 카카오 유저정보 조회
         String email = attributes.getKakao_account()
@@ -194,50 +166,69 @@ public class UserService {
                 .getProfile()
                 .getProfile_image_url();
 
-        User user;
-        // 기존 유저가 존재하는 경우
-        if (userRepository.existsByEmail(email)) {
-            user = userRepository.findByEmail(email)
-                    .orElseThrow(UserNotFoundException::new);
+        return upsertSocialUser(LoginType.KAKAO, email, name, profileImageUrl, fcmToken);
+    }
 
-            user.update(name, profileImageUrl);
-            manageRegisteredUser(user);
-            log.info("[카카오 유저 등록 확인] user_id: {}", user.getId());
-            log.info("[카카오 유저 등록 확인] user_profile_url: {}", user.getProfileImage());
+    /**
+     * 소셜 로그인 유저 upsert
+     * 소셜 계정 이메일(login_key)로 한 번 조회해서 있으면 정보를 갱신하고 없으면 가입시킨다.
+     * 다른 소셜 로그인이라도 이메일이 같으면 같은 유저로 로그인한다.
+     * 같은 계정의 첫 로그인이 동시에 들어와 유니크 제약에 걸리면 먼저 가입된 유저로 한 번 더 처리한다.
+     *
+     * @param loginType       로그인 타입
+     * @param email           소셜 계정 이메일
+     * @param name            이름
+     * @param profileImageUrl 프로필 이미지 경로
+     * @param fcmToken        Fcm Token (없으면 null)
+     * @return 저장한 User entity
+     */
+    public User upsertSocialUser(LoginType loginType, String email, String name,
+                                 String profileImageUrl, String fcmToken) {
+        try {
+            return transactionTemplate.execute(status ->
+                    upsert(loginType, email, name, profileImageUrl, fcmToken));
+        } catch (DataIntegrityViolationException e) {
+            log.info("[소셜 로그인] 동시 가입 충돌, 재시도: {}", email);
+            return transactionTemplate.execute(status ->
+                    upsert(loginType, email, name, profileImageUrl, fcmToken));
+        }
+    }
+
+    private User upsert(LoginType loginType, String email, String name,
+                        String profileImageUrl, String fcmToken) {
+        User user = userRepository.findByLoginKey(email)
+                .map(registeredUser -> registeredUser.update(name, profileImageUrl))
+                .orElse(null);
 
-        } else { // 새로 회원가입 하는 경우
-            user = User.builder()
+        if (user == null) { // 새로 회원가입 하는 경우
+            user = userRepository.saveAndFlush(User.builder()
                     .name(name)
                     .email(email)
                     .profileImage(profileImageUrl)
                     .userRole(Role.GUEST)
-                    .loginType(LoginType.KAKAO)
+                    .loginType(loginType)
                     .userState(DType.AVAILABLE)
-                    .build();
-
-            log.info("[카카오 유저 등록] user_id: {}", user.getId());
+                    .loginKey(email)
+                    .build());
+            log.info("[소셜 유저 등록] user_id: {}", user.getId());
         }
 
-        // 유저 생성 or 업데이트
-        User savedUser = userRepository.save(user);
-        // Fcm Token 저장
-        fcmTokenRepository.save(new FcmToken(user, fcmToken));
-
-        return savedUser;
+        // 로그인한 기기의 Fcm Token 등록
+        fcmTokenService.saveFcmToken(user, fcmToken);
+        return user;
     }
 
     /**
      * access, refresh 토큰 생성
-     * refresh 토큰을 Redis에 저장
+     * refresh 토큰을 Redis에 저장 (기존 토큰은 덮어쓴다)
      *
      * @param user 유저 정보
      * @return JwtTokenDto 반환
      */
-    @Transactional
     public JwtTokenDto getToken(User user) {
         JwtTokenDto jwtTokenDto = tokenProvider.createJwtToken(user.getEmail());
         // refresh 토큰 저장
-        refreshTokenRepository.save(new RefreshToken(user.getId(), jwtTokenDto.getRefreshToken()));
+        refreshTokenStore.save(user.getId(), jwtTokenDto.getRefreshToken());
         return jwtTokenDto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+-- 초기 스키마 (Flyway 도입 이전 운영 스키마)
+-- 기존 운영 DB는 baseline-on-migrate 로 V1 을 건너뛰고 V2 부터 적용된다.
+CREATE TABLE users
+(
+    user_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    name          VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    profile_image VARCHAR(1000),
+    catch_phrase  VARCHAR(1000),
+    user_type     VARCHAR(255),
+    essay_type    VARCHAR(255),
+    user_state    VARCHAR(255),
+    login_type    VARCHAR(255),
+    user_role     VARCHAR(255) NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE teacher_profiles
+(
+    teacher_profile_id BIGINT NOT NULL AUTO_INCREMENT,
+    created_date       DATETIME(6),
+    modified_date      DATETIME(6),
+    user_id            BIGINT,
+    career_detail      VARCHAR(1000),
+    intro_detail       VARCHAR(1000),
+    price              VARCHAR(1000),
+    possible_univ      VARCHAR(1000),
+    other_detail       VARCHAR(1000),
+    review_score       VARCHAR(255),
+    completed_count    INTEGER,
+    PRIMARY KEY (teacher_profile_id),
+    CONSTRAINT uk_teacher_profiles_user_id UNIQUE (user_id),
+    CONSTRAINT fk_teacher_profiles_user_id FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE essays
+(
+    essay_id      BIGINT        NOT NULL AUTO_INCREMENT,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    student_id    BIGINT,
+    teacher_id    BIGINT,
+    univ          VARCHAR(255)  NOT NULL,
+    exam_year     VARCHAR(255)  NOT NULL,
+    inquiry       VARCHAR(1000) NOT NULL,
+    reject_detail VARCHAR(1000),
+    essay_type    VARCHAR(255)  NOT NULL,
+    essay_state   VARCHAR(255)  NOT NULL,
+    review_state  VARCHAR(255),
+    PRIMARY KEY (essay_id),
+    CONSTRAINT fk_essays_student_id FOREIGN KEY (student_id) REFERENCES users (user_id),
+    CONSTRAINT fk_essays_teacher_id FOREIGN KEY (teacher_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE files
+(
+    file_id       BIGINT        NOT NULL AUTO_INCREMENT,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    file_path     VARCHAR(1000) NOT NULL,
+    essay_id      BIGINT,
+    user_id       BIGINT,
+    file_type     VARCHAR(255)  NOT NULL,
+    PRIMARY KEY (file_id),
+    CONSTRAINT fk_files_essay_id FOREIGN KEY (essay_id) REFERENCES essays (essay_id),
+    CONSTRAINT fk_files_user_id FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments
+(
+    comment_id    BIGINT        NOT NULL AUTO_INCREMENT,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    essay_id      BIGINT,
+    user_id       BIGINT,
+    detail        VARCHAR(1000) NOT NULL,
+    PRIMARY KEY (comment_id),
+    CONSTRAINT fk_comments_essay_id FOREIGN KEY (essay_id) REFERENCES essays (essay_id),
+    CONSTRAINT fk_comments_user_id FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reviews
+(
+    review_id     BIGINT        NOT NULL AUTO_INCREMENT,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    detail        VARCHAR(1000) NOT NULL,
+    score         INTEGER       NOT NULL,
+    student_id    BIGINT,
+    teacher_id    BIGINT,
+    essay_id      BIGINT,
+    PRIMARY KEY (review_id),
+    CONSTRAINT uk_reviews_essay_id UNIQUE (essay_id),
+    CONSTRAINT fk_reviews_student_id FOREIGN KEY (student_id) REFERENCES users (user_id),
+    CONSTRAINT fk_reviews_teacher_id FOREIGN KEY (teacher_id) REFERENCES users (user_id),
+    CONSTRAINT fk_reviews_essay_id FOREIGN KEY (essay_id) REFERENCES essays (essay_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE notifications
+(
+    notification_id BIGINT        NOT NULL AUTO_INCREMENT,
+    created_date    DATETIME(6),
+    modified_date   DATETIME(6),
+    title           VARCHAR(1000) NOT NULL,
+    body            VARCHAR(1000) NOT NULL,
+    user_id         BIGINT,
+    essay_id        BIGINT,
+    noti_type       VARCHAR(255),
+    PRIMARY KEY (notification_id),
+    CONSTRAINT fk_notifications_user_id FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_notifications_essay_id FOREIGN KEY (essay_id) REFERENCES essays (essay_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE fcm_tokens
+(
+    fcm_token_id  BIGINT        NOT NULL AUTO_INCREMENT,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    user_id       BIGINT,
+    fcm_token     VARCHAR(1000) NOT NULL,
+    PRIMARY KEY (fcm_token_id),
+    CONSTRAINT uk_fcm_tokens_user_id UNIQUE (user_id),
+    CONSTRAINT fk_fcm_tokens_user_id FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,111 @@
+-- Flyway 도입 이전에 ddl-auto 로만 반영되던 스키마 변경
+-- 로컬 DB 에는 이미 반영되어 있을 수 있으므로 모든 변경은 존재 여부를 확인하고 적용한다.
+
+-- 강사프로필 리뷰 점수 히스토그램
+SET @ddl := IF((SELECT COUNT(*)
+                FROM information_schema.columns
+                WHERE table_schema = DATABASE()
+                  AND table_name = 'teacher_profiles'
+                  AND column_name = 'score1_count') = 0,
+               'ALTER TABLE teacher_profiles
+                    ADD COLUMN score1_count INTEGER,
+                    ADD COLUMN score2_count INTEGER,
+                    ADD COLUMN score3_count INTEGER,
+                    ADD COLUMN score4_count INTEGER,
+                    ADD COLUMN score5_count INTEGER',
+               'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 알림 목록 조회 (keyset)
+SET @ddl := IF((SELECT COUNT(*)
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                  AND table_name = 'notifications'
+                  AND index_name = 'idx_notifications_type_user_id') = 0,
+               'CREATE INDEX idx_notifications_type_user_id ON notifications (noti_type, user_id, notification_id)',
+               'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 사용자가 삭제(숨김)한 공통 알림
+CREATE TABLE IF NOT EXISTS hidden_notifications
+(
+    hidden_notification_id BIGINT NOT NULL AUTO_INCREMENT,
+    created_date           DATETIME(6),
+    modified_date          DATETIME(6),
+    user_id                BIGINT NOT NULL,
+    notification_id        BIGINT NOT NULL,
+    PRIMARY KEY (hidden_notification_id),
+    CONSTRAINT uk_hidden_notifications_user_noti UNIQUE (user_id, notification_id)
+) ENGINE = InnoDB;
+
+-- 사용자별 알림 읽음 위치
+CREATE TABLE IF NOT EXISTS notification_read_cursors
+(
+    user_id       BIGINT NOT NULL,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    last_read_id  BIGINT NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+-- 기기별 FCM 토큰: 사용자당 여러 토큰, 토큰 값은 유일
+SET @ddl := IF((SELECT COUNT(*)
+                FROM information_schema.columns
+                WHERE table_schema = DATABASE()
+                  AND table_name = 'fcm_tokens'
+                  AND column_name = 'last_seen_at') = 0,
+               'ALTER TABLE fcm_tokens ADD COLUMN last_seen_at DATETIME(6)',
+               'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- user_id 외래키가 사용할 일반 인덱스를 먼저 만든 뒤 기존 1:1 유니크 인덱스를 제거한다.
+SET @ddl := IF((SELECT COUNT(*)
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                  AND table_name = 'fcm_tokens'
+                  AND index_name = 'idx_fcm_tokens_user_id') = 0,
+               'CREATE INDEX idx_fcm_tokens_user_id ON fcm_tokens (user_id)',
+               'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @unique_user_index := (SELECT index_name
+                           FROM information_schema.statistics
+                           WHERE table_schema = DATABASE()
+                             AND table_name = 'fcm_tokens'
+                             AND column_name = 'user_id'
+                             AND non_unique = 0
+                           LIMIT 1);
+SET @ddl := IF(@unique_user_index IS NULL,
+               'SELECT 1',
+               CONCAT('ALTER TABLE fcm_tokens DROP INDEX `', @unique_user_index, '`'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 같은 토큰이 여러 행에 있으면 가장 최근 행만 남긴다.
+DELETE older
+FROM fcm_tokens older
+         JOIN fcm_tokens newer
+              ON older.fcm_token = newer.fcm_token
+                  AND older.fcm_token_id < newer.fcm_token_id;
+
+ALTER TABLE fcm_tokens MODIFY fcm_token VARCHAR(512) NOT NULL;
+
+SET @ddl := IF((SELECT COUNT(*)
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                  AND table_name = 'fcm_tokens'
+                  AND index_name = 'uk_fcm_tokens_fcm_token') = 0,
+               'ALTER TABLE fcm_tokens ADD CONSTRAINT uk_fcm_tokens_fcm_token UNIQUE (fcm_token)',
+               'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
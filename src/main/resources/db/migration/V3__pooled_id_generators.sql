@@ -0,0 +1,50 @@
+-- IDENTITY -> TABLE(pooled-lo) id 생성 전환
+-- 엔티티별로 다음에 사용할 id(기존 최대 id + @id_gap)를 등록한다. 다시 실행해도 안전하다.
+-- 기존 AUTO_INCREMENT 컬럼은 그대로 두고 애플리케이션이 id를 직접 넣는다.
+-- 롤링 배포 중에는 이전 버전 서버가 AUTO_INCREMENT(최대 id + 1 부터)로 계속 insert 하므로,
+-- 새 서버가 받는 id 구간이 겹치지 않도록 @id_gap 만큼 띄워서 시작한다.
+-- 배포 중 이전 버전 서버의 insert 가 @id_gap 건을 넘으면 id가 겹치므로 그 전에 배포를 끝내야 한다.
+SET @id_gap = 1000000;
+
+CREATE TABLE IF NOT EXISTS id_generators
+(
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(user_id), 0) + @id_gap FROM users
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'teacher_profiles', COALESCE(MAX(teacher_profile_id), 0) + @id_gap FROM teacher_profiles
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'essays', COALESCE(MAX(essay_id), 0) + @id_gap FROM essays
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'files', COALESCE(MAX(file_id), 0) + @id_gap FROM files
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'comments', COALESCE(MAX(comment_id), 0) + @id_gap FROM comments
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'reviews', COALESCE(MAX(review_id), 0) + @id_gap FROM reviews
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'notifications', COALESCE(MAX(notification_id), 0) + @id_gap FROM notifications
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'hidden_notifications', COALESCE(MAX(hidden_notification_id), 0) + @id_gap FROM hidden_notifications
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'fcm_tokens', COALESCE(MAX(fcm_token_id), 0) + @id_gap FROM fcm_tokens
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
@@ -0,0 +1,18 @@
+-- 조회 경로별 복합 인덱스 (ExplainPlanVerifier 가 시작시 실행계획을 확인한다)
+-- InnoDB 보조 인덱스에는 PK 가 포함되므로 (essay_id) 는 essay_id + comment_id 순서 조회에도 사용된다.
+
+-- 강사/학생별 첨삭 목록 (EssayRepository.findAllByTeacherIdAndEssayState, findAllByStudentIdAndEssayState)
+CREATE INDEX idx_essays_teacher_state ON essays (teacher_id, essay_state);
+CREATE INDEX idx_essays_student_state ON essays (student_id, essay_state);
+
+-- 첨삭 파일 조회 (FileRepository.getStudentEssayFile, getTeacherEssayFile)
+CREATE INDEX idx_files_essay_user ON files (essay_id, user_id);
+
+-- 첨삭 댓글 페이지 (CommentRepository.findCommentsBefore, findCommentsAfter)
+CREATE INDEX idx_comments_essay_id ON comments (essay_id);
+
+-- 강사 리뷰 페이지, 점수 집계 (ReviewRepository.findReviewsBefore, countScoresByTeacherId)
+CREATE INDEX idx_reviews_teacher_id ON reviews (teacher_id);
+
+-- 로그인, 인증 (UserRepository.findByEmail)
+CREATE INDEX idx_users_email ON users (email);
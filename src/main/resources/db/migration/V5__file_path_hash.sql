@@ -0,0 +1,14 @@
+-- 파일경로 조회용 고정 길이 해시 컬럼
+ALTER TABLE files ADD COLUMN file_path_hash VARCHAR(64);
+
+-- 기존 행의 해시 채우기 (File.hashFilePath 와 같은 값)
+UPDATE files SET file_path_hash = SHA2(file_path, 256);
+
+-- 같은 파일경로의 중복 행은 같은 S3 객체를 가리키므로 가장 먼저 저장된 행만 남긴다. (files 를 참조하는 테이블 없음)
+-- 파일경로 대신 해시로 비교해서 대소문자만 다른 경로를 같은 경로로 보지 않는다.
+DELETE f
+FROM files f
+         JOIN (SELECT file_path_hash, MIN(file_id) AS keep_id FROM files GROUP BY file_path_hash) k
+              ON f.file_path_hash = k.file_path_hash AND f.file_id <> k.keep_id;
+
+CREATE UNIQUE INDEX uk_files_file_path_hash ON files (file_path_hash);
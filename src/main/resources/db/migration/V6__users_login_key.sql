@@ -0,0 +1,13 @@
+-- 소셜 로그인 upsert 용 계정 식별 컬럼
+-- 동시 첫 로그인으로 같은 이메일의 유저가 이미 여러 명 생긴 경우 가장 먼저 가입한 유저에만 채운다.
+ALTER TABLE users ADD COLUMN login_key VARCHAR(255);
+
+UPDATE users u
+    JOIN (SELECT MIN(user_id) AS user_id
+          FROM users
+          WHERE login_type IS NOT NULL
+            AND (user_state IS NULL OR user_state <> 'DELETE')
+          GROUP BY login_type, email) first_user ON first_user.user_id = u.user_id
+SET u.login_key = CONCAT(u.login_type, ':', u.email);
+
+CREATE UNIQUE INDEX uk_users_login_key ON users (login_key);
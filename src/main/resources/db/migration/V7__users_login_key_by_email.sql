@@ -0,0 +1,12 @@
+-- 소셜 로그인 계정 식별값을 로그인 타입과 무관하게 이메일로 변경
+-- 인증시 유저를 이메일로 조회하므로 로그인 타입이 달라도 같은 이메일은 한 명의 유저여야 한다.
+-- 같은 이메일의 유저가 여러 명인 경우 가장 먼저 가입한 유저에만 채운다.
+UPDATE users SET login_key = NULL;
+
+UPDATE users u
+    JOIN (SELECT MIN(user_id) AS user_id
+          FROM users
+          WHERE user_state IS NULL
+             OR user_state <> 'DELETE'
+          GROUP BY email) first_user ON first_user.user_id = u.user_id
+SET u.login_key = u.email;
@@ -2,11 +2,13 @@ package com.example.sulsul.comment.controller;
 
 import com.example.sulsul.comment.dto.request.CommentRequest;
 import com.example.sulsul.comment.entity.Comment;
+import com.example.sulsul.comment.service.CommentPublisher;
 import com.example.sulsul.comment.service.CommentService;
 import com.example.sulsul.common.type.EssayState;
 import com.example.sulsul.common.type.ReviewState;
 import com.example.sulsul.essay.DemoDataFactory;
 import com.example.sulsul.essay.entity.Essay;
+import com.example.sulsul.notification.service.NotificationCoalescer;
 import com.example.sulsul.user.entity.User;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,6 +24,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -34,6 +38,12 @@ class CommentControllerTest {
     @MockBean
     private CommentService commentService;
 
+    @MockBean
+    private CommentPublisher commentPublisher;
+
+    @MockBean
+    private NotificationCoalescer notificationCoalescer;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -50,7 +60,8 @@ class CommentControllerTest {
         Comment c1 = DemoDataFactory.createComment1(1L, t1, essay1);
         Comment c2 = DemoDataFactory.createComment2(2L, s1, essay1);
         // stub
-        when(commentService.getComments(eq(1L))).thenReturn(List.of(c1, c2));
+        when(commentService.getComments(eq(1L), isNull(), isNull(), eq(20)))
+                .thenReturn(new SliceImpl<>(List.of(c1, c2)));
         // when && then
         mockMvc.perform(get("/essay/{essayId}/comments", 1L))
                 .andDo(print())
@@ -62,7 +73,10 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$.comments[1].id").value(2L))
                 .andExpect(jsonPath("$.comments[1].detail").value("네 확인했습니다."))
                 .andExpect(jsonPath("$.comments[1].writer.name").value("김경근"))
-                .andExpect(jsonPath("$.comments[1].writer.email").value("sulsul@gmail.com"));
+                .andExpect(jsonPath("$.comments[1].writer.email").value("sulsul@gmail.com"))
+                .andExpect(jsonPath("$.prevCursor").value(1L))
+                .andExpect(jsonPath("$.lastCommentId").value(2L))
+                .andExpect(jsonPath("$.hasNext").value(false));
     }
 
     @Test
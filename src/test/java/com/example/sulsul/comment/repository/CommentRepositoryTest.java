@@ -9,6 +9,7 @@ import com.example.sulsul.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -238,7 +239,7 @@ class CommentRepositoryTest {
 
         commentRepository.save(c1);
         commentRepository.save(c2);
-        List<Comment> comments = commentRepository.findAllByEssayId(essay1.getId());
+        List<Comment> comments = commentRepository.findCommentsAfter(essay1.getId(), 0L, PageRequest.of(0, 20));
         // then
         assertAll(
                 () -> assertThat(comments.size()).isEqualTo(2),
@@ -283,9 +284,61 @@ class CommentRepositoryTest {
 
         essayRepository.save(essay1);
         // when
-        List<Comment> comments = commentRepository.findAllByEssayId(essay1.getId());
+        List<Comment> comments = commentRepository.findCommentsAfter(essay1.getId(), 0L, PageRequest.of(0, 20));
         // then
         assertThat(comments).isNotNull();
         assertThat(comments.size()).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 커서_기반_댓글_조회_테스트() {
+        // given
+        User s1 = User.builder()
+                .name("김경근")
+                .email("sulsul@gmail.com")
+                .userType(UType.STUDENT)
+                .essayType(EType.NATURE)
+                .loginType(LoginType.KAKAO)
+                .build();
+
+        User t1 = User.builder()
+                .name("임탁균")
+                .email("sulsul@naver.com")
+                .userType(UType.TEACHER)
+                .essayType(EType.NATURE)
+                .loginType(LoginType.KAKAO)
+                .catchPhrase("항상 최선을 다하겠습니다. 화이링")
+                .build();
+
+        userRepository.save(s1);
+        userRepository.save(t1);
+
+        Essay essay1 = Essay.builder()
+                .univ("홍익대")
+                .examYear("2022")
+                .essayType("수리")
+                .inquiry("2022년 수리논술 3번 문제까지 첨삭 부탁드립니다.")
+                .essayState(EssayState.PROCEED)
+                .reviewState(ReviewState.OFF)
+                .student(s1)
+                .teacher(t1)
+                .build();
+
+        essayRepository.save(essay1);
+
+        Comment c1 = commentRepository.save(Comment.builder().user(t1).essay(essay1).detail("댓글1").build());
+        Comment c2 = commentRepository.save(Comment.builder().user(s1).essay(essay1).detail("댓글2").build());
+        Comment c3 = commentRepository.save(Comment.builder().user(t1).essay(essay1).detail("댓글3").build());
+        // when
+        List<Comment> latest = commentRepository.findCommentsBefore(essay1.getId(), Long.MAX_VALUE, PageRequest.of(0, 2));
+        List<Comment> before = commentRepository.findCommentsBefore(essay1.getId(), c2.getId(), PageRequest.of(0, 2));
+        List<Comment> since = commentRepository.findCommentsAfter(essay1.getId(), c1.getId(), PageRequest.of(0, 10));
+        // then
+        assertAll(
+                () -> assertThat(latest).extracting(Comment::getId).containsExactly(c3.getId(), c2.getId()),
+                () -> assertThat(latest.get(0).getUser().getName()).isEqualTo("임탁균"),
+                () -> assertThat(before).extracting(Comment::getId).containsExactly(c1.getId()),
+                () -> assertThat(since).extracting(Comment::getId).containsExactly(c2.getId(), c3.getId())
+        );
+    }
+}
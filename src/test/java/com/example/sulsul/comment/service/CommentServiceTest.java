@@ -35,6 +35,9 @@ class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private CommentPublisher commentPublisher;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -48,9 +51,9 @@ class CommentServiceTest {
         Comment c1 = DemoDataFactory.createComment1(1L, t1, essay1);
         Comment c2 = DemoDataFactory.createComment2(2L, s1, essay1);
         // stub
-        when(commentRepository.findAllByEssayId(eq(1L))).thenReturn(List.of(c1, c2));
+        when(commentRepository.findCommentsBefore(eq(1L), eq(Long.MAX_VALUE), any())).thenReturn(List.of(c2, c1));
         // when
-        List<Comment> comments = commentService.getComments(1L);
+        List<Comment> comments = commentService.getLatestComments(1L).getContent();
         // then
         assertAll(
                 () -> assertThat(comments.size()).isEqualTo(2),
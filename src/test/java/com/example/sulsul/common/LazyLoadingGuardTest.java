@@ -0,0 +1,127 @@
+package com.example.sulsul.common;
+
+import com.example.sulsul.comment.dto.response.CommentResponse;
+import com.example.sulsul.comment.entity.Comment;
+import com.example.sulsul.comment.repository.CommentRepository;
+import com.example.sulsul.common.type.*;
+import com.example.sulsul.essay.dto.response.EssayResponse;
+import com.example.sulsul.essay.entity.Essay;
+import com.example.sulsul.essay.repository.EssayRepository;
+import com.example.sulsul.teacherprofile.dto.response.TeacherProfileResponse;
+import com.example.sulsul.teacherprofile.entity.TeacherProfile;
+import com.example.sulsul.teacherprofile.repository.TeacherProfileRepository;
+import com.example.sulsul.user.entity.User;
+import com.example.sulsul.user.repository.UserRepository;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * OSIV를 사용하지 않으므로 응답 DTO는 트랜잭션 밖에서 만들어질 수 있다.
+ * 조회 경로의 fetch plan 이 DTO에 필요한 연관관계를 모두 로딩하는지 확인하고,
+ * 트랜잭션 밖 지연로딩이 실제로 실패하는지(테스트가 트랜잭션으로 가려지지 않는지) 확인한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LazyLoadingGuardTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TeacherProfileRepository teacherProfileRepository;
+
+    private User teacher;
+    private Long essayId;
+    private Long commentId;
+    private Long profileId;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(User.builder()
+                .name("임탁균")
+                .email("sulsul@naver.com")
+                .userType(UType.TEACHER)
+                .essayType(EType.NATURE)
+                .loginType(LoginType.KAKAO)
+                .catchPhrase("항상 최선을 다하겠습니다. 화이링")
+                .build());
+        User student = userRepository.save(User.builder()
+                .name("김경근")
+                .email("sulsul@gmail.com")
+                .userType(UType.STUDENT)
+                .essayType(EType.NATURE)
+                .loginType(LoginType.KAKAO)
+                .build());
+        profileId = teacherProfileRepository.save(new TeacherProfile(teacher, "0.0", 0)).getId();
+        Essay essay = essayRepository.save(Essay.builder()
+                .univ("홍익대")
+                .examYear("2022")
+                .essayType("수리")
+                .inquiry("2022년 수리논술 3번 문제까지 첨삭 부탁드립니다.")
+                .essayState(EssayState.PROCEED)
+                .reviewState(ReviewState.OFF)
+                .student(student)
+                .teacher(teacher)
+                .build());
+        essayId = essay.getId();
+        commentId = commentRepository.save(Comment.builder()
+                .essay(essay)
+                .user(student)
+                .detail("첨삭 잘 부탁드립니다.")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll();
+        essayRepository.deleteAll();
+        teacherProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("fetch plan 으로 조회한 엔티티는 트랜잭션 밖에서 응답 DTO로 변환 가능")
+    void fetchPlanTest() {
+        // when
+        Essay essay = essayRepository.findById(essayId).orElseThrow();
+        Comment comment = commentRepository.findById(commentId).orElseThrow();
+        TeacherProfile profile = teacherProfileRepository.findById(profileId).orElseThrow();
+        TeacherProfile myProfile = teacherProfileRepository.findByTeacher(teacher).orElseThrow();
+        // then
+        assertAll(
+                () -> assertThatCode(() -> new EssayResponse(essay)).doesNotThrowAnyException(),
+                () -> assertThatCode(() -> new CommentResponse(comment)).doesNotThrowAnyException(),
+                () -> assertThatCode(() -> new TeacherProfileResponse(profile)).doesNotThrowAnyException(),
+                () -> assertThatCode(() -> new TeacherProfileResponse(myProfile)).doesNotThrowAnyException()
+        );
+    }
+
+    @Test
+    @DisplayName("fetch plan 없이 트랜잭션 밖에서 지연로딩하면 실패")
+    void lazyLoadingOutsideTransactionTest() {
+        // given: findAll 은 연관관계를 함께 로딩하지 않는다.
+        Essay essay = essayRepository.findAll().get(0);
+        // when && then
+        assertThatThrownBy(() -> essay.getTeacher().getName())
+                .isInstanceOf(LazyInitializationException.class);
+    }
+}
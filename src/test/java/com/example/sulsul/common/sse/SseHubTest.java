@@ -0,0 +1,173 @@
+package com.example.sulsul.common.sse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SseHubTest {
+
+    private static final String TOPIC = "essay:1";
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SseHub sseHub;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (sseHub != null) {
+            sseHub.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전송 대기열이 가득 차면 이벤트를 더 넣지 않음")
+    void queueBoundTest() throws Exception {
+        // given
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        TestEmitter emitter = new TestEmitter(release);
+        SseSubscriber subscriber = new SseSubscriber(emitter, List.of(TOPIC), 2, () -> {
+        });
+        // 첫 이벤트는 전송 중에 멈춘다.
+        subscriber.offer(event(), sender);
+        assertThat(emitter.sending.await(1, TimeUnit.SECONDS)).isTrue();
+        // when
+        boolean second = subscriber.offer(event(), sender);
+        boolean third = subscriber.offer(event(), sender);
+        boolean fourth = subscriber.offer(event(), sender);
+        release.countDown();
+        // then
+        assertAll(
+                () -> assertThat(second).isTrue(),
+                () -> assertThat(third).isTrue(),
+                () -> assertThat(fourth).isFalse(),
+                () -> assertThat(await(() -> emitter.sent.get() == 3)).isTrue()
+        );
+        sender.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찬 구독자만 연결을 끊고 다른 구독자는 계속 받음")
+    void evictionTest() throws Exception {
+        // given
+        sseHub = new SseHub(60_000, 2, 2, 4, 60_000);
+        TestEmitter slow = new TestEmitter(release);
+        TestEmitter fast = new TestEmitter(null);
+        sseHub.subscribe(slow, List.of(TOPIC));
+        sseHub.subscribe(fast, List.of(TOPIC));
+        assertThat(slow.sending.await(1, TimeUnit.SECONDS)).isTrue();
+        // when
+        for (int i = 0; i < 3; i++) {
+            sseHub.publish(TOPIC, "comment", "댓글" + i);
+        }
+        // then
+        assertAll(
+                () -> assertThat(sseHub.countSubscribers(TOPIC)).isEqualTo(1),
+                () -> assertThat(await(() -> fast.sent.get() == 4)).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("write 가 멈춘 구독자는 끊고 다른 구독자 전송은 계속됨")
+    void slowConsumerTest() throws Exception {
+        // given
+        sseHub = new SseHub(60_000, 64, 1, 2, 50);
+        TestEmitter slow = new TestEmitter(release);
+        TestEmitter fast = new TestEmitter(null);
+        sseHub.subscribe(slow, List.of(TOPIC));
+        assertThat(slow.sending.await(1, TimeUnit.SECONDS)).isTrue();
+        // 하나뿐인 전송 스레드를 느린 구독자가 차지하고 있다.
+        sseHub.subscribe(fast, List.of(TOPIC));
+        Thread.sleep(100);
+        assertThat(fast.sent.get()).isZero();
+        // when
+        sseHub.evictStalledSubscribers();
+        // then
+        assertAll(
+                () -> assertThat(sseHub.countSubscribers(TOPIC)).isEqualTo(1),
+                () -> assertThat(sseHub.getSenderThreads()).isEqualTo(2),
+                () -> assertThat(await(() -> fast.sent.get() == 1)).isTrue()
+        );
+        // 멈춘 전송이 끝나면 전송 스레드 수를 되돌린다.
+        release.countDown();
+        assertThat(await(() -> sseHub.getSenderThreads() == 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("전송 스레드가 최대치면 늘리지 않고 멈춘 write 를 interrupt")
+    void maxSenderThreadsTest() throws Exception {
+        // given
+        sseHub = new SseHub(60_000, 64, 1, 1, 50);
+        TestEmitter slow = new TestEmitter(release);
+        TestEmitter fast = new TestEmitter(null);
+        sseHub.subscribe(slow, List.of(TOPIC));
+        assertThat(slow.sending.await(1, TimeUnit.SECONDS)).isTrue();
+        sseHub.subscribe(fast, List.of(TOPIC));
+        Thread.sleep(100);
+        // when
+        sseHub.evictStalledSubscribers();
+        // then
+        assertAll(
+                () -> assertThat(sseHub.countSubscribers(TOPIC)).isEqualTo(1),
+                () -> assertThat(sseHub.getSenderThreads()).isEqualTo(1),
+                () -> assertThat(await(() -> fast.sent.get() == 1)).isTrue(),
+                () -> assertThat(slow.sent.get()).isZero()
+        );
+    }
+
+    private static SseEmitter.SseEventBuilder event() {
+        return SseEmitter.event().name("comment").data("댓글");
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return condition.getAsBoolean();
+    }
+
+    /**
+     * 전송한 이벤트 수를 세는 emitter (release 가 있으면 열릴 때까지 write 가 멈춘다)
+     */
+    private static class TestEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final AtomicInteger sent = new AtomicInteger();
+
+        TestEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            sent.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.sulsul.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 두 개의 H2 인메모리 DB를 primary, replica 로 사용해서 트랜잭션 종류별 라우팅을 확인한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = createNode("primary");
+        DataSource replica = createNode("replica");
+        lagMonitor = new ReplicaLagMonitor(replica, "SHOW REPLICA STATUS", 5, meterRegistry);
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    private static DataSource createNode(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists node (name varchar(20))");
+        template.execute("delete from node");
+        template.update("insert into node values (?)", name);
+        return dataSource;
+    }
+
+    private String currentNode(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 로 라우팅")
+    void routingTest() {
+        assertAll(
+                () -> assertThat(currentNode(readTransaction)).isEqualTo("replica"),
+                () -> assertThat(currentNode(writeTransaction)).isEqualTo("primary"),
+                () -> assertThat(meterRegistry.counter("datasource.routing", "target", "replica").count()).isEqualTo(1),
+                () -> assertThat(meterRegistry.counter("datasource.routing", "target", "primary").count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("replica 지연이 허용치를 넘으면 읽기도 primary 로 라우팅")
+    void lagFallbackTest() {
+        // when
+        lagMonitor.updateLag(30L);
+        String lagging = currentNode(readTransaction);
+        lagMonitor.updateLag(null);
+        String stopped = currentNode(readTransaction);
+        lagMonitor.updateLag(1L);
+        String recovered = currentNode(readTransaction);
+        // then
+        assertAll(
+                () -> assertThat(lagging).isEqualTo("primary"),
+                () -> assertThat(stopped).isEqualTo("primary"),
+                () -> assertThat(recovered).isEqualTo("replica"),
+                () -> assertThat(meterRegistry.counter("datasource.routing.fallback").count()).isEqualTo(2)
+        );
+    }
+}
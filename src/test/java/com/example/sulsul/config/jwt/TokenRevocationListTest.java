@@ -0,0 +1,95 @@
+package com.example.sulsul.config.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(redisTemplate, mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    @DisplayName("폐기되지 않은 토큰은 Redis 를 조회하지 않음")
+    void notRevokedTest() {
+        // when
+        boolean revoked = revocationList.isRevoked("token-id");
+        // then
+        assertThat(revoked).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰과 다른 서버에서 폐기된 토큰은 Redis 에서 확인")
+    void revokedTest() {
+        // given
+        when(redisTemplate.hasKey("jwt:revoked:local-id")).thenReturn(true);
+        when(redisTemplate.hasKey("jwt:revoked:remote-id")).thenReturn(true);
+        // when
+        revocationList.revoke("local-id", System.currentTimeMillis() + 60_000);
+        revocationList.onMessage(new DefaultMessage("jwt:revoked".getBytes(StandardCharsets.UTF_8),
+                "remote-id".getBytes(StandardCharsets.UTF_8)), null);
+        // then
+        assertAll(
+                () -> assertThat(revocationList.isRevoked("local-id")).isTrue(),
+                () -> assertThat(revocationList.isRevoked("remote-id")).isTrue(),
+                () -> assertThat(revocationList.isRevoked(null)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 폐기 목록에 저장하지 않음")
+    void expiredTokenTest() {
+        // when
+        revocationList.revoke("expired-id", System.currentTimeMillis() - 1_000);
+        // then
+        assertThat(revocationList.isRevoked("expired-id")).isFalse();
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("동기화시 Redis 의 폐기 목록으로 필터를 다시 만듦")
+    @SuppressWarnings("unchecked")
+    void syncTest() {
+        // given
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq("jwt:revoked"), anyDouble(), anyDouble())).thenReturn(Set.of("synced-id"));
+        when(redisTemplate.hasKey("jwt:revoked:synced-id")).thenReturn(true);
+        revocationList.onMessage(new DefaultMessage("jwt:revoked".getBytes(StandardCharsets.UTF_8),
+                "stale-id".getBytes(StandardCharsets.UTF_8)), null);
+        // when
+        revocationList.sync();
+        // then
+        assertAll(
+                () -> assertThat(revocationList.isRevoked("synced-id")).isTrue(),
+                () -> assertThat(revocationList.isRevoked("stale-id")).isFalse()
+        );
+        verify(zSetOperations).removeRangeByScore(eq("jwt:revoked"), eq(Double.NEGATIVE_INFINITY), anyDouble());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.sulsul.config.jwt.benchmark;
+
+import com.example.sulsul.config.jwt.JwtAuthenticationFilter;
+import com.example.sulsul.config.jwt.JwtTokenProvider;
+import com.example.sulsul.config.jwt.TokenRevocationList;
+import com.example.sulsul.config.jwt.key.JwksKeyResolver;
+import com.example.sulsul.config.jwt.key.JwtKeyManager;
+import com.example.sulsul.config.security.CustomUserDetails;
+import com.example.sulsul.config.security.CustomUserDetailsServiceImpl;
+import com.example.sulsul.essay.DemoDataFactory;
+import com.example.sulsul.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * JwtAuthenticationFilter 요청당 처리 시간, 할당량 측정 (./gradlew benchmark)
+ * 유저 조회(DB)는 고정된 유저를 돌려주도록 바꿔서 필터 자체의 비용만 잰다.
+ * 할당량은 측정 스레드의 누적 할당 바이트(ThreadMXBean)로 계산한다.
+ */
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmark {
+
+    private static final String EMAIL = "benchmark@kakao.com";
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 50_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private final User user = DemoDataFactory.createStudent1(1L);
+    private final CustomUserDetailsServiceImpl userDetailsService = new CustomUserDetailsServiceImpl(null) {
+        @Override
+        public CustomUserDetails loadUserByUsername(String username) {
+            return new CustomUserDetails(user);
+        }
+    };
+    private final JwtKeyManager keyManager = new JwtKeyManager("", "", true);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(userDetailsService, null, keyManager,
+            new JwksKeyResolver(keyManager, "", false, "unused"));
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider,
+            new TokenRevocationList(mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class)), 100);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("요청 종류별 필터 처리 시간, 할당량")
+    void filterPerRequest() throws Exception {
+        String validToken = jwtTokenProvider.createAccessToken(EMAIL, new Date());
+        String expiredToken = jwtTokenProvider.createAccessToken(EMAIL, new Date(System.currentTimeMillis() - 1000L * 60 * 60 * 2));
+
+        measure("valid token    GET /essay", request("GET", "/essay", validToken));
+        measure("expired token  GET /essay", request("GET", "/essay", expiredToken));
+        measure("no token       GET /essay", request("GET", "/essay", null));
+        measure("permit-all     GET /refresh", request("GET", "/refresh", expiredToken));
+
+        filter.doFilter(request("GET", "/essay", validToken), new MockHttpServletResponse(), NO_OP_CHAIN);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(user.getEmail());
+    }
+
+    private MockHttpServletRequest request(String method, String uri, String accessToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (accessToken != null) {
+            request.addHeader("Authorization", "Bearer " + accessToken);
+        }
+        return request;
+    }
+
+    private void measure(String name, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        for (int i = 0; i < WARMUP; i++) {
+            runOnce(request, response);
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runOnce(request, response);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("%-28s %d requests - %.2f us/op, %d B/op%n",
+                name, ITERATIONS, elapsedNanos / 1000.0 / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private void runOnce(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+}
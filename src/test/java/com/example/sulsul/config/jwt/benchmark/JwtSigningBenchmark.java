@@ -0,0 +1,89 @@
+package com.example.sulsul.config.jwt.benchmark;
+
+import com.example.sulsul.config.jwt.key.JwksKeyResolver;
+import com.example.sulsul.config.jwt.key.JwtKeyManager;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 서명/검증 비용 측정 (./gradlew benchmark)
+ * 기존 HS256(secret 고정) 방식과 ES256 + kid 조회 방식의 토큰 발급, 검증 시간을 비교한다.
+ */
+@Tag("benchmark")
+class JwtSigningBenchmark {
+
+    private static final String SECRET = "sulsul-benchmark-hs256-secret-key-0123456789";
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    private final Key hmacKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+    private final JwtKeyManager keyManager = new JwtKeyManager("", "", true);
+    private final JwksKeyResolver keyResolver = new JwksKeyResolver(keyManager, "", true, SECRET);
+
+    @Test
+    @DisplayName("HS256 vs ES256(kid) 발급, 검증 시간")
+    void signAndVerify() {
+        String hmacToken = signHmac();
+        String ecToken = signEc();
+
+        measure("HS256 sign", () -> signHmac().length());
+        measure("ES256 sign", () -> signEc().length());
+        measure("HS256 verify", () -> verify(hmacToken));
+        measure("ES256 verify", () -> verify(ecToken));
+    }
+
+    private String signHmac() {
+        return Jwts.builder()
+                .setSubject("benchmark@kakao.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, hmacKey)
+                .compact();
+    }
+
+    private String signEc() {
+        JwtKeyManager.SigningKey signingKey = keyManager.getActiveKey();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .setSubject("benchmark@kakao.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.ES256, signingKey.getPrivateKey())
+                .compact();
+    }
+
+    private int verify(String token) {
+        // 서비스와 같이 kid 로 검증키를 찾는다. (kid 가 없는 HS256 은 기존 secret)
+        return Jwts.parser()
+                .setSigningKeyResolver(keyResolver)
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject()
+                .length();
+    }
+
+    private void measure(String name, IntSupplier operation) {
+        int checksum = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            checksum += operation.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += operation.getAsInt();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        assertThat(checksum).isPositive();
+        System.out.printf("%-12s %d ops - %.1f us/op (%.0f ops/s)%n",
+                name, ITERATIONS, elapsedNanos / 1000.0 / ITERATIONS, ITERATIONS * 1e9 / elapsedNanos);
+    }
+}
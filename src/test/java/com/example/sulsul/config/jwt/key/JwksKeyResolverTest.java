@@ -0,0 +1,126 @@
+package com.example.sulsul.config.jwt.key;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class JwksKeyResolverTest {
+
+    private static final String SECRET = "sulsul-legacy-hs256-secret-key-for-test";
+
+    private KeyPair oldKey;
+    private KeyPair newKey;
+    private JwtKeyManager keyManager;
+    private JwksKeyResolver keyResolver;
+
+    @BeforeEach
+    void setUp() {
+        oldKey = generate();
+        newKey = generate();
+        // 이전 키는 공개키만 남기고 새 키로 서명
+        String keys = "old::" + encode(oldKey.getPublic().getEncoded())
+                + ",new:" + encode(newKey.getPrivate().getEncoded()) + ":" + encode(newKey.getPublic().getEncoded());
+        keyManager = new JwtKeyManager(keys, "new", false);
+        keyResolver = new JwksKeyResolver(keyManager, "", true, SECRET);
+    }
+
+    @Test
+    @DisplayName("키 교체 전후에 발급된 토큰 모두 검증")
+    void rotationTest() {
+        // given
+        String oldToken = Jwts.builder().setHeaderParam(JwsHeader.KEY_ID, "old").setSubject("old@kakao.com")
+                .signWith(SignatureAlgorithm.ES256, oldKey.getPrivate()).compact();
+        String newToken = Jwts.builder().setHeaderParam(JwsHeader.KEY_ID, keyManager.getActiveKey().getKid())
+                .setSubject("new@kakao.com")
+                .signWith(SignatureAlgorithm.ES256, keyManager.getActiveKey().getPrivateKey()).compact();
+        String legacyToken = Jwts.builder().setSubject("legacy@kakao.com")
+                .signWith(SignatureAlgorithm.HS256, Base64.getEncoder().encodeToString(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        // when, then
+        assertAll(
+                () -> assertThat(parse(oldToken).getSubject()).isEqualTo("old@kakao.com"),
+                () -> assertThat(parse(newToken).getSubject()).isEqualTo("new@kakao.com"),
+                () -> assertThat(parse(legacyToken).getSubject()).isEqualTo("legacy@kakao.com")
+        );
+    }
+
+    @Test
+    @DisplayName("모르는 kid, 알고리즘을 바꾼 토큰은 거부")
+    void rejectTest() {
+        // given
+        String unknownKid = Jwts.builder().setHeaderParam(JwsHeader.KEY_ID, "unknown").setSubject("a@kakao.com")
+                .signWith(SignatureAlgorithm.ES256, generate().getPrivate()).compact();
+        String hmacWithKid = Jwts.builder().setHeaderParam(JwsHeader.KEY_ID, "new").setSubject("a@kakao.com")
+                .signWith(SignatureAlgorithm.HS256, Base64.getEncoder().encodeToString(newKey.getPublic().getEncoded()))
+                .compact();
+        // when, then
+        assertAll(
+                () -> assertThatThrownBy(() -> parse(unknownKid)).isInstanceOf(SignatureException.class),
+                () -> assertThatThrownBy(() -> parse(hmacWithKid)).isInstanceOf(SignatureException.class)
+        );
+    }
+
+    @Test
+    @DisplayName("JWK Set 으로 공개키를 주고받음")
+    @SuppressWarnings("unchecked")
+    void jwksTest() throws Exception {
+        // when
+        List<Map<String, String>> keys = (List<Map<String, String>>) keyManager.toJwks().get("keys");
+        // then
+        assertThat(keys).extracting(jwk -> jwk.get("kid")).containsExactly("old", "new");
+        for (Map<String, String> jwk : keys) {
+            ECPublicKey expected = (ECPublicKey) keyManager.getPublicKeys().get(jwk.get("kid"));
+            ECPublicKey actual = (ECPublicKey) EcJwk.fromJwk(jwk);
+            assertThat(actual.getW()).isEqualTo(expected.getW());
+        }
+    }
+
+    @Test
+    @DisplayName("서명키가 없으면 임시 키가 허용된 경우에만 시작")
+    void missingKeyTest() {
+        // when, then
+        assertAll(
+                () -> assertThatThrownBy(() -> new JwtKeyManager("", "", false)).isInstanceOf(IllegalStateException.class),
+                () -> assertThat(new JwtKeyManager("", "", true).getActiveKey().getKid()).startsWith("ephemeral-")
+        );
+    }
+
+    private Claims parse(String token) {
+        return Jwts.parser()
+                .setSigningKeyResolver(keyResolver)
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static KeyPair generate() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(byte[] der) {
+        return Base64.getEncoder().encodeToString(der);
+    }
+}
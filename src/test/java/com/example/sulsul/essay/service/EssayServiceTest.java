@@ -2,7 +2,7 @@ package com.example.sulsul.essay.service;
 
 import com.example.sulsul.comment.dto.response.CommentResponse;
 import com.example.sulsul.comment.entity.Comment;
-import com.example.sulsul.comment.repository.CommentRepository;
+import com.example.sulsul.comment.service.CommentService;
 import com.example.sulsul.common.type.EssayState;
 import com.example.sulsul.common.type.ReviewState;
 import com.example.sulsul.essay.DemoDataFactory;
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.mock.web.MockMultipartFile;
 
 import java.io.FileInputStream;
@@ -48,7 +49,7 @@ class EssayServiceTest {
     private FileRepository fileRepository;
 
     @Mock
-    private CommentRepository commentRepository;
+    private CommentService commentService;
 
     @Mock
     private ReviewRepository reviewRepository;
@@ -229,7 +230,7 @@ class EssayServiceTest {
                         .id(2L)
                         .filePath(filePath2)
                         .build()));
-        when(commentRepository.findAllByEssayId(1L)).thenReturn(List.of(c1, c2));
+        when(commentService.getLatestComments(1L)).thenReturn(new SliceImpl<>(List.of(c1, c2)));
 
         ProceedEssayResponse response = essayService.getProceedEssay(1L);
         List<CommentResponse> comments = response.getComments();
@@ -270,7 +271,7 @@ class EssayServiceTest {
                         .id(2L)
                         .filePath(filePath2)
                         .build()));
-        when(commentRepository.findAllByEssayId(1L)).thenReturn(List.of(c1, c2));
+        when(commentService.getLatestComments(1L)).thenReturn(new SliceImpl<>(List.of(c1, c2)));
 
         CompletedEssayResponse response = essayService.getCompleteEssay(1L);
         List<CommentResponse> comments = response.getComments();
@@ -313,7 +314,7 @@ class EssayServiceTest {
                         .id(2L)
                         .filePath(filePath2)
                         .build()));
-        when(commentRepository.findAllByEssayId(1L)).thenReturn(List.of(c1, c2));
+        when(commentService.getLatestComments(1L)).thenReturn(new SliceImpl<>(List.of(c1, c2)));
         when(reviewRepository.findByEssayId(1L)).thenReturn(Optional.of(r1));
 
         ReviewedEssayResponse response = essayService.getReviewedEssay(1L);
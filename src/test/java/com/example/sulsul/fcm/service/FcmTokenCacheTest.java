@@ -0,0 +1,113 @@
+package com.example.sulsul.fcm.service;
+
+import com.example.sulsul.fcm.repository.FcmTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FcmTokenCacheTest {
+
+    private static final String TTL_MILLIS = String.valueOf(24 * 60 * 60 * 1000L);
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final FcmTokenRepository fcmTokenRepository = mock(FcmTokenRepository.class);
+
+    @SuppressWarnings("unchecked")
+    private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    private FcmTokenCache fcmTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        fcmTokenCache = new FcmTokenCache(redisTemplate, fcmTokenRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰은 DB를 조회하지 않음")
+    void cacheHitTest() {
+        // given
+        when(setOperations.members("fcm:tokens:1")).thenReturn(new HashSet<>(Set.of("device-1")));
+        // when
+        List<String> tokens = fcmTokenCache.getTokens(1L);
+        // then
+        assertThat(tokens).containsExactly("device-1");
+        verify(fcmTokenRepository, never()).findTokensByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시를 채울 때 DB 조회 전에 읽은 버전이 그대로일 때만 저장")
+    @SuppressWarnings("unchecked")
+    void versionedPutTest() {
+        // given
+        when(setOperations.members("fcm:tokens:1")).thenReturn(Set.of());
+        when(valueOperations.get("fcm:tokens:version:1")).thenReturn("3");
+        when(fcmTokenRepository.findTokensByUserId(1L)).thenReturn(List.of("device-1", "device-2"));
+        // when
+        List<String> tokens = fcmTokenCache.getTokens(1L);
+        // then
+        assertThat(tokens).containsExactly("device-1", "device-2");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("fcm:tokens:1", "fcm:tokens:version:1")),
+                eq("3"), eq(TTL_MILLIS), eq("device-1"), eq("device-2"));
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 유저는 빈 값 표시로 캐시하고, 캐시를 비운 적 없으면 버전 0으로 저장")
+    @SuppressWarnings("unchecked")
+    void emptyTokensTest() {
+        // given
+        when(setOperations.members("fcm:tokens:1")).thenReturn(Set.of());
+        when(fcmTokenRepository.findTokensByUserId(1L)).thenReturn(List.of());
+        // when
+        List<String> tokens = fcmTokenCache.getTokens(1L);
+        // then
+        assertThat(tokens).isEmpty();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("fcm:tokens:1", "fcm:tokens:version:1")),
+                eq("0"), eq(TTL_MILLIS), eq("-"));
+    }
+
+    @Test
+    @DisplayName("캐시 삭제는 커밋 이후 캐시를 지우고 버전을 올림")
+    @SuppressWarnings("unchecked")
+    void evictAfterCommitTest() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            fcmTokenCache.evict(1L);
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("fcm:tokens:1", "fcm:tokens:version:1")),
+                eq(TTL_MILLIS));
+    }
+}
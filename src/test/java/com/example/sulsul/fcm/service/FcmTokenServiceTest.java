@@ -0,0 +1,93 @@
+package com.example.sulsul.fcm.service;
+
+import com.example.sulsul.essay.DemoDataFactory;
+import com.example.sulsul.fcm.repository.FcmTokenRepository;
+import com.example.sulsul.user.entity.User;
+import com.example.sulsul.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(FcmTokenService.class)
+class FcmTokenServiceTest {
+
+    @Autowired
+    private FcmTokenService fcmTokenService;
+
+    @Autowired
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private FcmTokenCache fcmTokenCache;
+
+    private User s1;
+    private User t1;
+
+    @BeforeEach
+    void setUp() {
+        s1 = userRepository.save(DemoDataFactory.createStudent1(1L));
+        t1 = userRepository.save(DemoDataFactory.createTeacher1(2L));
+    }
+
+    @Test
+    @DisplayName("새 기기 토큰을 등록하면 유저의 캐시를 비움")
+    void registerTest() {
+        // when
+        fcmTokenService.saveFcmToken(s1, "device-1");
+        // then
+        assertAll(
+                () -> assertThat(fcmTokenRepository.findTokensByUserId(s1.getId())).containsExactly("device-1"),
+                () -> verify(fcmTokenCache).evict(s1.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("같은 유저가 같은 기기로 다시 로그인하면 토큰을 추가하지 않고 캐시도 유지")
+    void reRegisterTest() {
+        // given
+        fcmTokenService.saveFcmToken(s1, "device-1");
+        clearInvocations(fcmTokenCache);
+        // when
+        fcmTokenService.saveFcmToken(s1, "device-1");
+        // then
+        assertAll(
+                () -> assertThat(fcmTokenRepository.count()).isEqualTo(1),
+                () -> verify(fcmTokenCache, never()).evict(any())
+        );
+    }
+
+    @Test
+    @DisplayName("다른 계정으로 같은 기기에서 로그인하면 토큰 소유자를 바꾸고 두 유저의 캐시를 비움")
+    void upsertTest() {
+        // given
+        fcmTokenService.saveFcmToken(s1, "device-1");
+        clearInvocations(fcmTokenCache);
+        // when
+        fcmTokenService.saveFcmToken(t1, "device-1");
+        // then
+        assertAll(
+                () -> assertThat(fcmTokenRepository.count()).isEqualTo(1),
+                () -> assertThat(fcmTokenRepository.findTokensByUserId(s1.getId())).isEmpty(),
+                () -> assertThat(fcmTokenRepository.findTokensByUserId(t1.getId())).containsExactly("device-1"),
+                () -> verify(fcmTokenCache).evict(s1.getId()),
+                () -> verify(fcmTokenCache).evict(t1.getId())
+        );
+    }
+}
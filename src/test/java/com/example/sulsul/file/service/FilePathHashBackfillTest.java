@@ -0,0 +1,73 @@
+package com.example.sulsul.file.service;
+
+import com.example.sulsul.common.type.FileType;
+import com.example.sulsul.file.entity.File;
+import com.example.sulsul.file.repository.FileRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(FilePathHashBackfill.class)
+@TestPropertySource(properties = "file.path-hash.backfill-batch-size=2")
+class FilePathHashBackfillTest {
+
+    @Autowired
+    private FilePathHashBackfill backfill;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("해시가 없는 파일의 해시를 채우고 같은 파일경로의 중복 행은 삭제")
+    void backfillTest() {
+        // given
+        File saved = fileRepository.save(File.builder()
+                .filePath("profile/saved.png")
+                .fileType(FileType.IMAGE)
+                .build());
+        insertWithoutHash(10_001L, "profile/a.png");
+        insertWithoutHash(10_002L, "profile/b.png");
+        insertWithoutHash(10_003L, "profile/a.png");
+        insertWithoutHash(10_004L, "profile/saved.png");
+        insertWithoutHash(10_005L, "profile/c.png");
+        // when
+        backfill.backfill();
+        entityManager.flush();
+        entityManager.clear();
+        // then
+        List<Long> remainingIds = jdbcTemplate.queryForList("select file_id from files order by file_id", Long.class);
+        assertAll(
+                () -> assertThat(remainingIds).containsExactly(saved.getId(), 10_001L, 10_002L, 10_005L),
+                () -> assertThat(fileRepository.findByFilePathHash(File.hashFilePath("profile/a.png")))
+                        .hasValueSatisfying(file -> assertThat(file.getId()).isEqualTo(10_001L)),
+                () -> assertThat(fileRepository.findByFilePathHash(File.hashFilePath("profile/c.png"))).isPresent(),
+                () -> assertThat(fileRepository.findFilesWithoutHash(0L, PageRequest.of(0, 10)))
+                        .isEmpty()
+        );
+    }
+
+    private void insertWithoutHash(Long id, String filePath) {
+        jdbcTemplate.update("insert into files (file_id, file_path, file_type) values (?, ?, ?)",
+                id, filePath, FileType.IMAGE.name());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.sulsul.file.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.example.sulsul.common.type.FileType;
+import com.example.sulsul.exception.file.FileNotFoundException;
+import com.example.sulsul.file.entity.File;
+import com.example.sulsul.file.repository.FileRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(FileService.class)
+@TestPropertySource(properties = {"BUCKET=sulsul", "REGION=ap-northeast-2"})
+class FileServiceTest {
+
+    private static final String HOST = "https://sulsul.s3.ap-northeast-2.amazonaws.com/";
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AmazonS3 amazonS3;
+
+    @Test
+    @DisplayName("파일경로 해시로 파일 조회")
+    void hashLookupTest() {
+        // given
+        File saved = fileRepository.save(File.builder()
+                .filePath(HOST + "profile/a.png")
+                .fileType(FileType.IMAGE)
+                .build());
+        // when
+        File found = fileService.findFileByFilePath(HOST + "profile/a.png");
+        // then
+        assertAll(
+                () -> assertThat(found.getId()).isEqualTo(saved.getId()),
+                () -> assertThat(found.getFilePathHash()).isEqualTo(File.hashFilePath(HOST + "profile/a.png")),
+                () -> assertThatThrownBy(() -> fileService.findFileByFilePath(HOST + "profile/b.png"))
+                        .isInstanceOf(FileNotFoundException.class)
+        );
+    }
+
+    @Test
+    @DisplayName("해시가 채워지지 않은 파일도 파일경로로 조회, 삭제")
+    void legacyRowLookupTest() {
+        // given
+        jdbcTemplate.update("insert into files (file_id, file_path, file_type) values (?, ?, ?)",
+                10_001L, HOST + "essay/legacy.pdf", FileType.ESSAY.name());
+        when(amazonS3.doesObjectExist(eq("sulsul"), anyString())).thenReturn(true);
+        // when
+        File found = fileService.findFileByFilePath(HOST + "essay/legacy.pdf");
+        fileService.deleteFile(HOST + "essay/legacy.pdf");
+        // then
+        assertAll(
+                () -> assertThat(found.getId()).isEqualTo(10_001L),
+                () -> assertThat(fileRepository.findById(10_001L)).isEmpty(),
+                () -> verify(amazonS3).deleteObject("sulsul", "essay/legacy.pdf")
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.sulsul.notification.benchmark;
+
+import com.example.sulsul.notification.entity.HiddenNotification;
+import com.example.sulsul.notification.entity.Notification;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 대량 저장 벤치마크 (./gradlew benchmark)
+ * IDENTITY 전략의 알림(Notification)과 TABLE pooled-lo 전략의 전체알림 숨김(HiddenNotification, 일괄 삭제시 대량 저장)을
+ * 같은 수만큼 저장하고 소요 시간과 JDBC statement 수를 비교한다. IDENTITY 는 insert 마다 id를 받아와야 해서 배치되지 않는다.
+ * 알림과 댓글은 id를 커서로 사용하므로 insert 순서를 보장하는 IDENTITY 를 유지한다.
+ * 따라서 pooled-lo 결과는 알림/댓글 저장 성능이 아니라 pooled 전략을 쓰는 엔티티의 저장 성능이다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationBulkInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int FLUSH_SIZE = 50;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("IDENTITY(알림) vs TABLE pooled-lo(전체알림 숨김) 대량 저장")
+    void bulkInsert() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // JIT 예열
+        insert(i -> new Notification("예열", "예열"));
+        insert(i -> new HiddenNotification(0L, (long) i));
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long userId = round;
+            statistics.clear();
+            long identityMillis = insert(i -> new Notification("공지 " + i, "공지 내용"));
+            long identityStatements = statistics.getPrepareStatementCount();
+
+            statistics.clear();
+            long pooledMillis = insert(i -> new HiddenNotification(userId, (long) i));
+            long pooledStatements = statistics.getPrepareStatementCount();
+
+            System.out.printf("[round %d] %d rows - IDENTITY: %d ms (%d statements), TABLE pooled-lo: %d ms (%d statements)%n",
+                    round, ROWS, identityMillis, identityStatements, pooledMillis, pooledStatements);
+            assertThat(pooledStatements).isLessThan(identityStatements);
+        }
+    }
+
+    private long insert(IntFunction<Object> factory) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        transaction.executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(factory.apply(i));
+                if ((i + 1) % FLUSH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
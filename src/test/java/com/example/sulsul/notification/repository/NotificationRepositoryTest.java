@@ -5,6 +5,7 @@ import com.example.sulsul.common.type.ReviewState;
 import com.example.sulsul.essay.DemoDataFactory;
 import com.example.sulsul.essay.entity.Essay;
 import com.example.sulsul.essay.repository.EssayRepository;
+import com.example.sulsul.notification.entity.HiddenNotification;
 import com.example.sulsul.notification.entity.Notification;
 import com.example.sulsul.user.entity.User;
 import com.example.sulsul.user.repository.UserRepository;
@@ -12,10 +13,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -33,6 +36,9 @@ class NotificationRepositoryTest {
     @Autowired
     private EssayRepository essayRepository;
 
+    @Autowired
+    private HiddenNotificationRepository hiddenNotificationRepository;
+
     @Test
     @DisplayName("알림조회 테스트")
     void 알림조회_테스트() {
@@ -68,21 +74,94 @@ class NotificationRepositoryTest {
         notificationRepository.save(en2);
 
         // then
-        var teacherNotifications = notificationRepository.findNotificationByUserId(t1.getId());
-        var studentNotifications = notificationRepository.findNotificationByUserId(s1.getId());
+        PageRequest limit = PageRequest.of(0, 10);
+        var teacherNotifications = notificationRepository.findEssayNotificationsBefore(t1.getId(), Long.MAX_VALUE, limit);
+        var studentNotifications = notificationRepository.findEssayNotificationsBefore(s1.getId(), Long.MAX_VALUE, limit);
+        var teacherCommons = notificationRepository.findCommonNotificationsBefore(t1.getId(), Long.MAX_VALUE, limit);
+        var studentCommons = notificationRepository.findCommonNotificationsBefore(s1.getId(), Long.MAX_VALUE, limit);
         Notification n1 = teacherNotifications.get(0);
         Notification n2 = studentNotifications.get(0);
 
         assertAll(
-                () -> assertThat(teacherNotifications.size()).isEqualTo(2),
+                () -> assertThat(teacherNotifications.size() + teacherCommons.size()).isEqualTo(2),
                 () -> assertThat(n1.getTitle()).isEqualTo("첨삭요청 알림"),
                 () -> assertThat(n1.getBody()).isEqualTo(sname + "님으로부터 첨삭요청이 들어왔습니다."),
-                () -> assertThat(studentNotifications.size()).isEqualTo(2),
+                () -> assertThat(studentNotifications.size() + studentCommons.size()).isEqualTo(2),
                 () -> assertThat(n2.getTitle()).isEqualTo("첨삭거절 알림"),
                 () -> assertThat(n2.getBody()).isEqualTo(tname + "님이 첨삭요청을 거절했습니다.")
         );
     }
 
+    @Test
+    @DisplayName("커서기반 알림조회 테스트")
+    void 커서기반_알림조회_테스트() {
+        // given
+        User s1 = DemoDataFactory.createStudent1(1L);
+        User t1 = DemoDataFactory.createTeacher1(2L);
+        Essay essay1 = DemoDataFactory.createEssay1(1L, s1, t1, EssayState.REQUEST, ReviewState.OFF);
+        userRepository.save(s1);
+        userRepository.save(t1);
+        essayRepository.save(essay1);
+
+        Notification cn1 = notificationRepository.save(new Notification("전체공지1", "서버 점검이 예정되어 있습니다."));
+        Notification en1 = notificationRepository.save(Notification.builder()
+                .title("첨삭요청 알림").body("첨삭요청이 들어왔습니다.").user(t1).essay(essay1).build());
+        Notification cn2 = notificationRepository.save(new Notification("전체공지2", "서버 점검이 완료되었습니다."));
+        Notification en2 = notificationRepository.save(Notification.builder()
+                .title("첨삭거절 알림").body("첨삭요청이 거절되었습니다.").user(s1).essay(essay1).build());
+
+        // when
+        var firstCommons = notificationRepository.findCommonNotificationsBefore(s1.getId(), Long.MAX_VALUE, PageRequest.of(0, 1));
+        var nextCommons = notificationRepository.findCommonNotificationsBefore(s1.getId(), firstCommons.get(0).getId(), PageRequest.of(0, 1));
+        var teacherEssays = notificationRepository.findEssayNotificationsBefore(t1.getId(), Long.MAX_VALUE, PageRequest.of(0, 10));
+        var newCommons = notificationRepository.findCommonNotificationsAfter(s1.getId(), cn1.getId(), PageRequest.of(0, 10));
+        var newStudentEssays = notificationRepository.findEssayNotificationsAfter(s1.getId(), en1.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertAll(
+                () -> assertThat(firstCommons).containsExactly(cn2),
+                () -> assertThat(nextCommons).containsExactly(cn1),
+                () -> assertThat(teacherEssays).containsExactly(en1),
+                () -> assertThat(newCommons).containsExactly(cn2),
+                () -> assertThat(newStudentEssays).containsExactly(en2),
+                () -> assertThat(notificationRepository.findLatestEssayNotificationId(s1.getId())).isEqualTo(en2.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("알림 소유권 확인 및 전체알림 숨김 테스트")
+    void 알림삭제_테스트() {
+        // given
+        User s1 = DemoDataFactory.createStudent1(1L);
+        User t1 = DemoDataFactory.createTeacher1(2L);
+        Essay essay1 = DemoDataFactory.createEssay1(1L, s1, t1, EssayState.REQUEST, ReviewState.OFF);
+        userRepository.save(s1);
+        userRepository.save(t1);
+        essayRepository.save(essay1);
+
+        Notification cn1 = notificationRepository.save(new Notification("전체공지1", "서버 점검이 예정되어 있습니다."));
+        Notification en1 = notificationRepository.save(Notification.builder()
+                .title("첨삭요청 알림").body("첨삭요청이 들어왔습니다.").user(t1).essay(essay1).build());
+        Notification en2 = notificationRepository.save(Notification.builder()
+                .title("첨삭거절 알림").body("첨삭요청이 거절되었습니다.").user(s1).essay(essay1).build());
+
+        // when
+        var ownerships = notificationRepository.findOwnerships(List.of(cn1.getId(), en1.getId(), en2.getId()));
+        hiddenNotificationRepository.save(new HiddenNotification(s1.getId(), cn1.getId()));
+        int deletedByTeacher = notificationRepository.deleteEssayNotifications(t1.getId(), List.of(en2.getId()));
+        int deletedByStudent = notificationRepository.deleteEssayNotifications(s1.getId(), List.of(en2.getId()));
+
+        // then
+        assertAll(
+                () -> assertThat(ownerships).hasSize(3),
+                () -> assertThat(ownerships).filteredOn(o -> o.isOwnedBy(s1.getId())).hasSize(2),
+                () -> assertThat(deletedByTeacher).isZero(),
+                () -> assertThat(deletedByStudent).isEqualTo(1),
+                () -> assertThat(notificationRepository.findCommonNotificationsBefore(s1.getId(), Long.MAX_VALUE, PageRequest.of(0, 10))).isEmpty(),
+                () -> assertThat(notificationRepository.findCommonNotificationsBefore(t1.getId(), Long.MAX_VALUE, PageRequest.of(0, 10))).hasSize(1)
+        );
+    }
+
     @Test
     void 알림생성일_계산_테스트() {
         //2023-08-22T01:09:37.327784300
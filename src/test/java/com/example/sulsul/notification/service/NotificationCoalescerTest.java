@@ -0,0 +1,242 @@
+package com.example.sulsul.notification.service;
+
+import com.example.sulsul.common.type.EssayState;
+import com.example.sulsul.common.type.ReviewState;
+import com.example.sulsul.essay.DemoDataFactory;
+import com.example.sulsul.essay.entity.Essay;
+import com.example.sulsul.essay.repository.EssayRepository;
+import com.example.sulsul.fcm.service.FcmMessageService;
+import com.example.sulsul.notification.entity.NotiTitle;
+import com.example.sulsul.user.entity.User;
+import com.example.sulsul.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class NotificationCoalescerTest {
+
+    private static final long WINDOW_MILLIS = 10_000;
+    private static final int MAX_EVENTS = 3;
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final FcmMessageService fcmMessageService = mock(FcmMessageService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EssayRepository essayRepository = mock(EssayRepository.class);
+    private final InMemoryBuffer buffer = new InMemoryBuffer();
+
+    private User s1;
+    private Essay essay1;
+    private NotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        s1 = DemoDataFactory.createStudent1(1L);
+        User t1 = DemoDataFactory.createTeacher1(2L);
+        essay1 = DemoDataFactory.createEssay1(1L, s1, t1, EssayState.REQUEST, ReviewState.OFF);
+        when(userRepository.getReferenceById(1L)).thenReturn(s1);
+        when(essayRepository.getReferenceById(1L)).thenReturn(essay1);
+        coalescer = coalescer(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 발생한 알림은 하나의 묶음 알림으로 전송")
+    void coalesceTest() {
+        // given
+        coalescer.send(s1, essay1, NotiTitle.REQUEST, "첫번째 알림");
+        coalescer.send(s1, essay1, NotiTitle.REQUEST, "두번째 알림");
+        coalescer.flushDue();
+        verifyNoInteractions(notificationService, fcmMessageService);
+        // when
+        buffer.elapse(WINDOW_MILLIS);
+        coalescer.flushDue();
+        // then
+        String body = "두번째 알림 외 1건의 알림이 있습니다.";
+        verify(notificationService).saveEssayNotification(NotiTitle.DIGEST.getTitle(), body, s1, essay1);
+        verify(fcmMessageService).sendToOne(s1, NotiTitle.DIGEST.getTitle(), body);
+    }
+
+    @Test
+    @DisplayName("알림이 하나면 묶지 않고 그대로 전송")
+    void singleEventTest() {
+        // given
+        coalescer.send(s1, essay1, NotiTitle.REQUEST, "첨삭요청이 들어왔습니다.");
+        // when
+        buffer.elapse(WINDOW_MILLIS);
+        coalescer.flushDue();
+        coalescer.flushDue();
+        // then
+        verify(notificationService).saveEssayNotification(NotiTitle.REQUEST.getTitle(),
+                "첨삭요청이 들어왔습니다.", s1, essay1);
+        verify(fcmMessageService).sendToOne(s1, NotiTitle.REQUEST.getTitle(), "첨삭요청이 들어왔습니다.");
+    }
+
+    @Test
+    @DisplayName("max-events 개가 쌓이면 대기 시간 전에 바로 전송")
+    void maxEventsFlushTest() {
+        // when
+        for (int i = 1; i <= MAX_EVENTS; i++) {
+            coalescer.send(s1, essay1, NotiTitle.REQUEST, "알림" + i);
+        }
+        // then
+        verify(notificationService, timeout(1_000)).saveEssayNotification(NotiTitle.DIGEST.getTitle(),
+                "알림3 외 2건의 알림이 있습니다.", s1, essay1);
+    }
+
+    @Test
+    @DisplayName("여러 첨삭의 알림을 묶으면 특정 첨삭으로 연결하지 않음")
+    void multiEssayDigestTest() {
+        // given
+        Essay essay2 = DemoDataFactory.createEssay1(2L, s1, DemoDataFactory.createTeacher1(2L),
+                EssayState.REQUEST, ReviewState.OFF);
+        coalescer.send(s1, essay1, NotiTitle.REQUEST, "첫번째 알림");
+        coalescer.send(s1, essay2, NotiTitle.REQUEST, "두번째 알림");
+        // when
+        buffer.elapse(WINDOW_MILLIS);
+        coalescer.flushDue();
+        // then
+        verify(notificationService).saveEssayNotification(NotiTitle.DIGEST.getTitle(),
+                "두번째 알림 외 1건의 알림이 있습니다.", s1, null);
+        verify(essayRepository, never()).getReferenceById(any());
+    }
+
+    @Test
+    @DisplayName("알림 저장에 실패하면 다시 쌓았다가 다음 전송 때 전송")
+    void requeueTest() {
+        // given
+        doThrow(new IllegalStateException("db down")).doNothing()
+                .when(notificationService).saveEssayNotification(any(), any(), any(), any());
+        coalescer.send(s1, essay1, NotiTitle.REQUEST, "첫번째 알림");
+        coalescer.send(s1, essay1, NotiTitle.REQUEST, "두번째 알림");
+        buffer.elapse(WINDOW_MILLIS);
+        coalescer.flushDue();
+        verifyNoInteractions(fcmMessageService);
+        // when
+        buffer.elapse(WINDOW_MILLIS);
+        coalescer.flushDue();
+        // then
+        String body = "두번째 알림 외 1건의 알림이 있습니다.";
+        verify(notificationService, times(2)).saveEssayNotification(NotiTitle.DIGEST.getTitle(), body, s1, essay1);
+        verify(fcmMessageService).sendToOne(s1, NotiTitle.DIGEST.getTitle(), body);
+        assertThat(buffer.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 장애시 묶지 않고 바로 전송")
+    void bufferFailureTest() {
+        // given
+        buffer.failing = true;
+        // when
+        coalescer.send(s1, essay1, NotiTitle.REQUEST, "첨삭요청이 들어왔습니다.");
+        // then
+        verify(notificationService, timeout(1_000)).saveEssayNotification(NotiTitle.REQUEST.getTitle(),
+                "첨삭요청이 들어왔습니다.", s1, essay1);
+    }
+
+    @Test
+    @DisplayName("첨삭알림이 꺼져 있으면 알림을 보내지 않음")
+    void disabledTest() {
+        // given
+        NotificationCoalescer disabled = coalescer(false);
+        // when
+        disabled.send(s1, essay1, NotiTitle.REQUEST, "첨삭요청이 들어왔습니다.");
+        disabled.shutdown();
+        // then
+        assertThat(buffer.events).isEmpty();
+        verifyNoInteractions(notificationService, fcmMessageService);
+    }
+
+    private NotificationCoalescer coalescer(boolean enabled) {
+        return new NotificationCoalescer(notificationService, fcmMessageService, buffer, userRepository,
+                essayRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                enabled, WINDOW_MILLIS, MAX_EVENTS, 1_000);
+    }
+
+    /**
+     * Redis 대신 메모리에 알림을 쌓는 버퍼 (elapse 로 시간 경과를 흉내낸다)
+     */
+    private static class InMemoryBuffer extends NotificationCoalesceBuffer {
+
+        private final Map<Long, List<String>> events = new HashMap<>();
+        private final Map<Long, Long> dueAt = new HashMap<>();
+        private long elapsedMillis;
+        private boolean failing;
+
+        InMemoryBuffer() {
+            super(null);
+        }
+
+        void elapse(long millis) {
+            elapsedMillis += millis;
+        }
+
+        @Override
+        public synchronized long append(Long targetId, String event, long dueAt) {
+            if (failing) {
+                throw new IllegalStateException("redis down");
+            }
+            List<String> pending = events.computeIfAbsent(targetId, id -> new ArrayList<>());
+            pending.add(event);
+            this.dueAt.putIfAbsent(targetId, dueAt);
+            return pending.size();
+        }
+
+        @Override
+        public synchronized void markDue(Long targetId) {
+            dueAt.put(targetId, 0L);
+        }
+
+        @Override
+        public synchronized Set<Long> dueTargets(long now, int limit) {
+            return dueAt.entrySet().stream()
+                    .filter(entry -> entry.getValue() <= now + elapsedMillis)
+                    .map(Map.Entry::getKey)
+                    .limit(limit)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public synchronized void requeue(Long targetId, List<String> events, long dueAt) {
+            if (events.isEmpty()) {
+                return;
+            }
+            List<String> pending = this.events.computeIfAbsent(targetId, id -> new ArrayList<>());
+            pending.addAll(0, events);
+            this.dueAt.putIfAbsent(targetId, dueAt);
+        }
+
+        @Override
+        public synchronized List<String> claim(Long targetId) {
+            if (dueAt.remove(targetId) == null) {
+                return List.of();
+            }
+            List<String> claimed = events.remove(targetId);
+            return claimed == null ? List.of() : claimed;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.sulsul.notification.service;
+
+import com.example.sulsul.common.type.EssayState;
+import com.example.sulsul.common.type.ReviewState;
+import com.example.sulsul.essay.DemoDataFactory;
+import com.example.sulsul.essay.entity.Essay;
+import com.example.sulsul.essay.repository.EssayRepository;
+import com.example.sulsul.notification.entity.HiddenNotification;
+import com.example.sulsul.notification.entity.Notification;
+import com.example.sulsul.notification.repository.HiddenNotificationRepository;
+import com.example.sulsul.notification.repository.NotificationRepository;
+import com.example.sulsul.user.entity.User;
+import com.example.sulsul.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NotificationRetentionService.class)
+@TestPropertySource(properties = {
+        "noti.retention.enabled=true",
+        "noti.retention.max-age-days=180",
+        "noti.retention.per-user-cap=2",
+        "noti.retention.batch-size=2",
+        "noti.retention.batch-pause-ms=0"
+})
+class NotificationRetentionServiceTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private NotificationRetentionService retentionService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private HiddenNotificationRepository hiddenNotificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private StringRedisTemplate redisTemplate;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @MockBean
+    private UnreadCountService unreadCountService;
+
+    private User s1;
+    private Essay essay1;
+
+    @BeforeEach
+    void setUp() {
+        s1 = userRepository.save(DemoDataFactory.createStudent1(1L));
+        User t1 = userRepository.save(DemoDataFactory.createTeacher1(2L));
+        essay1 = essayRepository.save(DemoDataFactory.createEssay1(1L, s1, t1, EssayState.REQUEST, ReviewState.OFF));
+    }
+
+    @Test
+    @DisplayName("보관기간이 지난 알림만 삭제하고 생성일이 없는 알림은 건너뜀")
+    void purgeExpiredTest() {
+        // given
+        LocalDateTime old = LocalDateTime.now().minusDays(200);
+        Notification n1 = saveNotification(old);
+        Notification n2 = saveNotification(null);
+        Notification n3 = saveNotification(old);
+        Notification n4 = saveNotification(LocalDateTime.now());
+        Notification n5 = saveNotification(old);
+        hiddenNotificationRepository.save(new HiddenNotification(s1.getId(), n1.getId()));
+        // when
+        long purged = retentionService.purgeExpired(LocalDateTime.now().minusDays(180));
+        // then
+        assertAll(
+                () -> assertThat(purged).isEqualTo(2),
+                () -> assertThat(remainingIds()).containsExactly(n2.getId(), n4.getId(), n5.getId()),
+                () -> assertThat(hiddenNotificationRepository.count()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("보관기간 정리 후 첨삭알림 수신자 카운터를 다시 세고, 삭제된 전체알림 수만큼 전체알림 카운터 감소")
+    void purgeExpiredUnreadCountTest() {
+        // given
+        LocalDateTime old = LocalDateTime.now().minusDays(200);
+        saveCommonNotification(old);
+        saveNotification(old);
+        saveCommonNotification(old);
+        saveCommonNotification(LocalDateTime.now());
+        // when
+        long purged = retentionService.purgeExpired(LocalDateTime.now().minusDays(180));
+        // then
+        assertAll(
+                () -> assertThat(purged).isEqualTo(3),
+                () -> verify(unreadCountService).decreaseCommonCount(2),
+                () -> verify(notificationService).refreshUnreadCount(s1.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("생성일이 없는 알림만 있어도 끝까지 읽고 종료")
+    void purgeExpiredWithoutCreatedDateTest() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            saveNotification(null);
+        }
+        // when
+        long purged = retentionService.purgeExpired(LocalDateTime.now().minusDays(180));
+        // then
+        assertAll(
+                () -> assertThat(purged).isZero(),
+                () -> assertThat(notificationRepository.count()).isEqualTo(5)
+        );
+    }
+
+    @Test
+    @DisplayName("유저별 최대 보관개수를 넘은 오래된 첨삭알림 삭제")
+    void purgeOverCapTest() {
+        // given
+        Notification common = notificationRepository.save(new Notification("공지", "전체알림"));
+        Notification n1 = saveNotification(LocalDateTime.now());
+        Notification n2 = saveNotification(LocalDateTime.now());
+        Notification n3 = saveNotification(LocalDateTime.now());
+        Notification n4 = saveNotification(LocalDateTime.now());
+        Notification n5 = saveNotification(LocalDateTime.now());
+        // when
+        long purged = retentionService.purgeOverCap();
+        // then
+        assertAll(
+                () -> assertThat(purged).isEqualTo(3),
+                () -> assertThat(remainingIds()).containsExactly(common.getId(), n4.getId(), n5.getId()),
+                () -> verify(notificationService).refreshUnreadCount(s1.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("락을 잡은 경우에만 정리하고, 잡은 값으로 락을 해제")
+    @SuppressWarnings("unchecked")
+    void lockTest() {
+        // given
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("noti:retention:lock"), anyString(), any(Duration.class)))
+                .thenReturn(false, true);
+        saveNotification(LocalDateTime.now().minusDays(200));
+        // when
+        retentionService.purge();
+        long afterLocked = notificationRepository.count();
+        retentionService.purge();
+        // then
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(2))
+                .setIfAbsent(eq("noti:retention:lock"), owner.capture(), any(Duration.class));
+        assertAll(
+                () -> assertThat(afterLocked).isEqualTo(1),
+                () -> assertThat(notificationRepository.count()).isZero(),
+                () -> verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("noti:retention:lock")),
+                        eq(owner.getAllValues().get(1))),
+                () -> verify(redisTemplate, never()).delete(anyString())
+        );
+    }
+
+    private Notification saveNotification(LocalDateTime createdDate) {
+        Notification notification = notificationRepository.save(Notification.builder()
+                .title("첨삭요청 알림")
+                .body("첨삭요청이 들어왔습니다.")
+                .user(s1)
+                .essay(essay1)
+                .build());
+        jdbcTemplate.update("update notifications set created_date = ? where notification_id = ?",
+                createdDate, notification.getId());
+        return notification;
+    }
+
+    private void saveCommonNotification(LocalDateTime createdDate) {
+        Notification notification = notificationRepository.save(new Notification("공지", "전체알림"));
+        jdbcTemplate.update("update notifications set created_date = ? where notification_id = ?",
+                createdDate, notification.getId());
+    }
+
+    private List<Long> remainingIds() {
+        return jdbcTemplate.queryForList("select notification_id from notifications order by notification_id", Long.class);
+    }
+}
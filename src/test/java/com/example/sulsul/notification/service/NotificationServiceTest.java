@@ -0,0 +1,157 @@
+package com.example.sulsul.notification.service;
+
+import com.example.sulsul.common.type.EssayState;
+import com.example.sulsul.common.type.ReviewState;
+import com.example.sulsul.essay.DemoDataFactory;
+import com.example.sulsul.essay.entity.Essay;
+import com.example.sulsul.essay.repository.EssayRepository;
+import com.example.sulsul.exception.notification.NotAllowedNotiDeleteException;
+import com.example.sulsul.notification.entity.Notification;
+import com.example.sulsul.notification.repository.HiddenNotificationRepository;
+import com.example.sulsul.notification.repository.NotificationRepository;
+import com.example.sulsul.user.entity.User;
+import com.example.sulsul.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NotificationService.class)
+class NotificationServiceTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private HiddenNotificationRepository hiddenNotificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @MockBean
+    private UnreadCountService unreadCountService;
+
+    @MockBean
+    private NotificationPublisher notificationPublisher;
+
+    private User s1;
+    private User t1;
+    private Essay essay1;
+
+    @BeforeEach
+    void setUp() {
+        s1 = userRepository.save(DemoDataFactory.createStudent1(1L));
+        t1 = userRepository.save(DemoDataFactory.createTeacher1(2L));
+        essay1 = essayRepository.save(DemoDataFactory.createEssay1(1L, s1, t1, EssayState.REQUEST, ReviewState.OFF));
+    }
+
+    @Test
+    @DisplayName("최신 알림보다 큰 id로 읽음처리하면 최신 알림까지만 읽음처리")
+    void markAsReadClampTest() {
+        // given
+        Notification en1 = saveEssayNotification(s1);
+        // when
+        Long readId = notificationService.markAsRead(s1.getId(), en1.getId() + 1_000);
+        Notification en2 = saveEssayNotification(s1);
+        // then
+        assertAll(
+                () -> assertThat(readId).isEqualTo(en1.getId()),
+                () -> assertThat(notificationService.getLastReadId(s1.getId())).isEqualTo(en1.getId()),
+                () -> assertThat(notificationService.getUnreadNotifications(s1.getId(), 10).getContent()).containsExactly(en2)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 유저의 알림이 섞여 있으면 아무것도 삭제하지 않고 예외")
+    void deleteOthersNotificationTest() {
+        // given
+        Notification own = saveEssayNotification(s1);
+        Notification others = saveEssayNotification(t1);
+        // when, then
+        assertThatThrownBy(() -> notificationService.deleteNotifications(s1.getId(), List.of(own.getId(), others.getId())))
+                .isInstanceOf(NotAllowedNotiDeleteException.class);
+        assertThat(notificationRepository.findAllById(List.of(own.getId(), others.getId()))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("첨삭알림은 삭제하고 전체알림은 요청한 유저에게만 숨김처리")
+    void deleteCommonNotificationTest() {
+        // given
+        Notification essayNoti = saveEssayNotification(s1);
+        Notification commonNoti = notificationRepository.save(new Notification("공지", "전체알림"));
+        List<Long> ids = List.of(essayNoti.getId(), commonNoti.getId());
+        // when
+        int deleted = notificationService.deleteNotifications(s1.getId(), ids);
+        // then
+        assertAll(
+                () -> assertThat(deleted).isEqualTo(2),
+                () -> assertThat(notificationRepository.findAllById(ids)).containsExactly(commonNoti),
+                () -> assertThat(hiddenNotificationRepository.findHiddenNotificationIds(s1.getId(), ids))
+                        .containsExactly(commonNoti.getId()),
+                () -> assertThat(hiddenNotificationRepository.findHiddenNotificationIds(t1.getId(), ids)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("이미 숨긴 전체알림은 삭제 수에 포함하지 않음")
+    void deleteHiddenCommonNotificationTest() {
+        // given
+        Notification hidden = notificationRepository.save(new Notification("공지", "숨긴 전체알림"));
+        Notification commonNoti = notificationRepository.save(new Notification("공지", "전체알림"));
+        notificationService.deleteNotifications(s1.getId(), List.of(hidden.getId()));
+        List<Long> ids = List.of(hidden.getId(), commonNoti.getId());
+        // when
+        int deleted = notificationService.deleteNotifications(s1.getId(), ids);
+        // then
+        assertAll(
+                () -> assertThat(deleted).isEqualTo(1),
+                () -> assertThat(hiddenNotificationRepository.findHiddenNotificationIds(s1.getId(), ids))
+                        .containsExactlyInAnyOrder(hidden.getId(), commonNoti.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 읽음 위치 이후의 첨삭알림, 전체알림 수를 DB에서 세어 카운터를 채움")
+    void unreadCountMissTest() {
+        // given
+        notificationRepository.save(new Notification("공지", "전체알림"));
+        saveEssayNotification(s1);
+        saveEssayNotification(t1);
+        when(unreadCountService.findUnreadCount(s1.getId())).thenReturn(OptionalLong.empty());
+        // when
+        long count = notificationService.getUnreadCount(s1.getId());
+        // then
+        assertThat(count).isEqualTo(2);
+        verify(unreadCountService).reset(s1.getId(), 1, 1);
+    }
+
+    private Notification saveEssayNotification(User target) {
+        return notificationRepository.save(Notification.builder()
+                .title("첨삭요청 알림")
+                .body("첨삭요청이 들어왔습니다.")
+                .user(target)
+                .essay(essay1)
+                .build());
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.sulsul.notification.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 읽지 않은 알림 카운터 테스트 (카운터 계산이 Lua 스크립트에 있으므로 로컬 Redis 필요: REDIS_HOSTNAME, 기본 localhost)
+ * Redis 에 연결할 수 없으면 건너뛴다.
+ */
+class UnreadCountServiceTest {
+
+    private static final String COMMON_TOTAL_KEY = "noti:common:total";
+    private static final String COMMON_EPOCH_KEY = "noti:common:epoch";
+    private static final Long USER_ID = 910_000_001L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private UnreadCountService unreadCountService;
+    private String originalCommonTotal;
+    private String originalCommonEpoch;
+
+    @BeforeEach
+    void setUp() {
+        String host = Objects.requireNonNullElse(System.getenv("REDIS_HOSTNAME"), "localhost");
+        connectionFactory = new LettuceConnectionFactory(host, 6379);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.ping());
+        } catch (RuntimeException e) {
+            connectionFactory.destroy();
+            connectionFactory = null;
+            assumeTrue(false, "Redis 에 연결할 수 없어 테스트를 건너뜁니다: " + e.getMessage());
+        }
+        // 전체알림 수와 세대는 공용 키이므로 테스트 후 되돌린다.
+        originalCommonTotal = redisTemplate.opsForValue().get(COMMON_TOTAL_KEY);
+        originalCommonEpoch = redisTemplate.opsForValue().get(COMMON_EPOCH_KEY);
+        redisTemplate.delete(userKeys());
+        unreadCountService = new UnreadCountService(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory == null) {
+            return;
+        }
+        redisTemplate.delete(userKeys());
+        restore(COMMON_TOTAL_KEY, originalCommonTotal);
+        restore(COMMON_EPOCH_KEY, originalCommonEpoch);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("첨삭알림 카운터는 트랜잭션 커밋 이후 증가")
+    void increaseEssayCountTest() {
+        // given
+        unreadCountService.reset(USER_ID, 0, 0);
+        TransactionSynchronizationManager.initSynchronization();
+        long beforeCommit;
+        try {
+            unreadCountService.increaseEssayCount(USER_ID);
+            unreadCountService.increaseEssayCount(USER_ID);
+            beforeCommit = count();
+            // when
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        // then
+        long afterCommit = count();
+        assertAll(
+                () -> assertThat(beforeCommit).isZero(),
+                () -> assertThat(afterCommit).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("읽음처리 기준점이 없는 유저는 카운터가 없고, 채운 뒤에는 이후 전체알림을 더해서 셈")
+    void commonCountTest() {
+        // given
+        unreadCountService.increaseCommonCount();
+        unreadCountService.increaseEssayCount(USER_ID);
+        OptionalLong missing = unreadCountService.findUnreadCount(USER_ID);
+        // when
+        unreadCountService.reset(USER_ID, 1, 1);
+        unreadCountService.increaseCommonCount();
+        unreadCountService.increaseCommonCount();
+        unreadCountService.increaseEssayCount(USER_ID);
+        // then
+        assertAll(
+                () -> assertThat(missing).isEmpty(),
+                () -> assertThat(count()).isEqualTo(5)
+        );
+    }
+
+    @Test
+    @DisplayName("읽음처리하면 남은 첨삭알림, 전체알림 수로 카운터 재설정")
+    void resetTest() {
+        // given
+        unreadCountService.reset(USER_ID, 0, 0);
+        for (int i = 0; i < 3; i++) {
+            unreadCountService.increaseCommonCount();
+            unreadCountService.increaseEssayCount(USER_ID);
+        }
+        assertThat(count()).isEqualTo(6);
+        // when
+        unreadCountService.reset(USER_ID, 1, 2);
+        long afterReset = count();
+        unreadCountService.increaseCommonCount();
+        // then
+        assertAll(
+                () -> assertThat(afterReset).isEqualTo(3),
+                () -> assertThat(count()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    @DisplayName("전체알림이 삭제되면 전체알림 수를 줄이고 유저별 기준점을 무효화")
+    void decreaseCommonCountTest() {
+        // given
+        unreadCountService.reset(USER_ID, 1, 0);
+        long total = Long.parseLong(Objects.requireNonNullElse(redisTemplate.opsForValue().get(COMMON_TOTAL_KEY), "0"));
+        // when
+        unreadCountService.decreaseCommonCount(2);
+        OptionalLong afterDecrease = unreadCountService.findUnreadCount(USER_ID);
+        unreadCountService.reset(USER_ID, 1, 1);
+        // then
+        assertAll(
+                () -> assertThat(afterDecrease).isEmpty(),
+                () -> assertThat(redisTemplate.opsForValue().get(COMMON_TOTAL_KEY)).isEqualTo(String.valueOf(total - 2)),
+                () -> assertThat(count()).isEqualTo(2)
+        );
+    }
+
+    private void restore(String key, String value) {
+        if (value == null) {
+            redisTemplate.delete(key);
+        } else {
+            redisTemplate.opsForValue().set(key, value);
+        }
+    }
+
+    private long count() {
+        return unreadCountService.findUnreadCount(USER_ID).orElseThrow();
+    }
+
+    private List<String> userKeys() {
+        return List.of("noti:unread:" + USER_ID, "noti:common:read:" + USER_ID);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.sulsul.refreshtoken.benchmark;
+
+import com.example.sulsul.refreshtoken.RefreshTokenRepository;
+import com.example.sulsul.refreshtoken.RefreshTokenStore;
+import com.example.sulsul.refreshtoken.RefreshTokenStore.RotationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * RefreshToken 재발급 벤치마크 (./gradlew benchmark, 로컬 Redis 필요: REDIS_HOSTNAME, 기본 localhost)
+ * GET 후 Java 에서 비교하고 SET 하던 방식(변경 전)과 Lua compare-and-swap(변경 후)의 처리량을 비교하고,
+ * 같은 토큰으로 동시에 재발급을 요청했을 때 몇 건이 성공하는지 확인한다.
+ */
+@Tag("benchmark")
+class RefreshTokenRotationBenchmark {
+
+    private static final String KEY_PREFIX = "refreshToken:user:";
+    private static final long USER_ID_OFFSET = 900_000_000L;
+    private static final int USERS = 20_000;
+    private static final int THREADS = 16;
+    private static final int CONTENDERS = 50;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        String host = Objects.requireNonNullElse(System.getenv("REDIS_HOSTNAME"), "localhost");
+        connectionFactory = new LettuceConnectionFactory(host, 6379);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.ping());
+        } catch (RuntimeException e) {
+            connectionFactory.destroy();
+            connectionFactory = null;
+            assumeTrue(false, "Redis 에 연결할 수 없어 벤치마크를 건너뜁니다: " + e.getMessage());
+        }
+        refreshTokenStore = new RefreshTokenStore(redisTemplate, mock(RefreshTokenRepository.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory == null) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int i = 0; i <= USERS; i++) {
+                stringConnection.del(KEY_PREFIX + (USER_ID_OFFSET + i));
+            }
+            return null;
+        });
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("GET+SET vs Lua CAS 재발급 처리량")
+    void rotationThroughput() throws Exception {
+        // JIT 예열
+        seed("old");
+        run(i -> naiveRotate(USER_ID_OFFSET + i, "old", "new"));
+        seed("old");
+        run(i -> refreshTokenStore.rotate(USER_ID_OFFSET + i, "old", "new") == RotationResult.MATCHED);
+
+        seed("old");
+        long naiveMillis = run(i -> naiveRotate(USER_ID_OFFSET + i, "old", "new"));
+        seed("old");
+        long casMillis = run(i -> refreshTokenStore.rotate(USER_ID_OFFSET + i, "old", "new") == RotationResult.MATCHED);
+
+        System.out.printf("%d rotations, %d threads - GET+SET: %d ms (%.0f ops/s), Lua CAS: %d ms (%.0f ops/s)%n",
+                USERS, THREADS, naiveMillis, USERS * 1000.0 / naiveMillis, casMillis, USERS * 1000.0 / casMillis);
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 동시 재발급시 한 건만 성공")
+    void concurrentRotationOfSameToken() throws Exception {
+        // given
+        long userId = USER_ID_OFFSET + USERS;
+        refreshTokenStore.save(userId, "old");
+        // when
+        int naiveWinners = contend(i -> naiveRotate(userId, "old", "naive-" + i));
+        refreshTokenStore.save(userId, "old");
+        int casWinners = contend(i -> refreshTokenStore.rotate(userId, "old", "cas-" + i) == RotationResult.MATCHED);
+
+        System.out.printf("%d concurrent rotations of one token - GET+SET winners: %d, Lua CAS winners: %d%n",
+                CONTENDERS, naiveWinners, casWinners);
+        // then
+        assertThat(casWinners).isEqualTo(1);
+    }
+
+    /**
+     * 변경 전 방식: 조회 후 비교하고 덮어쓴다. (두 번 왕복, 원자적이지 않음)
+     */
+    private boolean naiveRotate(long userId, String refreshToken, String newRefreshToken) {
+        String key = KEY_PREFIX + userId;
+        String stored = redisTemplate.opsForValue().get(key);
+        if (!refreshToken.equals(stored)) {
+            return false;
+        }
+        redisTemplate.opsForValue().set(key, newRefreshToken, Duration.ofDays(14));
+        return true;
+    }
+
+    /**
+     * 파이프라인으로 유저별 토큰을 한 번에 저장한다.
+     */
+    private void seed(String refreshToken) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int i = 0; i < USERS; i++) {
+                stringConnection.setEx(KEY_PREFIX + (USER_ID_OFFSET + i), Duration.ofDays(14).getSeconds(), refreshToken);
+            }
+            return null;
+        });
+    }
+
+    private long run(IntPredicate rotation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        int chunk = USERS / THREADS;
+        for (int t = 0; t < THREADS; t++) {
+            int from = t * chunk;
+            int to = t == THREADS - 1 ? USERS : from + chunk;
+            tasks.add(() -> {
+                int rotated = 0;
+                for (int i = from; i < to; i++) {
+                    rotated += rotation.test(i) ? 1 : 0;
+                }
+                return rotated;
+            });
+        }
+        long start = System.nanoTime();
+        int rotated = 0;
+        for (Future<Integer> future : executor.invokeAll(tasks)) {
+            rotated += future.get();
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        executor.shutdown();
+        assertThat(rotated).isEqualTo(USERS);
+        return elapsedMillis;
+    }
+
+    private int contend(IntPredicate rotation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < CONTENDERS; i++) {
+            int contender = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return rotation.test(contender);
+            }));
+        }
+        start.countDown();
+        int winners = 0;
+        for (Future<Boolean> future : futures) {
+            winners += future.get(30, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+        return winners;
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,6 +22,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -78,7 +80,8 @@ class ReviewControllerTest {
         Review review1 = DemoDataFactory.createReview1(1L, essay1, s1, t1);
         Review review2 = DemoDataFactory.createReview2(2L, essay2, s2, t1);
         // stub
-        when(reviewService.getReviews(eq(1L))).thenReturn(List.of(review1, review2));
+        when(reviewService.getReviews(eq(1L), isNull(), eq(20)))
+                .thenReturn(new SliceImpl<>(List.of(review1, review2)));
         // when && then
         mockMvc.perform(get("/profiles/{profileId}/reviews", 1L))
                 .andDo(print())
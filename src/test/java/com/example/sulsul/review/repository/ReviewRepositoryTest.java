@@ -9,6 +9,7 @@ import com.example.sulsul.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -203,14 +204,14 @@ class ReviewRepositoryTest {
         Long teacherId = saved.getTeacher().getId();
         reviewRepository.save(r2);
 
-        List<Review> reviews = reviewRepository.findAllByTeacherId(teacherId);
-        //then
+        List<Review> reviews = reviewRepository.findReviewsBefore(teacherId, Long.MAX_VALUE, PageRequest.of(0, 20));
+        //then (최신순)
         assertAll(
                 () -> assertThat(reviews.size()).isEqualTo(2),
-                () -> assertThat(reviews.get(0).getDetail()).isEqualTo("구체적으로 첨삭해주셔서 좋았어요."),
-                () -> assertThat(reviews.get(0).getScore()).isEqualTo(5),
-                () -> assertThat(reviews.get(1).getDetail()).isEqualTo("바쁘셔서 그런지 소통이 잘 안되는 느낌이었어요."),
-                () -> assertThat(reviews.get(1).getScore()).isEqualTo(3)
+                () -> assertThat(reviews.get(0).getDetail()).isEqualTo("바쁘셔서 그런지 소통이 잘 안되는 느낌이었어요."),
+                () -> assertThat(reviews.get(0).getScore()).isEqualTo(3),
+                () -> assertThat(reviews.get(1).getDetail()).isEqualTo("구체적으로 첨삭해주셔서 좋았어요."),
+                () -> assertThat(reviews.get(1).getScore()).isEqualTo(5)
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.example.sulsul.review.service;
+
+import com.example.sulsul.common.type.*;
+import com.example.sulsul.essay.entity.Essay;
+import com.example.sulsul.essay.repository.EssayRepository;
+import com.example.sulsul.review.dto.request.ReviewRequest;
+import com.example.sulsul.review.repository.ReviewRepository;
+import com.example.sulsul.teacherprofile.entity.TeacherProfile;
+import com.example.sulsul.teacherprofile.repository.TeacherProfileRepository;
+import com.example.sulsul.teacherprofile.search.TeacherProfileIndexer;
+import com.example.sulsul.teacherprofile.search.TeacherProfileSearchIndex;
+import com.example.sulsul.teacherprofile.search.UniversityDictionary;
+import com.example.sulsul.teacherprofile.service.TeacherProfileService;
+import com.example.sulsul.user.entity.User;
+import com.example.sulsul.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 여러 리뷰가 동시에 작성되어도 강사 평점과 리뷰 집계가 유실되지 않는지 확인한다.
+ * 각 스레드의 트랜잭션이 실제로 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ReviewService.class, TeacherProfileService.class, TeacherProfileSearchIndex.class, UniversityDictionary.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReviewServiceConcurrencyTest {
+
+    private static final int REVIEW_COUNT = 10;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @MockBean
+    private TeacherProfileIndexer teacherProfileIndexer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TeacherProfileRepository teacherProfileRepository;
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAll();
+        essayRepository.deleteAll();
+        teacherProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 리뷰 작성시 평점 갱신 유실 없음")
+    void createReviewsConcurrently() throws Exception {
+        // given
+        User t1 = userRepository.save(User.builder()
+                .name("임탁균")
+                .email("sulsul@naver.com")
+                .userType(UType.TEACHER)
+                .essayType(EType.NATURE)
+                .loginType(LoginType.KAKAO)
+                .catchPhrase("항상 최선을 다하겠습니다. 화이링")
+                .build());
+        teacherProfileRepository.save(new TeacherProfile(t1, "0.0", 0));
+
+        List<User> students = new ArrayList<>();
+        List<Long> essayIds = new ArrayList<>();
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            User student = userRepository.save(User.builder()
+                    .name("학생" + i)
+                    .email("student" + i + "@gmail.com")
+                    .userType(UType.STUDENT)
+                    .essayType(EType.NATURE)
+                    .loginType(LoginType.KAKAO)
+                    .build());
+            Essay essay = essayRepository.save(Essay.builder()
+                    .univ("홍익대")
+                    .examYear("2022")
+                    .essayType("수리")
+                    .inquiry("2022년 수리논술 3번 문제까지 첨삭 부탁드립니다.")
+                    .essayState(EssayState.COMPLETE)
+                    .reviewState(ReviewState.OFF)
+                    .student(student)
+                    .teacher(t1)
+                    .build());
+            students.add(student);
+            essayIds.add(essay.getId());
+        }
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(REVIEW_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            Long essayId = essayIds.get(i);
+            User student = students.get(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return reviewService.createReview(essayId, student, new ReviewRequest("동시 리뷰 작성 테스트", 5));
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        // then
+        TeacherProfile profile = teacherProfileRepository.findByTeacher(t1).orElseThrow();
+        assertAll(
+                () -> assertThat(reviewRepository.count()).isEqualTo(REVIEW_COUNT),
+                () -> assertThat(profile.getCompletedCount()).isEqualTo(REVIEW_COUNT),
+                () -> assertThat(profile.getReviewHistogram().getCount(5)).isEqualTo(REVIEW_COUNT),
+                () -> assertThat(profile.getReviewScore()).isEqualTo("5.0")
+        );
+    }
+}
@@ -8,6 +8,7 @@ import com.example.sulsul.essay.repository.EssayRepository;
 import com.example.sulsul.review.dto.request.ReviewRequest;
 import com.example.sulsul.review.entity.Review;
 import com.example.sulsul.review.repository.ReviewRepository;
+import com.example.sulsul.teacherprofile.service.TeacherProfileService;
 import com.example.sulsul.user.entity.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +37,9 @@ class ReviewServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private TeacherProfileService teacherProfileService;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -47,7 +52,6 @@ class ReviewServiceTest {
         Essay essay1 = DemoDataFactory.createEssay1(1L, s1, t1, EssayState.COMPLETE, ReviewState.OFF);
         // stub
         when(essayRepository.findById(eq(1L))).thenReturn(Optional.of(essay1));
-        when(essayRepository.save(any(Essay.class))).then(returnsFirstArg());
         when(reviewRepository.save(any(Review.class))).then(returnsFirstArg());
         // when
         ReviewRequest request = new ReviewRequest("리뷰 작성 테스트", 1);
@@ -79,9 +83,10 @@ class ReviewServiceTest {
         // stub
         Review review1 = DemoDataFactory.createReview1(1L, essay1, s1, t1);
         Review review2 = DemoDataFactory.createReview2(2L, essay2, s2, t1);
-        when(reviewRepository.findAllByTeacherId(eq(2L))).thenReturn(List.of(review1, review2));
+        when(reviewRepository.findReviewsBefore(eq(2L), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(review1, review2));
         // when
-        List<Review> reviews = reviewService.getReviews(2L);
+        List<Review> reviews = reviewService.getReviews(2L, null, 20).getContent();
         // then
         assertAll(
                 () -> assertThat(reviews.size()).isEqualTo(2),
@@ -0,0 +1,94 @@
+package com.example.sulsul.teacherprofile.search;
+
+import com.example.sulsul.common.type.EType;
+import com.example.sulsul.essay.DemoDataFactory;
+import com.example.sulsul.teacherprofile.entity.TeacherProfile;
+import com.example.sulsul.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TeacherProfileSearchIndexTest {
+
+    private final UniversityDictionary universityDictionary = new UniversityDictionary();
+
+    private TeacherProfileSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        User t1 = DemoDataFactory.createTeacher1(1L);
+        User t2 = DemoDataFactory.createTeacher2(2L);
+        TeacherProfile p1 = TeacherProfile.builder()
+                .id(1L)
+                .teacher(t1)
+                .careerDetail("서울대 수리과학부 졸업, 수리논술 강의 5년")
+                .possibleUniv("서울대학교, 연세대")
+                .price("50000")
+                .reviewScore("4.5")
+                .completedCount(12)
+                .build();
+        TeacherProfile p2 = TeacherProfile.builder()
+                .id(2L)
+                .teacher(t2)
+                .careerDetail("인문논술 전문")
+                .possibleUniv("고려대/연대")
+                .price("3만원")
+                .reviewScore("3.8")
+                .completedCount(4)
+                .build();
+
+        searchIndex = new TeacherProfileSearchIndex(universityDictionary);
+        searchIndex.rebuild(List.of(ProfileDocument.from(p1, universityDictionary), ProfileDocument.from(p2, universityDictionary)));
+    }
+
+    @Test
+    @DisplayName("키워드와 패싯 조건으로 검색")
+    void searchTest() {
+        // when
+        ProfileSearchResult keyword = searchIndex.search(ProfileSearchCondition.builder().keyword("수리논술").size(20).build());
+        ProfileSearchResult univ = searchIndex.search(ProfileSearchCondition.builder().univ("연세대학교").size(20).build());
+        ProfileSearchResult price = searchIndex.search(ProfileSearchCondition.builder().maxPrice(40000).size(20).build());
+        ProfileSearchResult rating = searchIndex.search(ProfileSearchCondition.builder()
+                .essayType(EType.NATURE).minRating(4).size(20).build());
+        // then
+        assertAll(
+                () -> assertThat(keyword.getDocuments()).extracting(ProfileDocument::getProfileId).containsExactly(1L),
+                () -> assertThat(univ.getDocuments()).extracting(ProfileDocument::getProfileId).containsExactly(1L, 2L),
+                () -> assertThat(univ.getUnivFacets().get("연세대")).isEqualTo(2),
+                () -> assertThat(univ.getUnivFacets().get("서울대")).isEqualTo(1),
+                () -> assertThat(univ.getEssayTypeFacets().get(EType.SOCIETY)).isEqualTo(1),
+                () -> assertThat(price.getDocuments()).extracting(ProfileDocument::getProfileId).containsExactly(2L),
+                () -> assertThat(rating.getDocuments()).extracting(ProfileDocument::getProfileId).containsExactly(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("프로필 변경시 기존 색인 제거")
+    void reindexTest() {
+        // given
+        TeacherProfile updated = TeacherProfile.builder()
+                .id(1L)
+                .teacher(DemoDataFactory.createTeacher1(1L))
+                .careerDetail("경제학과 졸업")
+                .possibleUniv("고려대")
+                .price("60000")
+                .reviewScore("4.5")
+                .completedCount(12)
+                .build();
+        // when
+        searchIndex.index(ProfileDocument.from(updated, universityDictionary));
+        ProfileSearchResult keyword = searchIndex.search(ProfileSearchCondition.builder().keyword("수리논술").size(20).build());
+        ProfileSearchResult univ = searchIndex.search(ProfileSearchCondition.builder().univ("고려대").size(20).build());
+        // then
+        assertAll(
+                () -> assertThat(searchIndex.size()).isEqualTo(2),
+                () -> assertThat(keyword.getTotalCount()).isEqualTo(0),
+                () -> assertThat(univ.getDocuments()).extracting(ProfileDocument::getProfileId).containsExactly(1L, 2L)
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.sulsul.user.benchmark;
+
+import com.example.sulsul.common.type.LoginType;
+import com.example.sulsul.config.jwt.JwtTokenProvider;
+import com.example.sulsul.fcm.repository.FcmTokenRepository;
+import com.example.sulsul.fcm.service.FcmTokenCache;
+import com.example.sulsul.fcm.service.FcmTokenService;
+import com.example.sulsul.refreshtoken.RefreshTokenStore;
+import com.example.sulsul.teacherprofile.search.TeacherProfileIndexer;
+import com.example.sulsul.user.client.KakaoApiClient;
+import com.example.sulsul.user.entity.User;
+import com.example.sulsul.user.repository.UserRepository;
+import com.example.sulsul.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 소셜 로그인 부하 테스트 (./gradlew benchmark)
+ * 처음 가입하는 계정들이 여러 기기에서 동시에 로그인할 때 처리량을 측정하고,
+ * 계정당 유저가 한 명만 생기는지 확인한다. Redis(리프레시 토큰, Fcm 캐시)는 모킹한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({UserService.class, FcmTokenService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SocialLoginBenchmark {
+
+    private static final int ACCOUNTS = 200;
+    private static final int DEVICES_PER_ACCOUNT = 4;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FcmTokenRepository fcmTokenRepository;
+
+    @MockBean
+    private TeacherProfileIndexer teacherProfileIndexer;
+
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private FcmTokenCache fcmTokenCache;
+
+    @MockBean
+    private KakaoApiClient kakaoApiClient;
+
+    @AfterEach
+    void tearDown() {
+        fcmTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 첫 로그인 처리량과 중복 가입 여부")
+    void concurrentFirstLogin() throws Exception {
+        // given
+        Map<String, Set<Long>> userIdsByEmail = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int account = 0; account < ACCOUNTS; account++) {
+            String email = "user" + account + "@kakao.com";
+            for (int device = 0; device < DEVICES_PER_ACCOUNT; device++) {
+                String fcmToken = "device-" + account + "-" + device;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    User user = userService.upsertSocialUser(LoginType.KAKAO, email, "유저", null, fcmToken);
+                    userIdsByEmail.computeIfAbsent(email, key -> ConcurrentHashMap.newKeySet()).add(user.getId());
+                    return user;
+                }));
+            }
+        }
+        // when
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - begin) / 1_000_000);
+        executor.shutdown();
+
+        int logins = ACCOUNTS * DEVICES_PER_ACCOUNT;
+        System.out.printf("%d logins (%d accounts x %d devices, %d threads): %d ms, %.1f logins/s%n",
+                logins, ACCOUNTS, DEVICES_PER_ACCOUNT, THREADS, elapsedMillis, logins * 1000.0 / elapsedMillis);
+        // then
+        assertAll(
+                () -> assertThat(userRepository.count()).isEqualTo(ACCOUNTS),
+                () -> assertThat(userIdsByEmail.values()).allSatisfy(userIds -> assertThat(userIds).hasSize(1)),
+                () -> assertThat(fcmTokenRepository.count()).isEqualTo(logins)
+        );
+    }
+}
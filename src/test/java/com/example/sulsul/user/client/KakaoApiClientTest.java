@@ -0,0 +1,135 @@
+package com.example.sulsul.user.client;
+
+import com.example.sulsul.exception.kakao.InvalidKakaoTokenException;
+import com.example.sulsul.exception.kakao.KakaoApiUnavailableException;
+import com.example.sulsul.user.dto.response.KakaoUserInfo;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 로컬 스텁 서버(JDK HttpServer)를 카카오 리소스 서버 대신 띄워 KakaoApiClient 를 확인한다.
+ */
+class KakaoApiClientTest {
+
+    private static final String USER_INFO = "{\"id\":1,\"kakao_account\":{\"email\":\"sulsul@kakao.com\","
+            + "\"profile\":{\"nickname\":\"설설\",\"profile_image_url\":\"http://k.kakaocdn.net/img.jpg\"}}}";
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private HttpServer server;
+    private KakaoApiClient kakaoApiClient;
+
+    private volatile int status = 200;
+    private volatile long delayMillis = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/user/me", this::handle);
+        server.start();
+        kakaoApiClient = new KakaoApiClient("http://127.0.0.1:" + server.getAddress().getPort(),
+                500, 300, 10, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        kakaoApiClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회 결과를 토큰별로 캐시")
+    void getUserInfoTest() {
+        // when
+        KakaoUserInfo first = kakaoApiClient.getUserInfo("token-1");
+        KakaoUserInfo second = kakaoApiClient.getUserInfo("token-1");
+        kakaoApiClient.getUserInfo("token-2");
+        // then
+        assertAll(
+                () -> assertThat(first.getKakao_account().getEmail()).isEqualTo("sulsul@kakao.com"),
+                () -> assertThat(first.getKakao_account().getProfile().getNickname()).isEqualTo("설설"),
+                () -> assertThat(second).isSameAs(first),
+                () -> assertThat(requestCount.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 인증 예외, 서킷에는 실패로 기록하지 않음")
+    void invalidTokenTest() {
+        // given
+        status = 401;
+        // when, then
+        for (int i = 0; i < 20; i++) {
+            String token = "expired-" + i;
+            assertThatThrownBy(() -> kakaoApiClient.getUserInfo(token))
+                    .isInstanceOf(InvalidKakaoTokenException.class);
+        }
+        assertThat(kakaoApiClient.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("응답이 늦으면 읽기 타임아웃으로 실패")
+    void readTimeoutTest() {
+        // given
+        delayMillis = 2_000;
+        long start = System.nanoTime();
+        // when, then
+        assertThatThrownBy(() -> kakaoApiClient.getUserInfo("slow-token"))
+                .isInstanceOf(KakaoApiUnavailableException.class);
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(1_500);
+    }
+
+    @Test
+    @DisplayName("연속 실패시 서킷이 열려 카카오를 호출하지 않음")
+    void circuitBreakerTest() {
+        // given
+        status = 503;
+        for (int i = 0; i < 10; i++) {
+            String token = "token-" + i;
+            assertThatThrownBy(() -> kakaoApiClient.getUserInfo(token))
+                    .isInstanceOf(KakaoApiUnavailableException.class);
+        }
+        int requestsBeforeOpen = requestCount.get();
+        // when
+        status = 200;
+        // then
+        assertThatThrownBy(() -> kakaoApiClient.getUserInfo("token-after-open"))
+                .isInstanceOf(KakaoApiUnavailableException.class);
+        assertAll(
+                () -> assertThat(kakaoApiClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN),
+                () -> assertThat(requestCount.get()).isEqualTo(requestsBeforeOpen)
+        );
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = (status == 200 ? USER_INFO : "{\"msg\":\"error\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.sulsul.user.service;
+
+import com.example.sulsul.common.type.EType;
+import com.example.sulsul.common.type.LoginType;
+import com.example.sulsul.config.jwt.JwtTokenProvider;
+import com.example.sulsul.essay.DemoDataFactory;
+import com.example.sulsul.fcm.repository.FcmTokenRepository;
+import com.example.sulsul.fcm.service.FcmTokenCache;
+import com.example.sulsul.fcm.service.FcmTokenService;
+import com.example.sulsul.refreshtoken.RefreshTokenStore;
+import com.example.sulsul.teacherprofile.entity.TeacherProfile;
+import com.example.sulsul.teacherprofile.repository.TeacherProfileRepository;
+import com.example.sulsul.teacherprofile.search.TeacherProfileIndexer;
+import com.example.sulsul.user.client.KakaoApiClient;
+import com.example.sulsul.user.dto.request.PutMyPageRequest;
+import com.example.sulsul.user.entity.User;
+import com.example.sulsul.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({UserService.class, FcmTokenService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Autowired
+    private TeacherProfileRepository teacherProfileRepository;
+
+    @MockBean
+    private TeacherProfileIndexer teacherProfileIndexer;
+
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private FcmTokenCache fcmTokenCache;
+
+    @MockBean
+    private KakaoApiClient kakaoApiClient;
+
+    @AfterEach
+    void tearDown() {
+        teacherProfileRepository.deleteAll();
+        fcmTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 다른 소셜 로그인을 하면 같은 유저로 로그인")
+    void sameEmailWithTwoProvidersTest() {
+        // when
+        User kakaoUser = userService.upsertSocialUser(LoginType.KAKAO, "sulsul@gmail.com", "김경근", null, null);
+        User googleUser = userService.upsertSocialUser(LoginType.GOOGLE, "sulsul@gmail.com", "김경근", null, null);
+        // then
+        assertAll(
+                () -> assertThat(googleUser.getId()).isEqualTo(kakaoUser.getId()),
+                () -> assertThat(userRepository.count()).isEqualTo(1),
+                () -> assertThat(userRepository.findByEmail("sulsul@gmail.com")).isPresent()
+        );
+    }
+
+    @Test
+    @DisplayName("탈퇴한 유저의 이메일로 다시 가입할 수 있음")
+    void rejoinAfterDeleteTest() {
+        // given
+        User user = userService.upsertSocialUser(LoginType.KAKAO, "sulsul@gmail.com", "김경근", null, null);
+        userService.deleteUser(user);
+        // when
+        User rejoined = userService.upsertSocialUser(LoginType.KAKAO, "sulsul@gmail.com", "김경근", null, null);
+        // then
+        assertThat(rejoined.getId()).isNotEqualTo(user.getId());
+    }
+
+    @Test
+    @DisplayName("강사 마이페이지를 수정하면 검색 인덱스 갱신")
+    void putTeacherMyPageReindexTest() {
+        // given
+        User teacher = userRepository.save(DemoDataFactory.createTeacher1(1L));
+        teacherProfileRepository.save(new TeacherProfile(teacher, "0.0", 0));
+        // when
+        userService.putTeacherMyPage(teacher, new PutMyPageRequest("SOCIETY", "sulsul@naver.com", "논술 1타 강사"));
+        // then
+        ArgumentCaptor<TeacherProfile> profile = ArgumentCaptor.forClass(TeacherProfile.class);
+        verify(teacherProfileIndexer).reindex(profile.capture());
+        assertThat(profile.getValue().getTeacher().getEssayType()).isEqualTo(EType.SOCIETY);
+    }
+
+    @Test
+    @DisplayName("강사가 탈퇴하면 검색 인덱스에서 제거")
+    void deleteTeacherRemovesFromIndexTest() {
+        // given
+        User teacher = userRepository.save(DemoDataFactory.createTeacher1(1L));
+        TeacherProfile profile = teacherProfileRepository.save(new TeacherProfile(teacher, "0.0", 0));
+        // when
+        userService.deleteUser(teacher);
+        // then
+        assertAll(
+                () -> verify(teacherProfileIndexer).remove(any(TeacherProfile.class)),
+                () -> assertThat(teacherProfileRepository.findByIdWithTeacher(profile.getId())).isEmpty(),
+                () -> assertThat(teacherProfileRepository.findAllWithTeacher()).isEmpty()
+        );
+    }
+}